@@ -0,0 +1,143 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, writes the JMH results to {@code jmh-result.json}, and compares the bytes
+ * allocated per operation ({@code gc.alloc.rate.norm}) with a baseline.
+ * <p>
+ * Unlike the scores, the allocations barely depend on the machine running the benchmarks, which makes them comparable
+ * across releases. The options are the JMH ones, plus:
+ * <ul>
+ * <li>{@code --baseline <file>}: compares the allocations with the given baseline, and exits with {@code 1} if a
+ * benchmark allocates more than the tolerance;</li>
+ * <li>{@code --save-baseline <file>}: writes the allocations to the given file, to be used as the next baseline;</li>
+ * <li>{@code --tolerance <percent>}: the allowed increase, {@code 10} by default. Increases below {@value #SLACK}
+ * bytes are always allowed, as JMH reports fractional allocations.</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+    static final String ALLOCATION = "gc.alloc.rate.norm";
+    static final double SLACK = 8;
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        Path baseline = null;
+        Path save = null;
+        double tolerance = 10;
+        List<String> jmh = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baseline = Path.of(args[++i]);
+                case "--save-baseline" -> save = Path.of(args[++i]);
+                case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+                default -> jmh.add(args[i]);
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmh.toArray(String[]::new)))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        Map<String, Double> allocations = allocations(new Runner(options).run());
+
+        if (save != null) {
+            store(allocations, save);
+        }
+        if (baseline != null && !compare(load(baseline), allocations, tolerance)) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Double> allocations(Collection<RunResult> results) {
+        Map<String, Double> allocations = new TreeMap<>();
+        for (RunResult result : results) {
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION);
+            if (allocation != null) {
+                allocations.put(key(result.getParams()), allocation.getScore());
+            }
+        }
+        return allocations;
+    }
+
+    /**
+     * @return {@code Benchmark.method} followed by the parameters, e.g. {@code FutureUniBenchmark.pendingFuture} or
+     *         {@code MultiReadStreamBenchmark.bounded:batch=16,size=1000}
+     */
+    static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        if (params.getParamsKeys().isEmpty()) {
+            return name;
+        }
+        return name + ":" + params.getParamsKeys().stream()
+                .map(k -> k + "=" + params.getParam(k))
+                .collect(Collectors.joining(","));
+    }
+
+    static boolean compare(Map<String, Double> baseline, Map<String, Double> current, double tolerance) {
+        boolean ok = true;
+        System.out.printf("%n%-70s %12s %12s %8s%n", "Benchmark", "Baseline", "Current", "B/op");
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double reference = baseline.get(entry.getKey());
+            if (reference == null) {
+                System.out.printf("%-70s %12s %12.1f %8s%n", entry.getKey(), "-", entry.getValue(), "new");
+                continue;
+            }
+            double delta = entry.getValue() - reference;
+            boolean regression = delta > SLACK && delta > reference * tolerance / 100;
+            ok &= !regression;
+            System.out.printf("%-70s %12.1f %12.1f %8s%n", entry.getKey(), reference, entry.getValue(),
+                    regression ? "REGRESSION" : String.format("%+.0f", delta));
+        }
+        return ok;
+    }
+
+    static Map<String, Double> load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, Double> allocations = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            allocations.put(key, Double.parseDouble(properties.getProperty(key)));
+        }
+        return allocations;
+    }
+
+    static void store(Map<String, Double> allocations, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# Bytes allocated per operation (" + ALLOCATION + "), Java " + Runtime.version() + "\n");
+            for (Map.Entry<String, Double> entry : allocations.entrySet()) {
+                writer.write(entry.getKey().replace(":", "\\:").replace("=", "\\=") + "="
+                        + String.format(Locale.ROOT, "%.1f", entry.getValue()) + "\n");
+            }
+        }
+    }
+}
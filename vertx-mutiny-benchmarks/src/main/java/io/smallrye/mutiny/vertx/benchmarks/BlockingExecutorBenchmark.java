@@ -0,0 +1,66 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Vertx;
+
+/**
+ * Compares running {@code tasks} blocking tasks of 1 ms on the worker pool with
+ * {@link MutinyHelper#blockingExecutor(Vertx, boolean)} and on virtual threads with
+ * {@link MutinyHelper#virtualThreadExecutor(Vertx)}.
+ * <p>
+ * The {@code virtualThreads} benchmark requires Java 21 or later.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingExecutorBenchmark {
+
+    @Param({ "200" })
+    public int tasks;
+
+    private Vertx vertx;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void workerPool() throws InterruptedException {
+        run(MutinyHelper.blockingExecutor(vertx, false));
+    }
+
+    @Benchmark
+    public void virtualThreads() throws InterruptedException {
+        run(MutinyHelper.virtualThreadExecutor(vertx));
+    }
+
+    private void run(Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,76 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * A single-threaded {@link WriteStream} whose write queue only empties when {@link #flush()} is called, emulating a
+ * socket that cannot keep up with the producer.
+ */
+final class BoundedWriteStream<T> implements WriteStream<T> {
+
+    private static final Future<Void> DONE = Future.succeededFuture();
+
+    private final Blackhole bh;
+    private int maxSize;
+    private int pending;
+    private boolean ended;
+    private Handler<Void> drainHandler;
+
+    BoundedWriteStream(Blackhole bh, int maxSize) {
+        this.bh = bh;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public WriteStream<T> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public Future<Void> write(T data) {
+        bh.consume(data);
+        pending++;
+        return DONE;
+    }
+
+    @Override
+    public Future<Void> end() {
+        ended = true;
+        return DONE;
+    }
+
+    @Override
+    public WriteStream<T> setWriteQueueMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return pending >= maxSize;
+    }
+
+    @Override
+    public WriteStream<T> drainHandler(Handler<Void> handler) {
+        this.drainHandler = handler;
+        return this;
+    }
+
+    /**
+     * Empties the write queue and calls the drain handler.
+     */
+    void flush() {
+        pending = 0;
+        if (drainHandler != null) {
+            drainHandler.handle(null);
+        }
+    }
+
+    boolean ended() {
+        return ended;
+    }
+}
@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.vertx.core.ContextAwareScheduler;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Compares the context-aware schedulers: delegating to a JDK {@link ScheduledExecutorService}, capturing the context
+ * for each execution or once at schedule time, and using the Vert.x timers of the context.
+ * <p>
+ * Each operation schedules {@code tasks} tasks with a delay of 1 ms and waits for all of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextAwareSchedulerBenchmark {
+
+    @Param({ "1000" })
+    public int tasks;
+
+    private Vertx vertx;
+    private ScheduledExecutorService jdk;
+    private ScheduledExecutorService delegating;
+    private ScheduledExecutorService capturingOnSchedule;
+    private ScheduledExecutorService vertxTimers;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        Context context = vertx.getOrCreateContext();
+        jdk = Executors.newSingleThreadScheduledExecutor();
+        delegating = ContextAwareScheduler.delegatingTo(jdk).withContext(context);
+        capturingOnSchedule = ContextAwareScheduler.delegatingTo(jdk).capturingOnSchedule().withContext(context);
+        vertxTimers = ContextAwareScheduler.usingVertxTimers().withContext(context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdk.shutdownNow();
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public void delegating() throws InterruptedException {
+        run(delegating);
+    }
+
+    @Benchmark
+    public void capturingOnSchedule() throws InterruptedException {
+        run(capturingOnSchedule);
+    }
+
+    @Benchmark
+    public void vertxTimers() throws InterruptedException {
+        run(vertxTimers);
+    }
+
+    private void run(ScheduledExecutorService scheduler) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            scheduler.schedule(done::countDown, 1, TimeUnit.MILLISECONDS);
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,79 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Compares {@code emitOn} with {@link MutinyHelper#executor(Context)}, which always dispatches, and with
+ * {@link MutinyHelper#contextAwareExecutor(Context)}, which runs inline when the item is already emitted on the
+ * context.
+ * <p>
+ * Each operation emits {@code size} items one after the other on the event loop of the context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextExecutorBenchmark {
+
+    @Param({ "1000" })
+    public int size;
+
+    private Vertx vertx;
+    private Context context;
+    private Executor dispatching;
+    private Executor contextAware;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        dispatching = MutinyHelper.executor(context);
+        contextAware = MutinyHelper.contextAwareExecutor(context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void dispatching(Blackhole bh) {
+        run(bh, dispatching);
+    }
+
+    @Benchmark
+    public void contextAware(Blackhole bh) {
+        run(bh, contextAware);
+    }
+
+    private void run(Blackhole bh, Executor executor) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        context.runOnContext(v -> next(bh, executor, 0, done));
+        done.join();
+    }
+
+    private void next(Blackhole bh, Executor executor, int i, CompletableFuture<Void> done) {
+        if (i == size) {
+            done.complete(null);
+            return;
+        }
+        Uni.createFrom().item(i)
+                .emitOn(executor)
+                .subscribe().with(item -> {
+                    bh.consume(item);
+                    next(bh, executor, i + 1, done);
+                });
+    }
+}
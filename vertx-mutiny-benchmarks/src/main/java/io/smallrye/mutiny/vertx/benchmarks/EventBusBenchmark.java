@@ -0,0 +1,123 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.core.EventBusHelper;
+import io.smallrye.mutiny.vertx.core.RequestAllOptions;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.core.eventbus.EventBus;
+
+/**
+ * Compares a local event bus request/reply going through the Mutiny {@link EventBus} shim with the same exchange on the
+ * bare Vert.x event bus.
+ * <p>
+ * The {@code *Sequential} benchmarks wait for each reply before sending the next request, the {@code *Pipelined} ones
+ * send {@value #IN_FLIGHT} requests and wait for all the replies. The {@code *Stream} ones send the items of a
+ * {@code Multi} with {@code transformToUniAndMerge} or with {@link EventBusHelper#requestAll}, with at most
+ * {@value #WINDOW} pending requests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+
+    static final String ADDRESS = "benchmark";
+    static final int IN_FLIGHT = 100;
+    static final int WINDOW = 16;
+
+    private Vertx vertx;
+    private io.vertx.core.eventbus.EventBus bare;
+    private EventBus mutiny;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        bare = vertx.eventBus();
+        mutiny = EventBus.newInstance(bare);
+        bare.<String> consumer(ADDRESS, msg -> msg.reply(msg.body()))
+                .completion().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object bareSequential() {
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        bare.request(ADDRESS, "ping").onComplete(ar -> {
+            if (ar.succeeded()) {
+                reply.complete(ar.result().body());
+            } else {
+                reply.completeExceptionally(ar.cause());
+            }
+        });
+        return reply.join();
+    }
+
+    @Benchmark
+    public Object mutinySequential() {
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        mutiny.request(ADDRESS, "ping").subscribe().with(msg -> reply.complete(msg.body()), reply::completeExceptionally);
+        return reply.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public void barePipelined() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(IN_FLIGHT);
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            bare.request(ADDRESS, "ping").onComplete(ar -> {
+                if (ar.failed()) {
+                    done.completeExceptionally(ar.cause());
+                } else if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            });
+        }
+        done.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public void mutinyPipelined() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(IN_FLIGHT);
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            mutiny.request(ADDRESS, "ping").subscribe().with(msg -> {
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            }, done::completeExceptionally);
+        }
+        done.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public Object mutinyMergedStream() {
+        return Multi.createFrom().range(0, IN_FLIGHT)
+                .onItem().transformToUni(i -> mutiny.<Integer> request(ADDRESS, i)).merge(WINDOW)
+                .collect().last()
+                .await().indefinitely();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public Object requestAllStream() {
+        return EventBusHelper.<Integer, Integer> requestAll(mutiny, ADDRESS, Multi.createFrom().range(0, IN_FLIGHT),
+                new RequestAllOptions().setMaxInFlight(WINDOW))
+                .collect().last()
+                .await().indefinitely();
+    }
+}
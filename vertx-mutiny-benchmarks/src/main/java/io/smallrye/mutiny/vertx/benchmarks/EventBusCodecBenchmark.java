@@ -0,0 +1,111 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.vertx.core.EventBusHelper;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.eventbus.EventBus;
+
+/**
+ * Compares a local event bus request/reply carrying a domain object with a pass-through codec registered with
+ * {@link EventBusHelper#registerLocalCodec(EventBus, Class)}, with the same exchange carrying the object converted to
+ * JSON.
+ * <p>
+ * {@code jsonObject} sends a {@link JsonObject}, which the event bus copies for the local consumer, and {@code jsonString}
+ * sends the encoded JSON, as a codec serializing the object would. Both convert the request and the reply from and to
+ * the domain object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBusCodecBenchmark {
+
+    record Line(String sku, int quantity, double price) {
+    }
+
+    record Order(String id, String customer, List<Line> lines) {
+
+        JsonObject toJson() {
+            JsonArray array = new JsonArray();
+            for (Line line : lines) {
+                array.add(new JsonObject().put("sku", line.sku()).put("quantity", line.quantity()).put("price",
+                        line.price()));
+            }
+            return new JsonObject().put("id", id).put("customer", customer).put("lines", array);
+        }
+
+        static Order fromJson(JsonObject json) {
+            List<Line> lines = new ArrayList<>();
+            for (Object line : json.getJsonArray("lines")) {
+                JsonObject object = (JsonObject) line;
+                lines.add(new Line(object.getString("sku"), object.getInteger("quantity"), object.getDouble("price")));
+            }
+            return new Order(json.getString("id"), json.getString("customer"), lines);
+        }
+    }
+
+    private Vertx vertx;
+    private io.vertx.core.eventbus.EventBus bare;
+    private Order order;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        bare = vertx.eventBus();
+        EventBusHelper.registerLocalCodec(EventBus.newInstance(bare), Order.class);
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lines.add(new Line("sku-" + i, i + 1, 9.99 * i));
+        }
+        order = new Order("order-1", "customer-1", lines);
+
+        bare.<Order> consumer("codec", msg -> msg.reply(msg.body()))
+                .completion().toCompletionStage().toCompletableFuture().join();
+        bare.<JsonObject> consumer("json-object", msg -> msg.reply(Order.fromJson(msg.body()).toJson()))
+                .completion().toCompletionStage().toCompletableFuture().join();
+        bare.<String> consumer("json-string", msg -> msg.reply(Order.fromJson(new JsonObject(msg.body())).toJson().encode()))
+                .completion().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    private <T> T request(String address, Object body) {
+        CompletableFuture<T> reply = new CompletableFuture<>();
+        bare.<T> request(address, body).onComplete(ar -> {
+            if (ar.succeeded()) {
+                reply.complete(ar.result().body());
+            } else {
+                reply.completeExceptionally(ar.cause());
+            }
+        });
+        return reply.join();
+    }
+
+    @Benchmark
+    public Order localCodec() {
+        return request("codec", order);
+    }
+
+    @Benchmark
+    public Order jsonObject() {
+        return Order.fromJson(request("json-object", order.toJson()));
+    }
+
+    @Benchmark
+    public Order jsonString() {
+        return Order.fromJson(new JsonObject(this.<String> request("json-string", order.toJson().encode())));
+    }
+}
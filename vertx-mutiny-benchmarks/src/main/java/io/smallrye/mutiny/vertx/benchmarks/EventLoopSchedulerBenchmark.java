@@ -0,0 +1,73 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.vertx.core.EventLoopScheduler;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Compares request timeouts, {@code ifNoItem().after()}, scheduled on the Mutiny default worker pool and on the event
+ * loop with an {@link EventLoopScheduler}.
+ * <p>
+ * Each operation starts {@code requests} requests with a timeout on an event loop. The responses arrive on the event
+ * loop before the timeouts, so each timeout is scheduled then cancelled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLoopSchedulerBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Param({ "1000" })
+    public int requests;
+
+    private Vertx vertx;
+    private Context context;
+    private ScheduledExecutorService eventLoop;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        eventLoop = EventLoopScheduler.withFallback(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public void defaultWorkerPool() throws InterruptedException {
+        run(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Benchmark
+    public void eventLoopScheduler() throws InterruptedException {
+        run(eventLoop);
+    }
+
+    private void run(ScheduledExecutorService timeouts) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        context.runOnContext(() -> {
+            for (int i = 0; i < requests; i++) {
+                Uni.createFrom().<Integer> emitter(e -> context.runOnContext(() -> e.complete(1)))
+                        .ifNoItem().after(TIMEOUT).on(timeouts).fail()
+                        .subscribe().with(x -> done.countDown());
+            }
+        });
+        done.await();
+    }
+}
@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.vertx.core.FileReadOptions;
+import io.smallrye.mutiny.vertx.core.FileSystemHelper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Reads a {@value #FILE_SIZE} bytes file with {@link FileSystemHelper#readAsMulti}, with an {@code AsyncFile} and the
+ * default chunks of 8 KB, with chunks of {@value #LARGE_CHUNK} bytes, and memory-mapped. The file is in the page
+ * cache, so the scores compare the overhead of the reads rather than the disk. A byte per page of each chunk is read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileReadBenchmark {
+
+    static final int FILE_SIZE = 64 * 1024 * 1024;
+    static final int LARGE_CHUNK = 256 * 1024;
+
+    private Vertx vertx;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("file-read-benchmark", ".bin");
+        Files.write(file, content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        vertx.closeAndAwait();
+        Files.deleteIfExists(file);
+    }
+
+    private long read(FileReadOptions options) {
+        return FileSystemHelper.readAsMulti(vertx.fileSystem(), file.toString(), options)
+                .map(FileReadBenchmark::touch)
+                .collect().with(Collectors.summingLong(Long::longValue))
+                .await().indefinitely();
+    }
+
+    /**
+     * Reads a byte per page, so the mapped pages are actually loaded.
+     */
+    private static long touch(Buffer chunk) {
+        long sum = 0;
+        for (int i = 0; i < chunk.length(); i += 4096) {
+            sum += chunk.getByte(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long asyncFileDefaultChunks() {
+        return read(new FileReadOptions());
+    }
+
+    @Benchmark
+    public long asyncFileLargeChunks() {
+        return read(new FileReadOptions().setBufferSize(LARGE_CHUNK));
+    }
+
+    @Benchmark
+    public long memoryMapped() {
+        return read(new FileReadOptions().setBufferSize(LARGE_CHUNK).setMemoryMapped(true));
+    }
+}
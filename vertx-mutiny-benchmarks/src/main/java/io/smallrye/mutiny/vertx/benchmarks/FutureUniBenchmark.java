@@ -0,0 +1,88 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.FutureUni;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Compares {@link FutureUni} with the {@link java.util.concurrent.CompletionStage} based bridge previously emitted by
+ * the generated shims, i.e. {@code Uni.createFrom().completionStage(() -> _res.get().toCompletionStage())}.
+ * <p>
+ * The {@code *Mapped} variants compare a {@link Uni#map(java.util.function.Function)} stage with the mapper passed to
+ * {@link FutureUni#toUni(Supplier, java.util.function.Function)}, as done by the shims wrapping Vert.x Gen results.
+ * <p>
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to get the bytes allocated per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FutureUniBenchmark {
+
+    private final Future<String> completed = Future.succeededFuture("hello");
+
+    @Benchmark
+    public void completedFuture(Blackhole bh) {
+        Supplier<Future<String>> _res = () -> completed;
+        FutureUni.toUni(_res).subscribe().with(bh::consume);
+    }
+
+    @Benchmark
+    public void completedCompletionStage(Blackhole bh) {
+        Supplier<Future<String>> _res = () -> completed;
+        Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).subscribe().with(bh::consume);
+    }
+
+    @Benchmark
+    public void pendingFuture(Blackhole bh) {
+        Promise<String> promise = Promise.promise();
+        Supplier<Future<String>> _res = promise::future;
+        FutureUni.toUni(_res).subscribe().with(bh::consume);
+        promise.complete("hello");
+    }
+
+    @Benchmark
+    public void pendingCompletionStage(Blackhole bh) {
+        Promise<String> promise = Promise.promise();
+        Supplier<Future<String>> _res = promise::future;
+        Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).subscribe().with(bh::consume);
+        promise.complete("hello");
+    }
+
+    @Benchmark
+    public void pendingFutureMapped(Blackhole bh) {
+        Promise<String> promise = Promise.promise();
+        Supplier<Future<String>> _res = promise::future;
+        FutureUni.toUni(_res, Wrapper::new).subscribe().with(bh::consume);
+        promise.complete("hello");
+    }
+
+    @Benchmark
+    public void pendingFutureThenMap(Blackhole bh) {
+        Promise<String> promise = Promise.promise();
+        Supplier<Future<String>> _res = promise::future;
+        FutureUni.toUni(_res).map(Wrapper::new).subscribe().with(bh::consume);
+        promise.complete("hello");
+    }
+
+    @Benchmark
+    public void pendingCompletionStageMapped(Blackhole bh) {
+        Promise<String> promise = Promise.promise();
+        Supplier<Future<String>> _res = promise::future;
+        Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(Wrapper::new)
+                .subscribe().with(bh::consume);
+        promise.complete("hello");
+    }
+
+    private record Wrapper(String delegate) {
+    }
+}
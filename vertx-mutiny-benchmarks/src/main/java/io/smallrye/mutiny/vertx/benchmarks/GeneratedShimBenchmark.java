@@ -0,0 +1,82 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.vertx.TypeArg;
+import io.vertx.mutiny.core.eventbus.Message;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+/**
+ * Measures the wrap/unwrap overhead of the generated shims of {@code vertx-mutiny-core}: creating a shim, getting its
+ * delegate, going through a {@link TypeArg}, reading a parameterized {@code Message} body, and getting the response of a
+ * request, which is cached by the shim.
+ * <p>
+ * The delegates are {@link Proxy} instances returning fixed values, so the measured cost is the one of the shims.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratedShimBenchmark {
+
+    private io.vertx.core.http.HttpServerRequest bareRequest;
+    private io.vertx.core.eventbus.Message<String> bareMessage;
+    private HttpServerRequest request;
+    private final TypeArg<HttpServerRequest> typeArg = TypeArg.of(HttpServerRequest.class);
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        io.vertx.core.http.HttpServerResponse bareResponse = proxy(io.vertx.core.http.HttpServerResponse.class, null);
+        bareRequest = proxy(io.vertx.core.http.HttpServerRequest.class, bareResponse);
+        bareMessage = proxy(io.vertx.core.eventbus.Message.class, "hello");
+        request = HttpServerRequest.newInstance(bareRequest);
+    }
+
+    @Benchmark
+    public HttpServerRequest wrap() {
+        return HttpServerRequest.newInstance(bareRequest);
+    }
+
+    @Benchmark
+    public io.vertx.core.http.HttpServerRequest unwrap() {
+        return request.getDelegate();
+    }
+
+    @Benchmark
+    public Object typeArgRoundTrip() {
+        return typeArg.unwrap(typeArg.wrap(bareRequest));
+    }
+
+    @Benchmark
+    public String messageBody() {
+        return Message.newInstance(bareMessage, TypeArg.<String> unknown()).body();
+    }
+
+    @Benchmark
+    public void requestResponse(Blackhole bh) {
+        // A handler getting the response of a new request several times
+        HttpServerRequest shim = HttpServerRequest.newInstance(bareRequest);
+        bh.consume(shim.response());
+        bh.consume(shim.response());
+        bh.consume(shim.response());
+        bh.consume(shim.response());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName();
+                    default -> result;
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MultiHelper;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares encoding a {@code Multi<JsonObject>} into newline delimited JSON with a buffer per item, with the chunked
+ * encoder of {@link MultiHelper#encodeNdjson(Multi, int)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStreamBenchmark {
+
+    @Param({ "1000" })
+    public int size;
+
+    @Param({ "8192" })
+    public int chunkSize;
+
+    private Multi<JsonObject> items;
+
+    @Setup
+    public void setup() {
+        List<JsonObject> objects = IntStream.range(0, size)
+                .mapToObj(i -> new JsonObject().put("id", i).put("name", "item-" + i).put("active", i % 2 == 0))
+                .toList();
+        items = Multi.createFrom().iterable(objects);
+    }
+
+    @Benchmark
+    public void perItem(Blackhole bh) {
+        items.map(o -> o.toBuffer().appendByte((byte) '\n')).subscribe().with(bh::consume);
+    }
+
+    @Benchmark
+    public void chunked(Blackhole bh) {
+        MultiHelper.encodeNdjson(items, chunkSize).subscribe().with(bh::consume);
+    }
+}
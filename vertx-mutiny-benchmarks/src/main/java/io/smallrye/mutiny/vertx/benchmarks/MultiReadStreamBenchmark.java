@@ -0,0 +1,98 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MultiHelper;
+import io.smallrye.mutiny.vertx.MultiReadStream;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Measures the throughput of {@link MultiReadStream}, i.e. {@link MultiHelper#toMulti(ReadStream)}, when consuming a
+ * {@link ReadStream}, and of a {@code Multi -> ReadStream -> Multi} round trip.
+ * <p>
+ * The {@code bounded} variants request {@code batch} items at a time, as a consumer applying back-pressure does, the
+ * other ones request everything upfront.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiReadStreamBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    @Param({ "16", "256" })
+    public int batch;
+
+    @Benchmark
+    public void unbounded(Blackhole bh) {
+        drain(MultiHelper.toMulti(new RangeReadStream(size)), Long.MAX_VALUE, bh);
+    }
+
+    @Benchmark
+    public void bounded(Blackhole bh) {
+        drain(MultiHelper.toMulti(new RangeReadStream(size)), batch, bh);
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole bh) {
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, size));
+        drain(MultiHelper.toMulti(stream), batch, bh);
+    }
+
+    private static void drain(Multi<Integer> multi, long batch, Blackhole bh) {
+        BatchingSubscriber subscriber = new BatchingSubscriber(batch, bh);
+        multi.subscribe().withSubscriber(subscriber);
+        if (!subscriber.done) {
+            throw new IllegalStateException("The stream did not complete");
+        }
+    }
+
+    private static final class BatchingSubscriber implements Flow.Subscriber<Integer> {
+
+        private final long batch;
+        private final Blackhole bh;
+        private Flow.Subscription subscription;
+        private long remaining;
+        boolean done;
+
+        BatchingSubscriber(long batch, Blackhole bh) {
+            this.batch = batch;
+            this.bh = bh;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            remaining = batch;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            bh.consume(item);
+            if (batch != Long.MAX_VALUE && --remaining == 0) {
+                remaining = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A single-threaded {@link ReadStream} emitting the integers from {@code 0} to {@code size - 1}, honouring
+ * {@link #pause()}, {@link #resume()} and {@link #fetch(long)}.
+ */
+final class RangeReadStream implements ReadStream<Integer> {
+
+    private final int size;
+    private int next;
+    private long demand = Long.MAX_VALUE;
+    private boolean emitting;
+    private boolean ended;
+    private Handler<Integer> handler;
+    private Handler<Void> endHandler;
+
+    RangeReadStream(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public ReadStream<Integer> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public ReadStream<Integer> handler(Handler<Integer> handler) {
+        this.handler = handler;
+        drain();
+        return this;
+    }
+
+    @Override
+    public ReadStream<Integer> pause() {
+        demand = 0;
+        return this;
+    }
+
+    @Override
+    public ReadStream<Integer> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Integer> fetch(long amount) {
+        demand += amount;
+        if (demand < 0) {
+            demand = Long.MAX_VALUE;
+        }
+        drain();
+        return this;
+    }
+
+    @Override
+    public ReadStream<Integer> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        drain();
+        return this;
+    }
+
+    private void drain() {
+        if (emitting || handler == null) {
+            return;
+        }
+        emitting = true;
+        try {
+            while (demand > 0 && next < size && handler != null) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                handler.handle(next++);
+            }
+            if (next == size && !ended && endHandler != null) {
+                ended = true;
+                endHandler.handle(null);
+            }
+        } finally {
+            emitting = false;
+        }
+    }
+}
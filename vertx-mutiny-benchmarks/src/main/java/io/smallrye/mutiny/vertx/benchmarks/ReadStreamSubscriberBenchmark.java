@@ -0,0 +1,114 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.ReadStreamSubscriber;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Compares {@link ReadStreamSubscriber} with the monitor-based {@link LegacyReadStreamSubscriber} when piping a
+ * {@link Multi} into a Vert.x {@link ReadStream}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadStreamSubscriberBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private Multi<Integer> items;
+    private ExecutorService emitter;
+
+    @Setup
+    public void setup() {
+        items = Multi.createFrom().range(0, size);
+        emitter = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        emitter.shutdownNow();
+    }
+
+    @Benchmark
+    public void flowing(Blackhole bh) {
+        drainFlowing(ReadStreamSubscriber.asReadStream(items, Function.identity()), bh);
+    }
+
+    @Benchmark
+    public void flowingLegacy(Blackhole bh) {
+        drainFlowing(LegacyReadStreamSubscriber.asReadStream(items, Function.identity()), bh);
+    }
+
+    @Benchmark
+    public void pauseResume(Blackhole bh) {
+        drainPauseResume(ReadStreamSubscriber.asReadStream(items, Function.identity()), bh);
+    }
+
+    @Benchmark
+    public void pauseResumeLegacy(Blackhole bh) {
+        drainPauseResume(LegacyReadStreamSubscriber.asReadStream(items, Function.identity()), bh);
+    }
+
+    @Benchmark
+    public void fetchOne(Blackhole bh) {
+        ReadStream<Integer> stream = ReadStreamSubscriber.asReadStream(items, Function.identity());
+        boolean[] done = new boolean[1];
+        stream.pause();
+        stream.endHandler(v -> done[0] = true);
+        stream.handler(bh::consume);
+        while (!done[0]) {
+            stream.fetch(1);
+        }
+    }
+
+    @Benchmark
+    public void crossThread(Blackhole bh) throws InterruptedException {
+        drainCrossThread(ReadStreamSubscriber.asReadStream(items.emitOn(emitter), Function.identity()), bh);
+    }
+
+    @Benchmark
+    public void crossThreadLegacy(Blackhole bh) throws InterruptedException {
+        drainCrossThread(LegacyReadStreamSubscriber.asReadStream(items.emitOn(emitter), Function.identity()), bh);
+    }
+
+    private static void drainFlowing(ReadStream<Integer> stream, Blackhole bh) {
+        boolean[] done = new boolean[1];
+        stream.endHandler(v -> done[0] = true);
+        stream.handler(bh::consume);
+        if (!done[0]) {
+            throw new IllegalStateException("The stream did not complete");
+        }
+    }
+
+    private static void drainPauseResume(ReadStream<Integer> stream, Blackhole bh) {
+        boolean[] done = new boolean[1];
+        stream.endHandler(v -> done[0] = true);
+        stream.handler(i -> {
+            bh.consume(i);
+            stream.pause();
+        });
+        while (!done[0]) {
+            stream.resume();
+        }
+    }
+
+    private static void drainCrossThread(ReadStream<Integer> stream, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        stream.endHandler(v -> latch.countDown());
+        stream.handler(bh::consume);
+        latch.await();
+    }
+}
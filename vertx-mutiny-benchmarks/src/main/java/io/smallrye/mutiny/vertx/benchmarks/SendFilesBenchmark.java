@@ -0,0 +1,110 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.core.FileRange;
+import io.smallrye.mutiny.vertx.core.FileReadOptions;
+import io.smallrye.mutiny.vertx.core.FileSystemHelper;
+import io.smallrye.mutiny.vertx.core.HttpServerResponseHelper;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpClient;
+import io.vertx.mutiny.core.http.HttpClientRequest;
+import io.vertx.mutiny.core.http.HttpClientResponse;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+/**
+ * Sends a {@value #FILE_SIZE} bytes file, split in {@code ranges} ranges, as one HTTP/1.1 response, with
+ * {@link HttpServerResponseHelper#sendFiles} and by piping the chunks read with {@link FileSystemHelper#readAsMulti}.
+ * With a single range, {@code sendFiles} uses {@code sendFile}, without copy. With several ranges, both read the files
+ * into buffers, so they should cost about the same. The client discards the body as it arrives.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SendFilesBenchmark {
+
+    static final int FILE_SIZE = 16 * 1024 * 1024;
+
+    @Param({ "1", "4" })
+    int ranges;
+
+    private Vertx vertx;
+    private Path file;
+    private HttpServer server;
+    private HttpClient client;
+
+    @Setup
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("send-files-benchmark", ".bin");
+        Files.write(file, content);
+        server = vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listenAndAwait(0);
+        client = vertx.createHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        vertx.closeAndAwait();
+        Files.deleteIfExists(file);
+    }
+
+    private List<FileRange> ranges() {
+        long size = FILE_SIZE / ranges;
+        return IntStream.range(0, ranges)
+                .mapToObj(i -> FileRange.of(file.toString(), i * size, size))
+                .toList();
+    }
+
+    private void handle(HttpServerRequest request) {
+        if (request.path().equals("/zero-copy")) {
+            HttpServerResponseHelper.sendFiles(request.response(), vertx.fileSystem(), ranges()).subscribe().with(x -> {
+            });
+        } else {
+            request.response().setChunked(true);
+            request.response().send(Multi.createFrom().iterable(ranges()).onItem().transformToMultiAndConcatenate(
+                    range -> FileSystemHelper.readAsMulti(vertx.fileSystem(), range.path(),
+                            new FileReadOptions()
+                                    .setPosition(range.offset()).setLength(range.length()))))
+                    .subscribe().with(x -> {
+                    });
+        }
+    }
+
+    private long get(String path) {
+        return client.request(HttpMethod.GET, server.actualPort(), "localhost", path)
+                .chain(HttpClientRequest::send)
+                .onItem().transformToMulti(HttpClientResponse::toMulti)
+                .map(chunk -> (long) chunk.length())
+                .collect().with(Collectors.summingLong(Long::longValue))
+                .await().indefinitely();
+    }
+
+    @Benchmark
+    public long sendFiles() {
+        return get("/zero-copy");
+    }
+
+    @Benchmark
+    public long pipeChunks() {
+        return get("/chunks");
+    }
+}
@@ -0,0 +1,183 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.vertx.impl.MappingIterator;
+
+/**
+ * Measures the cost of the shims wrapping the objects returned by the Vert.x API, using hand-written shims mirroring
+ * the generated code:
+ * <ul>
+ * <li>{@code iterate*} iterate over a result set of {@code rows} items, allocating a shim per item, or re-targeting a
+ * single flyweight shim with {@link MappingIterator#flyweight(Iterator, Object, java.util.function.BiConsumer)};</li>
+ * <li>{@code handleRequest*} emulate a request handler calling {@code request.response()} several times, with and
+ * without the {@code cache} shim metadata entry.</li>
+ * </ul>
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to get the bytes allocated per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShimWrapperBenchmark {
+
+    @Param({ "10", "1000" })
+    int rows;
+
+    private List<BareRow> rowSet;
+    private final BareRequest request = new BareRequest();
+
+    @Setup
+    public void setup() {
+        rowSet = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            rowSet.add(new BareRow(i));
+        }
+    }
+
+    @Benchmark
+    public void iteratePerItemShim(Blackhole bh) {
+        Iterator<Row> iterator = new MappingIterator<>(rowSet.iterator(), Row::new);
+        while (iterator.hasNext()) {
+            // The row is handed over to user code, so it escapes
+            bh.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void iterateFlyweightShim(Blackhole bh) {
+        Iterator<Row> iterator = MappingIterator.flyweight(rowSet.iterator(), new FlyweightRow(),
+                (w, d) -> w.current = d);
+        while (iterator.hasNext()) {
+            bh.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void handleRequestUncached(Blackhole bh) {
+        handle(new UncachedRequest(request), bh);
+    }
+
+    @Benchmark
+    public void handleRequestCached(Blackhole bh) {
+        handle(new CachedRequest(request), bh);
+    }
+
+    private static void handle(Request request, Blackhole bh) {
+        // Typical handler: set the headers, the status, then end the response, each call getting the response
+        bh.consume(request.response());
+        bh.consume(request.response());
+        bh.consume(request.response());
+        bh.consume(request.response());
+    }
+
+    static final class BareRow {
+        private final long value;
+
+        BareRow(long value) {
+            this.value = value;
+        }
+
+        long getLong() {
+            return value;
+        }
+    }
+
+    static class Row {
+        private final BareRow delegate;
+
+        Row(BareRow delegate) {
+            this.delegate = delegate;
+        }
+
+        BareRow getDelegate() {
+            return delegate;
+        }
+
+        long getLong() {
+            return getDelegate().getLong();
+        }
+    }
+
+    static final class FlyweightRow extends Row {
+        private BareRow current;
+
+        FlyweightRow() {
+            super(null);
+        }
+
+        @Override
+        BareRow getDelegate() {
+            return current;
+        }
+    }
+
+    static final class BareResponse {
+    }
+
+    static final class BareRequest {
+        private final BareResponse response = new BareResponse();
+
+        BareResponse response() {
+            return response;
+        }
+    }
+
+    static final class Response {
+        private final BareResponse delegate;
+
+        Response(BareResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        BareResponse getDelegate() {
+            return delegate;
+        }
+    }
+
+    interface Request {
+        Response response();
+    }
+
+    static final class UncachedRequest implements Request {
+        private final BareRequest delegate;
+
+        UncachedRequest(BareRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response response() {
+            BareResponse _res = delegate.response();
+            return new Response(_res);
+        }
+    }
+
+    static final class CachedRequest implements Request {
+        private final BareRequest delegate;
+        private Response __cached_response;
+
+        CachedRequest(BareRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response response() {
+            BareResponse _res = delegate.response();
+            Response _cached = this.__cached_response;
+            if (_cached == null || _cached.getDelegate() != _res) {
+                _cached = new Response(_res);
+                this.__cached_response = _cached;
+            }
+            return _cached;
+        }
+    }
+}
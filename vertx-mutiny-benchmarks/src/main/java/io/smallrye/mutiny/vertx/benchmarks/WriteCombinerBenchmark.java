@@ -0,0 +1,119 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.FlowControlOptions;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.smallrye.mutiny.vertx.WriteCombiner;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Compares writing the small buffers of a {@code Multi<Buffer>} one by one with combining the buffers of the same
+ * event loop tick with {@link WriteCombiner#buffers()}.
+ * <p>
+ * The stream burns {@code writeCost} tokens of CPU per write, standing for the Netty write and flush of a socket.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteCombinerBenchmark {
+
+    @Param({ "10000" })
+    public int size;
+
+    @Param({ "0", "500" })
+    public int writeCost;
+
+    private Vertx vertx;
+    private Context context;
+    private Multi<Buffer> items;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        Buffer chunk = Buffer.buffer("data: {\"id\":42}\n\n");
+        items = Multi.createFrom().range(0, size).map(i -> chunk);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void perItem(Blackhole bh) {
+        run(bh, null);
+    }
+
+    @Benchmark
+    public void combined(Blackhole bh) {
+        run(bh, WriteCombiner.buffers());
+    }
+
+    private void run(Blackhole bh, WriteCombiner<Buffer> combiner) {
+        CostlyWriteStream stream = new CostlyWriteStream(bh, writeCost);
+        context.runOnContext(v -> items.subscribe().withSubscriber(combiner == null
+                ? MutinyHelper.toSubscriber(stream, new FlowControlOptions())
+                : MutinyHelper.toSubscriber(stream, new FlowControlOptions(), combiner)));
+        stream.end.join();
+    }
+
+    private static final class CostlyWriteStream implements WriteStream<Buffer> {
+
+        private final Blackhole bh;
+        private final int cost;
+        private final CompletableFuture<Void> end = new CompletableFuture<>();
+
+        CostlyWriteStream(Blackhole bh, int cost) {
+            this.bh = bh;
+            this.cost = cost;
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(Buffer data) {
+            bh.consume(data);
+            Blackhole.consumeCPU(cost);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> end() {
+            end.complete(null);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.FlowControlOptions;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.smallrye.mutiny.vertx.WriteStreamSubscriber;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Measures the throughput of the {@link WriteStreamSubscriber} when writing a {@link Multi} into a
+ * {@link WriteStream} pushing back every {@code writeQueueMaxSize} items, with the default and the adaptive
+ * {@link FlowControlOptions}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteStreamSubscriberBenchmark {
+
+    @Param({ "100000" })
+    public int size;
+
+    @Param({ "16", "1024" })
+    public int writeQueueMaxSize;
+
+    private Multi<Integer> items;
+
+    @Setup
+    public void setup() {
+        items = Multi.createFrom().range(0, size);
+    }
+
+    @Benchmark
+    public void defaultFlowControl(Blackhole bh) {
+        write(new FlowControlOptions(), bh);
+    }
+
+    @Benchmark
+    public void adaptiveFlowControl(Blackhole bh) {
+        write(new FlowControlOptions().setAdaptive(true), bh);
+    }
+
+    private void write(FlowControlOptions options, Blackhole bh) {
+        BoundedWriteStream<Integer> stream = new BoundedWriteStream<>(bh, writeQueueMaxSize);
+        items.subscribe().withSubscriber(MutinyHelper.toSubscriber(stream, options));
+        while (!stream.ended()) {
+            stream.flush();
+        }
+    }
+}
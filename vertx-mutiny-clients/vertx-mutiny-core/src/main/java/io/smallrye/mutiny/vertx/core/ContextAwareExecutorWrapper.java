@@ -1,9 +1,8 @@
 package io.smallrye.mutiny.vertx.core;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -12,26 +11,35 @@ import java.util.function.Supplier;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.mutiny.core.Context;
 
-class ContextAwareExecutorWrapper implements ScheduledExecutorService {
+class ContextAwareExecutorWrapper extends AbstractExecutorService implements ScheduledExecutorService {
 
     private final ScheduledExecutorService delegate;
 
     private final Supplier<Context> contextSupplier;
 
-    ContextAwareExecutorWrapper(ScheduledExecutorService delegate, Supplier<Context> contextSupplier) {
+    private final boolean captureOnSchedule;
+
+    ContextAwareExecutorWrapper(ScheduledExecutorService delegate, Supplier<Context> contextSupplier,
+            boolean captureOnSchedule) {
         this.delegate = delegate;
         this.contextSupplier = contextSupplier;
+        this.captureOnSchedule = captureOnSchedule;
+    }
+
+    /**
+     * @return the duplicated context to run a task on: the given context if it is already a duplicated context
+     */
+    static ContextInternal duplicate(Context context) {
+        ContextInternal contextInternal = (ContextInternal) context.getDelegate();
+        return contextInternal.isDuplicate() ? contextInternal : contextInternal.duplicate();
     }
 
     private Runnable decorate(Runnable task) {
-        return () -> {
-            Context context = contextSupplier.get();
-            ContextInternal contextInternal = (ContextInternal) context.getDelegate();
-            if (!contextInternal.isDuplicate()) {
-                context = Context.newInstance(contextInternal.duplicate());
-            }
-            context.runOnContext(task);
-        };
+        if (captureOnSchedule) {
+            ContextInternal context = duplicate(contextSupplier.get());
+            return () -> context.runOnContext(v -> task.run());
+        }
+        return () -> duplicate(contextSupplier.get()).runOnContext(v -> task.run());
     }
 
     // ---- ScheduledExecutorService ---- //
@@ -43,7 +51,10 @@ class ContextAwareExecutorWrapper implements ScheduledExecutorService {
 
     @Override
     public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        throw new UnsupportedOperationException();
+        ContextScheduledFuture<V> future = new ContextScheduledFuture<>(callable, delay, unit);
+        ScheduledFuture<?> scheduled = delegate.schedule(decorate(future), delay, unit);
+        future.onCancellation(() -> scheduled.cancel(false));
+        return future;
     }
 
     @Override
@@ -83,41 +94,6 @@ class ContextAwareExecutorWrapper implements ScheduledExecutorService {
         throw new UnsupportedOperationException();
     }
 
-    @Override
-    public <T> Future<T> submit(Callable<T> task) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public <T> Future<T> submit(Runnable task, T result) {
-        return delegate.submit(decorate(task), result);
-    }
-
-    @Override
-    public Future<?> submit(Runnable task) {
-        return delegate.submit(decorate(task));
-    }
-
-    @Override
-    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) {
-        throw new UnsupportedOperationException();
-    }
-
     // ---- Executor ---- //
 
     @Override
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.vertx.mutiny.core.Context;
@@ -17,9 +18,12 @@ import io.vertx.mutiny.core.Vertx;
  * {@link ScheduledExecutorService}.
  * The {@link Context} are duplicated contexts.
  * <p>
- * The factory methods of {@link ContextCaptureStrategy} provide {@link ScheduledExecutorService} objects with limited
- * capabilities.
- * The methods that use {@link Runnable} tasks are supported, while those using {@link Callable} are not.
+ * The schedulers either delegate the timing to a {@link ScheduledExecutorService} ({@link #delegatingTo}), or use the
+ * Vert.x timers of the captured context ({@link #usingVertxTimers()}), which saves the hop from the scheduler thread to
+ * the event loop.
+ * <p>
+ * The tasks, {@link Runnable} or {@link Callable}, run on the context. The futures of the {@link Callable} tasks, and
+ * all the futures of the timer based schedulers, complete once the task has run on the context.
  * These executors cannot be shut down.
  */
 public interface ContextAwareScheduler {
@@ -33,7 +37,22 @@ public interface ContextAwareScheduler {
     @CheckReturnValue
     static ContextCaptureStrategy delegatingTo(ScheduledExecutorService delegate) {
         requireNonNull(delegate, "The delegate executor cannot be null");
-        return new ContextCaptureStrategy(delegate);
+        return new ContextCaptureStrategy(delegate, false);
+    }
+
+    /**
+     * Define a scheduler using the Vert.x timers of the context it captures, rather than a delegate
+     * {@link ScheduledExecutorService}.
+     * <p>
+     * The context is captured when a task is scheduled: the timer is set on this context, so the task fires directly on
+     * its event loop. Periodic tasks use {@code setPeriodic} for fixed rate executions, and chained timers for fixed
+     * delay executions. Delays are rounded up to the millisecond.
+     *
+     * @return an object to define the context capture strategy definition
+     */
+    @CheckReturnValue
+    static ContextCaptureStrategy usingVertxTimers() {
+        return new ContextCaptureStrategy(null, false);
     }
 
     /**
@@ -43,8 +62,31 @@ public interface ContextAwareScheduler {
 
         private final ScheduledExecutorService delegate;
 
-        private ContextCaptureStrategy(ScheduledExecutorService delegate) {
+        private final boolean captureOnSchedule;
+
+        private ContextCaptureStrategy(ScheduledExecutorService delegate, boolean captureOnSchedule) {
             this.delegate = delegate;
+            this.captureOnSchedule = captureOnSchedule;
+        }
+
+        /**
+         * Captures and duplicates the context once, when a task is scheduled, rather than for each execution.
+         * <p>
+         * All the executions of a periodic task then share the same duplicated context, and the context supplier is no
+         * longer called from the scheduler thread. This is also cheaper for frequent periodic tasks.
+         *
+         * @return a strategy capturing the context once per scheduled task
+         */
+        @CheckReturnValue
+        public ContextCaptureStrategy capturingOnSchedule() {
+            return new ContextCaptureStrategy(delegate, true);
+        }
+
+        private ScheduledExecutorService create(Supplier<Context> contextSupplier) {
+            if (delegate == null) {
+                return new VertxTimerScheduler(contextSupplier, captureOnSchedule);
+            }
+            return new ContextAwareExecutorWrapper(delegate, contextSupplier, captureOnSchedule);
         }
 
         /**
@@ -55,7 +97,7 @@ public interface ContextAwareScheduler {
          */
         public ScheduledExecutorService withContext(Context context) {
             requireNonNull(context, "The context cannot be null");
-            return new ContextAwareExecutorWrapper(delegate, () -> context);
+            return create(() -> context);
         }
 
         /**
@@ -72,7 +114,7 @@ public interface ContextAwareScheduler {
          */
         public ScheduledExecutorService withGetOrCreateContext(Vertx vertx) {
             requireNonNull(vertx, "The Vertx object cannot be null");
-            return new ContextAwareExecutorWrapper(delegate, vertx::getOrCreateContext);
+            return create(vertx::getOrCreateContext);
         }
 
         /**
@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ScheduledFuture} of a task run on a Vert.x context, completed once the task has run on the context rather
+ * than when it has been handed over to it.
+ *
+ * @param <V> the type of result
+ */
+class ContextScheduledFuture<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+    private volatile long deadline;
+    private volatile Runnable onCancellation;
+
+    ContextScheduledFuture(Callable<V> callable, long delay, TimeUnit unit) {
+        super(callable);
+        setDelay(delay, unit);
+    }
+
+    ContextScheduledFuture(Runnable runnable, long delay, TimeUnit unit) {
+        super(runnable, null);
+        setDelay(delay, unit);
+    }
+
+    void setDelay(long delay, TimeUnit unit) {
+        deadline = System.nanoTime() + unit.toNanos(delay);
+    }
+
+    /**
+     * Sets the action cancelling the underlying timer, run right away if the task is already cancelled.
+     */
+    void onCancellation(Runnable action) {
+        onCancellation = action;
+        if (isCancelled()) {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs a periodic task, leaving the future incomplete.
+     *
+     * @return {@code false} if the task failed or has been cancelled, so it must not run again
+     */
+    boolean runPeriodically() {
+        return runAndReset();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        Runnable action = onCancellation;
+        if (cancelled && action != null) {
+            action.run();
+        }
+        return cancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other == this) {
+            return 0;
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,99 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.mutiny.core.eventbus.EventBus;
+import io.vertx.mutiny.core.eventbus.Message;
+
+/**
+ * Helpers for the Vert.x event bus.
+ */
+public class EventBusHelper {
+
+    private EventBusHelper() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Like {@link #requestAll(EventBus, String, Multi, RequestAllOptions)}, with the default options: at most
+     * {@value RequestAllOptions#DEFAULT_MAX_IN_FLIGHT} pending requests, and the replies in the order of the requests.
+     */
+    @CheckReturnValue
+    public static <T, R> Multi<Message<R>> requestAll(EventBus eventBus, String address, Multi<T> requests) {
+        return requestAll(eventBus, address, requests, new RequestAllOptions());
+    }
+
+    /**
+     * Sends each item of {@code requests} as a request to {@code address}, and emits the replies.
+     * <p>
+     * Unlike calling {@link EventBus#request(String, Object)} for each item, the requests are pipelined in a bounded
+     * window: at most {@link RequestAllOptions#getMaxInFlight()} requests are pending at once, a request being pending
+     * until its reply has been emitted downstream. The items of {@code requests} are requested as the window frees up,
+     * so the downstream demand applies to the requests too. The replies are emitted in the order of the requests, or
+     * as they are received when {@link RequestAllOptions#isOrdered()} is {@code false}.
+     * <p>
+     * The returned {@link Multi} fails with the first failed reply, such as a
+     * {@link io.vertx.core.eventbus.ReplyException} when a request times out, and then stops sending requests. It
+     * completes once {@code requests} has completed and all the replies have been emitted.
+     *
+     * @param eventBus the event bus
+     * @param address the address to send the requests to
+     * @param requests the bodies of the requests
+     * @param options the options
+     * @return a {@link Multi} emitting the replies
+     */
+    @CheckReturnValue
+    public static <T, R> Multi<Message<R>> requestAll(EventBus eventBus, String address, Multi<T> requests,
+            RequestAllOptions options) {
+        ParameterValidation.nonNull(eventBus, "eventBus");
+        return new EventBusRequests<>(eventBus.getDelegate(), address, requests,
+                new RequestAllOptions(ParameterValidation.nonNull(options, "options")));
+    }
+
+    /**
+     * Registers a {@link LocalCodec} as the default codec of {@code type}, supporting only the local consumers.
+     * <p>
+     * The instances of {@code type} can then be sent, published, and used as request or reply bodies, without
+     * {@link io.vertx.core.eventbus.DeliveryOptions#setCodecName(String) codec name}: the local consumers receive
+     * the sent instance, without serialization or copy. Default codecs are looked up with the exact class of the body,
+     * the instances of sub-classes are not covered.
+     *
+     * @param eventBus the event bus
+     * @param type the type of the message bodies
+     * @return the registered codec
+     * @throws IllegalStateException if {@code type} already has a default codec
+     * @see #registerLocalCodec(EventBus, LocalCodec)
+     */
+    public static <T> LocalCodec<T> registerLocalCodec(EventBus eventBus, Class<T> type) {
+        return registerLocalCodec(eventBus, LocalCodec.localOnly(type));
+    }
+
+    /**
+     * Registers the given {@link LocalCodec} as the default codec of its type, for instance with a binary wire format
+     * for the clustered event bus, see {@link LocalCodec#withWireFormat(Class, java.util.function.Function,
+     * java.util.function.Function)}.
+     *
+     * @param eventBus the event bus
+     * @param codec the codec
+     * @return the registered codec
+     * @throws IllegalStateException if the type of the codec already has a default codec
+     */
+    public static <T> LocalCodec<T> registerLocalCodec(EventBus eventBus, LocalCodec<T> codec) {
+        ParameterValidation.nonNull(eventBus, "eventBus");
+        ParameterValidation.nonNull(codec, "codec");
+        eventBus.getDelegate().registerDefaultCodec(codec.type(), codec);
+        return codec;
+    }
+
+    /**
+     * Unregisters the default codec of {@code type}, registered with {@link #registerLocalCodec(EventBus, Class)}.
+     *
+     * @param eventBus the event bus
+     * @param type the type of the message bodies
+     */
+    public static void unregisterLocalCodec(EventBus eventBus, Class<?> type) {
+        ParameterValidation.nonNull(eventBus, "eventBus");
+        eventBus.getDelegate().unregisterDefaultCodec(ParameterValidation.nonNull(type, "type"));
+    }
+}
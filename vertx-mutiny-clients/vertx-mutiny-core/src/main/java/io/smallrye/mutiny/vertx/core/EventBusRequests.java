@@ -0,0 +1,257 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.mutiny.core.eventbus.Message;
+
+/**
+ * Sends the items of a {@link Multi} as event bus requests, with at most {@code maxInFlight} pending requests, and
+ * emits the replies.
+ * <p>
+ * The requests are sent with the bare Vert.x event bus, and each reply completes a {@link Reply} slot: there is no
+ * {@code Uni}, and no subscription, per request. A request is pending until its reply has been emitted downstream, so
+ * the replies held back by a slow downstream, or by a slow reply in ordered mode, count in the window: the upstream is
+ * only requested an item when a reply has been emitted.
+ * <p>
+ * A failed reply stops sending requests and fails the stream, in ordered mode once the replies of the previous
+ * requests have been emitted. A failure of the upstream fails the stream right away, the pending replies are dropped.
+ *
+ * @param <T> the type of the request bodies
+ * @param <R> the type of the reply bodies
+ */
+class EventBusRequests<T, R> extends AbstractMulti<Message<R>> {
+
+    private final EventBus eventBus;
+    private final String address;
+    private final Multi<T> upstream;
+    private final int maxInFlight;
+    private final boolean ordered;
+    private final DeliveryOptions deliveryOptions;
+
+    EventBusRequests(EventBus eventBus, String address, Multi<T> upstream, RequestAllOptions options) {
+        this.eventBus = ParameterValidation.nonNull(eventBus, "eventBus");
+        this.address = ParameterValidation.nonNull(address, "address");
+        this.upstream = ParameterValidation.nonNull(upstream, "upstream");
+        ParameterValidation.nonNull(options, "options");
+        this.maxInFlight = options.getMaxInFlight();
+        this.ordered = options.isOrdered();
+        this.deliveryOptions = options.getDeliveryOptions() == null ? null
+                : new DeliveryOptions(options.getDeliveryOptions());
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Message<R>> downstream) {
+        upstream.subscribe(new RequestsSubscriber<>(this, downstream));
+    }
+
+    private static final class RequestsSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+        private static final Throwable DONE_SENTINEL = new Throwable();
+
+        private final EventBusRequests<T, R> parent;
+        private final Subscriber<? super Message<R>> downstream;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> completed = new AtomicReference<>();
+        private volatile Subscription subscription;
+        private volatile boolean cancelled;
+
+        // Guarded by this: the sent requests in ordered mode, the received replies otherwise
+        private final ArrayDeque<Reply<R>> replies;
+        private int pending;
+
+        // Only accessed by the thread owning the drain loop
+        private boolean terminated;
+
+        RequestsSubscriber(EventBusRequests<T, R> parent, Subscriber<? super Message<R>> downstream) {
+            this.parent = parent;
+            this.downstream = downstream;
+            this.replies = new ArrayDeque<>(Math.min(parent.maxInFlight, 64));
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            downstream.onSubscribe(this);
+            if (!cancelled) {
+                s.request(parent.maxInFlight);
+            }
+        }
+
+        @Override
+        public void onNext(T body) {
+            if (cancelled || completed.get() != null) {
+                return;
+            }
+            Reply<R> reply = new Reply<>(this);
+            synchronized (this) {
+                pending++;
+                if (parent.ordered) {
+                    replies.add(reply);
+                }
+            }
+            Future<io.vertx.core.eventbus.Message<R>> future;
+            try {
+                future = parent.deliveryOptions == null ? parent.eventBus.request(parent.address, body)
+                        : parent.eventBus.request(parent.address, body, parent.deliveryOptions);
+            } catch (Throwable failure) {
+                subscription.cancel();
+                onError(failure);
+                return;
+            }
+            future.onComplete(reply);
+        }
+
+        void onReply(Reply<R> reply) {
+            if (cancelled) {
+                return;
+            }
+            if (reply.result.failed()) {
+                // Stop sending requests, the failure is emitted in turn
+                subscription.cancel();
+            }
+            if (!parent.ordered) {
+                synchronized (this) {
+                    replies.add(reply);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            ParameterValidation.nonNullNpe(failure, "failure");
+            if (completed.compareAndSet(null, failure)) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (completed.compareAndSet(null, DONE_SENTINEL)) {
+                drain();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                subscription.cancel();
+                onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                subscription.cancel();
+                synchronized (this) {
+                    replies.clear();
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                long emitted = 0L;
+                while (!cancelled && !terminated) {
+                    Throwable done = completed.get();
+                    if (done != null && done != DONE_SENTINEL) {
+                        terminate(done);
+                        break;
+                    }
+                    Reply<R> next;
+                    synchronized (this) {
+                        next = replies.peek();
+                        if (next == null || next.result == null
+                                || (next.result.succeeded() && requested.get() == emitted)) {
+                            break;
+                        }
+                        replies.poll();
+                        pending--;
+                    }
+                    if (next.result.failed()) {
+                        terminate(next.result.cause());
+                        break;
+                    }
+                    downstream.onNext(Message.newInstance(next.result.result()));
+                    emitted++;
+                }
+
+                if (emitted > 0L) {
+                    Subscriptions.produced(requested, emitted);
+                    if (!cancelled && !terminated && completed.get() == null) {
+                        // The emitted replies free their slots in the window
+                        subscription.request(emitted);
+                    }
+                }
+
+                if (!cancelled && !terminated && completed.get() == DONE_SENTINEL) {
+                    boolean empty;
+                    synchronized (this) {
+                        empty = pending == 0;
+                    }
+                    if (empty) {
+                        terminated = true;
+                        downstream.onComplete();
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void terminate(Throwable failure) {
+            terminated = true;
+            subscription.cancel();
+            synchronized (this) {
+                replies.clear();
+            }
+            downstream.onError(failure);
+        }
+    }
+
+    /**
+     * The slot of a request, completed by its reply.
+     */
+    private static final class Reply<R> implements Handler<AsyncResult<io.vertx.core.eventbus.Message<R>>> {
+
+        private final RequestsSubscriber<?, R> subscriber;
+        private volatile AsyncResult<io.vertx.core.eventbus.Message<R>> result;
+
+        Reply(RequestsSubscriber<?, R> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void handle(AsyncResult<io.vertx.core.eventbus.Message<R>> result) {
+            this.result = result;
+            subscriber.onReply(this);
+        }
+    }
+}
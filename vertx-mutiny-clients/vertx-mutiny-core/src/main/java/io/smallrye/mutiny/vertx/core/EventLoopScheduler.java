@@ -0,0 +1,196 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.internal.ContextInternal;
+
+/**
+ * A {@link ScheduledExecutorService} setting the timers of the tasks scheduled from a Vert.x context on the event loop
+ * of this context, and delegating the other tasks to a fallback {@link ScheduledExecutorService}.
+ * <p>
+ * When a task is scheduled from a thread with a current Vert.x context, such as an event loop, a timer is set on that
+ * context: the task fires on the same context, without a scheduler thread and without a hop back to the event loop.
+ * Scheduling from other threads, and the tasks submitted with {@link #execute(Runnable)}, {@code submit} or
+ * {@code invokeAll}, are delegated to the fallback, so blocking work offloaded to this executor never runs on an event
+ * loop.
+ * <p>
+ * Once installed as the Mutiny default worker pool with {@link #install()}, the Mutiny time-based operators, such as
+ * {@code onItem().delayIt()}, {@code ifNoItem().after()} or {@code Multi.createFrom().ticks()}, set Vert.x timers
+ * when they are used on a Vert.x context. Their items are then emitted on that context: the downstream must not
+ * block, or must switch to another executor with {@code emitOn}.
+ * <p>
+ * As with {@code setPeriodic}, the periodic executions of a task scheduled from a root context, after the first one,
+ * run on duplicates of this context. Delays are rounded up to the millisecond. Shutting this executor down shuts the
+ * fallback down, the timers already set on the event loops still fire.
+ */
+public final class EventLoopScheduler extends VertxTimerScheduler {
+
+    private final ScheduledExecutorService fallback;
+
+    private final Executor previousExecutor;
+
+    private EventLoopScheduler(ScheduledExecutorService fallback, Executor previousExecutor) {
+        super(null, false);
+        this.fallback = fallback;
+        this.previousExecutor = previousExecutor;
+    }
+
+    /**
+     * Creates a scheduler delegating the tasks scheduled outside of a Vert.x context, and the tasks to execute, to the
+     * given {@code fallback}.
+     *
+     * @param fallback the fallback, cannot be {@code null}
+     * @return the scheduler
+     */
+    public static EventLoopScheduler withFallback(ScheduledExecutorService fallback) {
+        requireNonNull(fallback, "The fallback executor cannot be null");
+        return new EventLoopScheduler(fallback, null);
+    }
+
+    /**
+     * Installs a scheduler as the Mutiny default executor and worker pool, see
+     * {@link Infrastructure#setDefaultExecutor(Executor, boolean)}. The current default worker pool becomes its
+     * fallback, so the blocking tasks and the tasks scheduled outside of a Vert.x context still run on it.
+     * <p>
+     * When a scheduler is already installed, it is returned as is.
+     *
+     * @return the installed scheduler, to {@link #uninstall()} it
+     */
+    public static synchronized EventLoopScheduler install() {
+        Executor current = Infrastructure.getDefaultExecutor();
+        if (current instanceof EventLoopScheduler) {
+            return (EventLoopScheduler) current;
+        }
+        EventLoopScheduler scheduler = new EventLoopScheduler(Infrastructure.getDefaultWorkerPool(),
+                Infrastructure.getDefaultExecutor());
+        Infrastructure.setDefaultExecutor(scheduler, false);
+        return scheduler;
+    }
+
+    /**
+     * Restores the Mutiny default executor replaced by {@link #install()}, if this scheduler is still installed.
+     * <p>
+     * The fallback worker pool is shut down when Mutiny has to create a new one for the restored executor: its pending
+     * tasks still run.
+     */
+    public void uninstall() {
+        synchronized (EventLoopScheduler.class) {
+            if (previousExecutor == null || Infrastructure.getDefaultExecutor() != this) {
+                return;
+            }
+            Infrastructure.setDefaultExecutor(previousExecutor, false);
+            if (Infrastructure.getDefaultWorkerPool() != fallback) {
+                fallback.shutdown();
+            }
+        }
+    }
+
+    @Override
+    Target target() {
+        ContextInternal context = ContextInternal.current();
+        return context == null ? null : new Target(context, false);
+    }
+
+    // ---- ScheduledExecutorService ---- //
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return onContext(command) ? super.schedule(command, delay, unit) : fallback.schedule(command, delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return onContext(callable) ? super.schedule(callable, delay, unit) : fallback.schedule(callable, delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return onContext(command) ? super.scheduleAtFixedRate(command, initialDelay, period, unit)
+                : fallback.scheduleAtFixedRate(command, initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return onContext(command) ? super.scheduleWithFixedDelay(command, initialDelay, delay, unit)
+                : fallback.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+    }
+
+    /**
+     * @return whether the task must be scheduled on the current context rather than on the fallback
+     */
+    private boolean onContext(Object task) {
+        requireNonNull(task);
+        if (ContextInternal.current() == null) {
+            return false;
+        }
+        if (fallback.isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        return true;
+    }
+
+    // ---- ExecutorService ---- //
+
+    /**
+     * Shuts the fallback down, and the executor replaced by {@link #install()} if it is distinct from the fallback. Their
+     * pending tasks still run, as do the timers already set on the event loops.
+     */
+    @Override
+    public void shutdown() {
+        fallback.shutdown();
+        if (previousExecutor != fallback && previousExecutor instanceof ExecutorService) {
+            ((ExecutorService) previousExecutor).shutdown();
+        }
+    }
+
+    /**
+     * Like {@link #shutdown()}, except the pending tasks of the fallback, and of the executor replaced by
+     * {@link #install()}, are not run and are returned. The timers already set on the event loops still fire.
+     * <p>
+     * Mutiny calls it when this scheduler is replaced with {@link Infrastructure#setDefaultExecutor(Executor, boolean)}
+     * and {@code shutdownPrevious} set to {@code true}.
+     *
+     * @return the tasks that never started
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = new ArrayList<>(fallback.shutdownNow());
+        if (previousExecutor != fallback && previousExecutor instanceof ExecutorService) {
+            pending.addAll(((ExecutorService) previousExecutor).shutdownNow());
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return fallback.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return fallback.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return fallback.awaitTermination(timeout, unit);
+    }
+
+    // ---- Executor ---- //
+
+    @Override
+    public void execute(Runnable command) {
+        fallback.execute(command);
+    }
+}
@@ -0,0 +1,46 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * A range of a file sent by {@link HttpServerResponseHelper#sendFiles(io.vertx.mutiny.core.http.HttpServerResponse,
+ * io.vertx.mutiny.core.file.FileSystem, java.util.List)}.
+ *
+ * @param path the path of the file, resolved by Vert.x
+ * @param offset the position of the first byte to send
+ * @param length the maximum number of bytes to send, {@link Long#MAX_VALUE} to send until the end of the file
+ */
+public record FileRange(String path, long offset, long length) {
+
+    public FileRange {
+        ParameterValidation.nonNull(path, "path");
+        if (offset < 0) {
+            throw new IllegalArgumentException("`offset` must be greater than or equal to zero");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("`length` must be greater than or equal to zero");
+        }
+    }
+
+    /**
+     * @param path the path of the file
+     * @return the range spanning the whole file
+     */
+    public static FileRange of(String path) {
+        return new FileRange(path, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param path the path of the file
+     * @param offset the position of the first byte to send
+     * @param length the maximum number of bytes to send
+     * @return the range
+     */
+    public static FileRange of(String path, long offset, long length) {
+        return new FileRange(path, offset, length);
+    }
+
+    FileReadOptions toReadOptions() {
+        return new FileReadOptions().setPosition(offset).setLength(length);
+    }
+}
@@ -0,0 +1,118 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Configures the reads of {@link FileSystemHelper#readAsMulti(io.vertx.mutiny.core.file.FileSystem, String,
+ * FileReadOptions)}.
+ * <p>
+ * The file is read in chunks of {@link #getBufferSize() bufferSize} bytes, from {@link #getPosition() position}, and
+ * for {@link #getLength() length} bytes or until its end. In {@link #isMemoryMapped() memory-mapped} mode, the chunks
+ * are slices of a mapped region of the file instead of buffers filled by reads.
+ */
+public class FileReadOptions {
+
+    /**
+     * The default size of the chunks, the default read buffer size of the Vert.x {@code AsyncFile}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private boolean memoryMapped;
+    private long position;
+    private long length = Long.MAX_VALUE;
+
+    public FileReadOptions() {
+    }
+
+    public FileReadOptions(FileReadOptions other) {
+        this.bufferSize = other.bufferSize;
+        this.memoryMapped = other.memoryMapped;
+        this.position = other.position;
+        this.length = other.length;
+    }
+
+    /**
+     * @return the size of the chunks, in bytes
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the size of the chunks, the last one being shorter. Defaults to {@link #DEFAULT_BUFFER_SIZE}, a few hundred
+     * kilobytes suits the reads of large files.
+     *
+     * @param bufferSize the size of the chunks, in bytes, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FileReadOptions setBufferSize(int bufferSize) {
+        this.bufferSize = ParameterValidation.positive(bufferSize, "bufferSize");
+        return this;
+    }
+
+    /**
+     * @return whether the file is memory-mapped
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    /**
+     * Sets whether the chunks are slices of a memory-mapped region of the file, rather than buffers filled by reads.
+     * <p>
+     * The chunks are then not copied into the heap. Each region is mapped and loaded into memory on a worker thread
+     * before its chunks are emitted, but reading a chunk can still block on a page fault if the system evicts the
+     * pages in the meantime. A region stays mapped as long as one of its chunks is referenced. The region is mapped
+     * read-only, so writing to a chunk throws a {@link java.nio.ReadOnlyBufferException}: copy it first to modify it.
+     *
+     * @param memoryMapped whether the file is memory-mapped
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FileReadOptions setMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+        return this;
+    }
+
+    /**
+     * @return the position of the first byte to read
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Sets the position of the first byte to read. Defaults to {@code 0}.
+     *
+     * @param position the position, must be positive or zero
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FileReadOptions setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("`position` must be greater than or equal to zero");
+        }
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of bytes to read, {@link Long#MAX_VALUE} to read until the end of the file
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Sets the maximum number of bytes to read. Defaults to {@link Long#MAX_VALUE}, to read until the end of the file.
+     *
+     * @param length the number of bytes, must be positive or zero
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FileReadOptions setLength(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("`length` must be greater than or equal to zero");
+        }
+        this.length = length;
+        return this;
+    }
+}
@@ -0,0 +1,110 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.unchecked.Unchecked;
+import io.smallrye.mutiny.vertx.UniHelper;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.mutiny.core.file.AsyncFile;
+import io.vertx.mutiny.core.file.FileSystem;
+
+/**
+ * Helpers for the Vert.x file system.
+ */
+public class FileSystemHelper {
+
+    private FileSystemHelper() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Like {@link #readAsMulti(FileSystem, String, FileReadOptions)}, with the default options: the whole file, in
+     * chunks of {@value FileReadOptions#DEFAULT_BUFFER_SIZE} bytes.
+     */
+    @CheckReturnValue
+    public static Multi<Buffer> readAsMulti(FileSystem fileSystem, String path) {
+        return readAsMulti(fileSystem, path, new FileReadOptions());
+    }
+
+    /**
+     * Reads a file as a {@link Multi} of chunks of {@link FileReadOptions#getBufferSize()} bytes.
+     * <p>
+     * The file is opened on subscription, and closed once the {@link Multi} completes, fails or is cancelled. The
+     * chunks are read as they are requested: the downstream demand drives the reads.
+     * <p>
+     * By default, the file is read with an {@link AsyncFile}, each chunk being a new buffer filled by a read on a
+     * worker thread. In {@link FileReadOptions#isMemoryMapped() memory-mapped} mode, the file is opened with a
+     * {@link java.nio.channels.FileChannel}, and each chunk is a slice of a mapped region, emitted without copy. The
+     * file is opened, and each region mapped and loaded into memory, on a worker thread of the Vert.x context the
+     * {@link Multi} is subscribed on, and the chunks are emitted on that context. Without a context, the Mutiny default
+     * worker pool is used, and the chunks are emitted on it. In this mode, {@code path} is not resolved by Vert.x: the
+     * files of the classpath are not supported. The chunks are read-only: writing to them throws a
+     * {@link java.nio.ReadOnlyBufferException}.
+     *
+     * @param fileSystem the file system
+     * @param path the path of the file
+     * @param options the options
+     * @return a {@link Multi} emitting the chunks of the file
+     */
+    @CheckReturnValue
+    public static Multi<Buffer> readAsMulti(FileSystem fileSystem, String path, FileReadOptions options) {
+        ParameterValidation.nonNull(fileSystem, "fileSystem");
+        ParameterValidation.nonNull(path, "path");
+        FileReadOptions read = new FileReadOptions(ParameterValidation.nonNull(options, "options"));
+        if (read.isMemoryMapped()) {
+            return Multi.createFrom().deferred(() -> readMapped(Vertx.currentContext(), Path.of(path), read));
+        }
+        return Multi.createFrom().resourceFromUni(
+                () -> fileSystem.open(path, new OpenOptions().setRead(true).setWrite(false).setCreate(false)),
+                file -> file.setReadBufferSize(read.getBufferSize())
+                        .setReadPos(read.getPosition())
+                        .setReadLength(read.getLength())
+                        .toMulti())
+                .withFinalizer(AsyncFile::close);
+    }
+
+    private static Multi<Buffer> readMapped(Context context, Path path, FileReadOptions options) {
+        return Multi.createFrom().resourceFromUni(
+                () -> blocking(context, () -> MappedFileReader.open(path, options)),
+                reader -> Multi.createBy().repeating().uni(() -> blocking(context, reader::map))
+                        .until(mapped -> !mapped)
+                        .onItem().transformToMultiAndConcatenate(mapped -> Multi.createFrom()
+                                .<MappedFileReader, Buffer> generator(() -> reader, (r, emitter) -> {
+                                    Buffer chunk = r.next();
+                                    if (chunk == null) {
+                                        emitter.complete();
+                                    } else {
+                                        emitter.emit(chunk);
+                                    }
+                                    return r;
+                                })))
+                .withFinalizer(Unchecked.consumer(MappedFileReader::close));
+    }
+
+    /**
+     * Runs {@code action} on a worker thread of {@code context}, and emits its result on {@code context}. Without a
+     * context, runs it on the Mutiny default worker pool. With a context, the action is submitted when this method is
+     * called, so it is only called from the suppliers of the {@link Multi}.
+     */
+    private static <T> Uni<T> blocking(Context context, Callable<T> action) {
+        if (context == null) {
+            return Uni.createFrom().<T> emitter(emitter -> {
+                try {
+                    emitter.complete(action.call());
+                } catch (Exception e) {
+                    emitter.fail(e);
+                }
+            }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        }
+        return UniHelper.toUni(context.executeBlocking(action, false));
+    }
+}
@@ -0,0 +1,56 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+/**
+ * Helpers for the Vert.x HTTP server requests.
+ */
+public class HttpServerRequestHelper {
+
+    private HttpServerRequestHelper() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Like {@link #uploads(HttpServerRequest, UploadOptions)}, keeping at most
+     * {@value UploadOptions#DEFAULT_MEMORY_THRESHOLD} bytes of a part in memory, and spooling to the default temporary
+     * directory.
+     */
+    @CheckReturnValue
+    public static Multi<UploadPart> uploads(HttpServerRequest request) {
+        return uploads(request, new UploadOptions());
+    }
+
+    /**
+     * Reads the multipart body of {@code request} as a {@link Multi} of {@link UploadPart}s, each part exposing its
+     * content as a {@link Multi} of chunks.
+     * <p>
+     * This method must be called before the body of the request is read, typically from the request handler: it
+     * pauses the request, expects a multipart body and sets the upload, end and exception handlers. The body is then
+     * read as the parts and their content are requested, the request staying paused otherwise, so a slow consumer
+     * back-pressures the client.
+     * <p>
+     * The content of a part can be consumed later, after requesting the next parts, for instance to collect all the
+     * parts first. Its chunks are then kept in memory up to {@link UploadOptions#getMemoryThreshold()} bytes, and the
+     * rest of the part is spooled to a temporary file, see {@link UploadPart}. The heap used by a request is thus
+     * bounded by the memory threshold of each unread part, whatever the size of the uploads.
+     * <p>
+     * The {@link Multi} completes at the end of the request, and fails if the request fails. The form attributes are
+     * available from {@link HttpServerRequest#formAttributes()} once it completes. It accepts a single subscriber.
+     * Cancelling the subscription discards the parts not received yet, and the parts whose content has not been
+     * subscribed.
+     *
+     * @param request the request
+     * @param options the buffering options
+     * @return a {@link Multi} emitting the parts of the request
+     */
+    @CheckReturnValue
+    public static Multi<UploadPart> uploads(HttpServerRequest request, UploadOptions options) {
+        ParameterValidation.nonNull(request, "request");
+        UploadOptions copy = new UploadOptions(ParameterValidation.nonNull(options, "options"));
+        return new MultipartUploads(request.getDelegate(), copy);
+    }
+}
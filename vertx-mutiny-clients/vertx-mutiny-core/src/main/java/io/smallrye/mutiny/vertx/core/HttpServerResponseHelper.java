@@ -0,0 +1,58 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.List;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.mutiny.core.file.FileSystem;
+import io.vertx.mutiny.core.http.HttpServerResponse;
+
+/**
+ * Helpers for the Vert.x HTTP server responses.
+ */
+public class HttpServerResponseHelper {
+
+    private HttpServerResponseHelper() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Sends the given ranges of files, in order, as the body of {@code response}, and ends the response.
+     * <p>
+     * The public response API of Vert.x sends a single file per response, with
+     * {@link HttpServerResponse#sendFile(String, long, long)}: on a plain HTTP/1.x connection without compression, the
+     * kernel copies the file to the socket, and the bytes never reach the heap. So a single range is sent this way, with
+     * a {@code Content-Length} header set to the length of the range.
+     * <p>
+     * Several ranges are not sent without copy: they are read with
+     * {@link FileSystemHelper#readAsMulti(FileSystem, String, FileReadOptions)}, one after the other, and written with
+     * {@link HttpServerResponse#send(java.util.concurrent.Flow.Publisher)}. The files are read as the connection
+     * accepts the chunks, so a slow client back-pressures the reads. Unless a {@code Content-Length} header is set, the
+     * response is chunked.
+     * <p>
+     * A failure while opening or sending a file fails the returned {@link Uni}. With several ranges, the headers have
+     * likely been sent already: the caller is expected to reset or close the connection.
+     *
+     * @param response the response
+     * @param fileSystem the file system reading the files, when there are several ranges
+     * @param files the ranges of files to send, in order
+     * @return a {@link Uni} completed once the response has ended
+     */
+    @CheckReturnValue
+    public static Uni<Void> sendFiles(HttpServerResponse response, FileSystem fileSystem, List<FileRange> files) {
+        ParameterValidation.nonNull(response, "response");
+        ParameterValidation.nonNull(fileSystem, "fileSystem");
+        List<FileRange> ranges = List.copyOf(ParameterValidation.nonNull(files, "files"));
+        if (ranges.isEmpty()) {
+            return response.end();
+        }
+        if (ranges.size() == 1) {
+            FileRange range = ranges.get(0);
+            return response.sendFile(range.path(), range.offset(), range.length());
+        }
+        return response.send(Multi.createFrom().iterable(ranges).onItem().transformToMultiAndConcatenate(
+                range -> FileSystemHelper.readAsMulti(fileSystem, range.path(), range.toReadOptions())));
+    }
+}
@@ -0,0 +1,111 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.function.Function;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * A {@link MessageCodec} passing the instances of a type as is to the local consumers, and delegating to a binary
+ * encoder and decoder when a message is sent to another node of a cluster.
+ * <p>
+ * Vert.x only encodes a message when its consumer is on another node: locally, it calls {@link #transform(Object)},
+ * which returns the sent instance. The body received by a local consumer is then the very object sent, it must not be
+ * modified once sent, typically an immutable record or data object.
+ * <p>
+ * Without encoder and decoder, the codec only supports local consumers: sending to a remote consumer fails with an
+ * {@link IllegalStateException}. Otherwise, the encoded body is written to the wire prefixed with its length.
+ *
+ * @param <T> the type of the message bodies
+ * @see EventBusHelper#registerLocalCodec(io.vertx.mutiny.core.eventbus.EventBus, Class)
+ */
+public final class LocalCodec<T> implements MessageCodec<T, T> {
+
+    private final Class<T> type;
+    private final String name;
+    private final Function<T, Buffer> encoder;
+    private final Function<Buffer, T> decoder;
+
+    private LocalCodec(Class<T> type, Function<T, Buffer> encoder, Function<Buffer, T> decoder) {
+        this.type = ParameterValidation.nonNull(type, "type");
+        this.name = "mutiny-local-" + type.getName();
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Creates a codec supporting only the local consumers.
+     *
+     * @param type the type of the message bodies
+     * @return the codec
+     */
+    public static <T> LocalCodec<T> localOnly(Class<T> type) {
+        return new LocalCodec<>(type, null, null);
+    }
+
+    /**
+     * Creates a codec passing the bodies as is to the local consumers, and using {@code encoder} and {@code decoder}
+     * for the remote consumers.
+     *
+     * @param type the type of the message bodies
+     * @param encoder the encoder of a body sent to a remote consumer
+     * @param decoder the decoder of a body received from another node
+     * @return the codec
+     */
+    public static <T> LocalCodec<T> withWireFormat(Class<T> type, Function<T, Buffer> encoder,
+            Function<Buffer, T> decoder) {
+        return new LocalCodec<>(type, ParameterValidation.nonNull(encoder, "encoder"),
+                ParameterValidation.nonNull(decoder, "decoder"));
+    }
+
+    /**
+     * @return the type of the message bodies
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * @return whether the codec can encode the bodies sent to a remote consumer
+     */
+    public boolean isClusterable() {
+        return encoder != null;
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T body) {
+        if (encoder == null) {
+            throw new IllegalStateException("Unable to send a " + type.getName()
+                    + " to a remote consumer, its codec only supports local consumers");
+        }
+        Buffer encoded = encoder.apply(body);
+        buffer.appendInt(encoded.length());
+        buffer.appendBuffer(encoded);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        if (decoder == null) {
+            throw new IllegalStateException("Unable to decode a " + type.getName()
+                    + ", its codec only supports local consumers");
+        }
+        int length = buffer.getInt(pos);
+        return decoder.apply(buffer.getBuffer(pos + 4, pos + 4 + length));
+    }
+
+    @Override
+    public T transform(T body) {
+        return body;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+}
@@ -0,0 +1,99 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+/**
+ * Reads a file as slices of memory-mapped regions.
+ * <p>
+ * The file is mapped lazily, region by region, each region spanning a whole number of chunks, so a chunk never spans
+ * two regions. A region is unmapped by the garbage collector once neither the reader nor one of its chunks references
+ * it.
+ * <p>
+ * Mapping a region blocks: {@link #map()} maps the next region and loads it into memory, so that slicing it with
+ * {@link #next()} does not fault on the pages, unless the system evicts them in the meantime. Call {@link #map()} on a
+ * worker thread, and {@link #next()} from any thread.
+ * <p>
+ * This class is not thread-safe, callers must serialize the accesses.
+ */
+final class MappedFileReader implements AutoCloseable {
+
+    static final long MAX_REGION_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int bufferSize;
+    private final long regionSize;
+    private final long end;
+    private long position;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    private MappedFileReader(FileChannel channel, FileReadOptions options, long maxRegionSize) throws IOException {
+        this.channel = channel;
+        this.bufferSize = options.getBufferSize();
+        long chunks = Math.max(1L, Math.min(maxRegionSize, Integer.MAX_VALUE) / bufferSize);
+        this.regionSize = chunks * bufferSize;
+        this.position = options.getPosition();
+        long size = channel.size();
+        this.end = options.getLength() > size - position ? size : position + options.getLength();
+    }
+
+    static MappedFileReader open(Path path, FileReadOptions options) throws IOException {
+        return open(path, options, MAX_REGION_SIZE);
+    }
+
+    static MappedFileReader open(Path path, FileReadOptions options, long maxRegionSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFileReader(channel, options, maxRegionSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the next region, and loads it into memory. Blocks the calling thread.
+     *
+     * @return {@code false} once the end is reached
+     */
+    boolean map() throws IOException {
+        region = null;
+        if (position >= end) {
+            return false;
+        }
+        regionStart = position;
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, regionStart,
+                Math.min(regionSize, end - regionStart));
+        mapped.load();
+        region = mapped;
+        return true;
+    }
+
+    /**
+     * @return the next chunk of the current region, {@code null} once the region is exhausted
+     */
+    Buffer next() {
+        if (region == null || position >= regionStart + region.capacity()) {
+            return null;
+        }
+        int offset = (int) (position - regionStart);
+        int size = Math.min(bufferSize, region.capacity() - offset);
+        position += size;
+        return BufferInternal.buffer(Unpooled.wrappedBuffer(region.slice(offset, size)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,227 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+
+/**
+ * Emits the parts of a multipart request as {@link UploadPart}s.
+ * <p>
+ * The request is paused, and only resumed while the data it delivers can be accepted: when no part is being received,
+ * or when the part being received {@link UploadPart#acceptsData() accepts data}. A part received while the downstream
+ * has not requested it is held, the request staying paused once its memory threshold is reached.
+ * <p>
+ * The state is confined to the context of the request: the requests and cancellations of the subscribers are executed
+ * on it, and the items are emitted on it.
+ */
+final class MultipartUploads extends AbstractMulti<UploadPart> implements Subscription {
+
+    private final HttpServerRequest request;
+    private final ContextInternal context;
+    private final UploadOptions options;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final List<UploadPart> parts = new ArrayList<>();
+
+    // Confined to the context
+    private Subscriber<? super UploadPart> downstream;
+    private long requested;
+    private boolean cancelled;
+    private boolean ended;
+    private Throwable failure;
+    private boolean terminated;
+    private UploadPart pending;
+    private UploadPart current;
+    private boolean paused;
+    private boolean emitting;
+    private boolean missed;
+
+    MultipartUploads(HttpServerRequest request, UploadOptions options) {
+        this.request = request;
+        this.context = ((HttpServerRequestInternal) request).context();
+        this.options = options;
+        pause();
+        request.setExpectMultipart(true);
+        request.uploadHandler(this::onUpload);
+        request.exceptionHandler(this::onFailure);
+        request.endHandler(v -> onEnd());
+    }
+
+    ContextInternal context() {
+        return context;
+    }
+
+    UploadOptions options() {
+        return options;
+    }
+
+    /**
+     * @return whether the downstream waits for the next part, so the current one must be spooled rather than holding
+     *         the request
+     */
+    boolean wantsNextPart() {
+        return cancelled || (requested > 0 && pending == null);
+    }
+
+    void onContext(Runnable task) {
+        if (context.inThread()) {
+            task.run();
+        } else {
+            context.runOnContext(v -> task.run());
+        }
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super UploadPart> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            Subscriptions.fail(subscriber, new IllegalStateException("The uploads allow only a single Subscriber"));
+            return;
+        }
+        onContext(() -> {
+            downstream = subscriber;
+            subscriber.onSubscribe(this);
+            drain();
+            updateFlow();
+        });
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onContext(() -> onFailure(Subscriptions.getInvalidRequestException()));
+            return;
+        }
+        onContext(() -> {
+            requested = Subscriptions.add(requested, n);
+            drain();
+            updateFlow();
+        });
+    }
+
+    @Override
+    public void cancel() {
+        onContext(() -> {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            pending = null;
+            discardUnread();
+            updateFlow();
+        });
+    }
+
+    private void onUpload(HttpServerFileUpload upload) {
+        UploadPart part = new UploadPart(this, upload);
+        current = part;
+        if (cancelled || terminated) {
+            part.discardNow();
+        } else {
+            parts.add(part);
+            pending = part;
+        }
+        upload.handler(part::onData);
+        upload.exceptionHandler(part::onFailure);
+        upload.endHandler(v -> {
+            part.onEnd();
+            if (current == part) {
+                current = null;
+            }
+            updateFlow();
+        });
+        drain();
+        updateFlow();
+    }
+
+    private void onFailure(Throwable err) {
+        if (ended || failure != null) {
+            return;
+        }
+        failure = err;
+        pending = null;
+        if (current != null) {
+            current.onFailure(err);
+            current = null;
+        }
+        discardUnread();
+        drain();
+    }
+
+    private void onEnd() {
+        ended = true;
+        current = null;
+        drain();
+    }
+
+    private void discardUnread() {
+        for (UploadPart part : parts) {
+            if (!part.isSubscribed()) {
+                part.discardNow();
+            }
+        }
+    }
+
+    private void drain() {
+        if (downstream == null) {
+            return;
+        }
+        if (emitting) {
+            missed = true;
+            return;
+        }
+        emitting = true;
+        try {
+            do {
+                missed = false;
+                if (terminated || cancelled) {
+                    return;
+                }
+                if (pending != null && requested > 0) {
+                    UploadPart part = pending;
+                    pending = null;
+                    requested--;
+                    downstream.onNext(part);
+                }
+                if (pending == null && (ended || failure != null)) {
+                    terminated = true;
+                    if (failure != null) {
+                        downstream.onError(failure);
+                    } else {
+                        downstream.onComplete();
+                    }
+                }
+            } while (missed);
+        } finally {
+            emitting = false;
+        }
+    }
+
+    /**
+     * Resumes or pauses the request, depending on whether the data it delivers can be accepted.
+     */
+    void updateFlow() {
+        boolean flowing = !ended && failure == null && downstream != null
+                && (current == null ? pending == null : current.acceptsData());
+        if (flowing && paused) {
+            paused = false;
+            request.resume();
+        } else if (!flowing && !paused) {
+            pause();
+        }
+    }
+
+    private void pause() {
+        paused = true;
+        request.pause();
+    }
+}
@@ -0,0 +1,89 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.core.eventbus.DeliveryOptions;
+
+/**
+ * Configures the requests sent by {@link EventBusHelper#requestAll(io.vertx.mutiny.core.eventbus.EventBus, String,
+ * io.smallrye.mutiny.Multi, RequestAllOptions)}.
+ * <p>
+ * At most {@link #getMaxInFlight() maxInFlight} requests are pending at once, a request is pending from the time it is
+ * sent until its reply has been emitted downstream. The replies are emitted in the order of the requests, or in the
+ * order they are received when {@link #isOrdered() ordered} is {@code false}.
+ */
+public class RequestAllOptions {
+
+    /**
+     * The default maximum number of pending requests.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private boolean ordered = true;
+    private DeliveryOptions deliveryOptions;
+
+    public RequestAllOptions() {
+    }
+
+    public RequestAllOptions(RequestAllOptions other) {
+        this.maxInFlight = other.maxInFlight;
+        this.ordered = other.ordered;
+        this.deliveryOptions = other.deliveryOptions == null ? null : new DeliveryOptions(other.deliveryOptions);
+    }
+
+    /**
+     * @return the maximum number of pending requests
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of pending requests. Defaults to {@link #DEFAULT_MAX_IN_FLIGHT}.
+     *
+     * @param maxInFlight the maximum number of pending requests, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RequestAllOptions setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = ParameterValidation.positive(maxInFlight, "maxInFlight");
+        return this;
+    }
+
+    /**
+     * @return whether the replies are emitted in the order of the requests
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Sets whether the replies are emitted in the order of the requests, the default, or as soon as they are received.
+     * <p>
+     * In order, a slow reply holds back the replies received after it, and the requests that can be sent meanwhile.
+     *
+     * @param ordered whether the replies are emitted in the order of the requests
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RequestAllOptions setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @return the delivery options of the requests, {@code null} for the defaults of the event bus
+     */
+    public DeliveryOptions getDeliveryOptions() {
+        return deliveryOptions;
+    }
+
+    /**
+     * Sets the delivery options of the requests, such as the send timeout or the headers.
+     *
+     * @param deliveryOptions the delivery options, {@code null} for the defaults of the event bus
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RequestAllOptions setDeliveryOptions(DeliveryOptions deliveryOptions) {
+        this.deliveryOptions = deliveryOptions;
+        return this;
+    }
+}
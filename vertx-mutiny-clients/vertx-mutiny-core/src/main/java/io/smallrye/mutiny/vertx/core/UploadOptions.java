@@ -0,0 +1,73 @@
+package io.smallrye.mutiny.vertx.core;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Configures the buffering of the parts emitted by
+ * {@link HttpServerRequestHelper#uploads(io.vertx.mutiny.core.http.HttpServerRequest, UploadOptions)}.
+ * <p>
+ * The content of a part not consumed as fast as it is received is kept in memory up to
+ * {@link #getMemoryThreshold() memoryThreshold} bytes. Beyond, the request is paused, unless the next part has been
+ * requested: the rest of the part is then spooled to a temporary file of the {@link #getSpoolDirectory() spool
+ * directory}.
+ */
+public class UploadOptions {
+
+    /**
+     * The default number of bytes of a part kept in memory.
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = 64 * 1024;
+
+    private int memoryThreshold = DEFAULT_MEMORY_THRESHOLD;
+    private String spoolDirectory;
+
+    public UploadOptions() {
+    }
+
+    public UploadOptions(UploadOptions other) {
+        this.memoryThreshold = other.memoryThreshold;
+        this.spoolDirectory = other.spoolDirectory;
+    }
+
+    /**
+     * @return the number of bytes of a part kept in memory
+     */
+    public int getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    /**
+     * Sets the number of bytes of a part kept in memory while its content is not consumed. Defaults to
+     * {@link #DEFAULT_MEMORY_THRESHOLD}. The heap used by a request is bounded by this threshold, plus the chunks in
+     * flight when the request is paused.
+     *
+     * @param memoryThreshold the number of bytes, must be positive or zero
+     * @return a reference to this, so the API can be used fluently
+     */
+    public UploadOptions setMemoryThreshold(int memoryThreshold) {
+        if (memoryThreshold < 0) {
+            throw new IllegalArgumentException("`memoryThreshold` must be greater than or equal to zero");
+        }
+        this.memoryThreshold = memoryThreshold;
+        return this;
+    }
+
+    /**
+     * @return the directory of the spool files, {@code null} for the default temporary directory
+     */
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    /**
+     * Sets the directory in which the parts exceeding the {@link #getMemoryThreshold() memory threshold} are spooled.
+     * Defaults to {@code null}, the default temporary directory of the JVM.
+     *
+     * @param spoolDirectory the directory, must exist
+     * @return a reference to this, so the API can be used fluently
+     */
+    public UploadOptions setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = ParameterValidation.nonNull(spoolDirectory, "spoolDirectory");
+        return this;
+    }
+}
@@ -0,0 +1,401 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.vertx.UniHelper;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpServerFileUpload;
+
+/**
+ * A part of a multipart request, emitted by
+ * {@link HttpServerRequestHelper#uploads(io.vertx.mutiny.core.http.HttpServerRequest, UploadOptions)}.
+ * <p>
+ * The {@link #content()} of the part can be consumed while the part is received, or later, once the next parts have
+ * been emitted. The chunks not consumed yet are kept in memory up to {@link UploadOptions#getMemoryThreshold()} bytes;
+ * beyond, the request is paused until the chunks are consumed, unless the next part has been requested: the rest of
+ * the part is then spooled to a temporary file, read once the part has been entirely received. The file is deleted
+ * once read, or when the part is {@link #discard() discarded}.
+ * <p>
+ * The content of a part can be subscribed once. A part whose content is never consumed should be discarded, so its
+ * spool file is deleted.
+ */
+public final class UploadPart {
+
+    private static final String SPOOL_PREFIX = "upload-";
+    private static final String SPOOL_SUFFIX = ".part";
+
+    private final MultipartUploads owner;
+    private final HttpServerFileUpload upload;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final Promise<String> spooled = Promise.promise();
+
+    // Confined to the context of the request
+    private final ArrayDeque<Buffer> memory = new ArrayDeque<>();
+    private long memoryBytes;
+    private boolean received;
+    private Throwable failure;
+    private boolean discarded;
+
+    private boolean spooling;
+    private ArrayDeque<Buffer> backlog;
+    private AsyncFile spool;
+    private String spoolPath;
+    private boolean spoolFull;
+    private Throwable spoolFailure;
+    private boolean deleted;
+
+    private Subscriber<? super Buffer> subscriber;
+    private long demand;
+    private boolean liveDone;
+    private boolean emitting;
+    private boolean missed;
+
+    UploadPart(MultipartUploads owner, HttpServerFileUpload upload) {
+        this.owner = owner;
+        this.upload = upload;
+    }
+
+    /**
+     * @return the name of the form field
+     */
+    public String name() {
+        return upload.name();
+    }
+
+    /**
+     * @return the file name sent by the client
+     */
+    public String filename() {
+        return upload.filename();
+    }
+
+    /**
+     * @return the content type of the part
+     */
+    public String contentType() {
+        return upload.contentType();
+    }
+
+    /**
+     * @return the content transfer encoding of the part
+     */
+    public String contentTransferEncoding() {
+        return upload.contentTransferEncoding();
+    }
+
+    /**
+     * @return the charset of the part
+     */
+    public String charset() {
+        return upload.charset();
+    }
+
+    /**
+     * Gets the content of the part. The chunks are emitted on the context of the request, as they are requested.
+     * <p>
+     * This {@link Multi} can be subscribed once, subsequent subscribers, and the subscribers of a part already
+     * discarded, receive an {@link IllegalStateException}. Cancelling the subscription discards the rest of the part.
+     *
+     * @return a {@link Multi} emitting the chunks of the part
+     */
+    @CheckReturnValue
+    public Multi<Buffer> content() {
+        return Multi.createFrom().deferred(() -> {
+            if (!subscribed.compareAndSet(false, true)) {
+                return Multi.createFrom().failure(
+                        new IllegalStateException("The content of a part can only be consumed once"));
+            }
+            return Multi.createBy().concatenating().streams(new Live(), spooledContent());
+        });
+    }
+
+    /**
+     * Discards the content of the part: the chunks kept in memory are released, the chunks not received yet are
+     * dropped, and the spool file is deleted. Once discarded, the content of the part cannot be consumed. Discarding a
+     * part whose content is already consumed has no effect.
+     *
+     * @return a {@link Uni} completed once the spool file, if any, has been deleted
+     */
+    @CheckReturnValue
+    public Uni<Void> discard() {
+        return Uni.createFrom().emitter(emitter -> owner.onContext(() -> {
+            if (subscribed.compareAndSet(false, true)) {
+                discardNow();
+            }
+            if (!spooling) {
+                emitter.complete(null);
+            } else {
+                spooled.future().transform(ar -> deleteSpool()).onComplete(ar -> emitter.complete(null));
+            }
+        }));
+    }
+
+    /**
+     * @return the number of bytes kept in memory
+     */
+    long bufferedBytes() {
+        return memoryBytes;
+    }
+
+    boolean isSubscribed() {
+        return subscribed.get();
+    }
+
+    /**
+     * @return whether the request can deliver more data of this part
+     */
+    boolean acceptsData() {
+        if (discarded || received) {
+            return true;
+        }
+        if (spooling) {
+            return spool != null && !spoolFull;
+        }
+        return demand > 0 || memoryBytes < owner.options().getMemoryThreshold() || owner.wantsNextPart();
+    }
+
+    void onData(Buffer chunk) {
+        if (discarded || failure != null) {
+            return;
+        }
+        if (!spooling && demand == 0 && memoryBytes + chunk.length() > owner.options().getMemoryThreshold()
+                && owner.wantsNextPart()) {
+            startSpool();
+        }
+        if (spooling) {
+            writeSpool(chunk);
+        } else {
+            memory.add(chunk);
+            memoryBytes += chunk.length();
+            drainContent();
+        }
+        owner.updateFlow();
+    }
+
+    void onEnd() {
+        received = true;
+        if (spool != null) {
+            closeSpool();
+        }
+        drainContent();
+    }
+
+    void onFailure(Throwable err) {
+        if (received || failure != null) {
+            return;
+        }
+        failure = err;
+        if (spooling) {
+            spoolFailure = err;
+            if (spool != null) {
+                closeSpool();
+            }
+        }
+        drainContent();
+    }
+
+    void discardNow() {
+        if (discarded) {
+            return;
+        }
+        discarded = true;
+        memory.clear();
+        memoryBytes = 0;
+        if (spooling) {
+            spooled.future().onComplete(ar -> deleteSpool());
+        }
+    }
+
+    private FileSystem fileSystem() {
+        return owner.context().owner().fileSystem();
+    }
+
+    private void startSpool() {
+        spooling = true;
+        backlog = new ArrayDeque<>();
+        spooled.future().onFailure(err -> deleteSpool());
+        FileSystem fs = fileSystem();
+        String directory = owner.options().getSpoolDirectory();
+        Future<String> created = directory == null ? fs.createTempFile(SPOOL_PREFIX, SPOOL_SUFFIX)
+                : fs.createTempFile(directory, SPOOL_PREFIX, SPOOL_SUFFIX, (String) null);
+        created.compose(path -> {
+            spoolPath = path;
+            return fs.open(path, new OpenOptions().setRead(false).setWrite(true).setCreate(false));
+        }).onComplete(ar -> owner.onContext(() -> onSpoolOpened(ar)));
+    }
+
+    private void onSpoolOpened(AsyncResult<AsyncFile> ar) {
+        if (ar.failed()) {
+            backlog = null;
+            spoolFailure = ar.cause();
+            spooled.tryFail(ar.cause());
+            drainContent();
+            owner.updateFlow();
+            return;
+        }
+        spool = ar.result();
+        spool.drainHandler(v -> owner.onContext(() -> {
+            spoolFull = false;
+            owner.updateFlow();
+        }));
+        Buffer chunk;
+        while ((chunk = backlog.poll()) != null) {
+            writeSpool(chunk);
+        }
+        backlog = null;
+        if (received || failure != null) {
+            closeSpool();
+        }
+        owner.updateFlow();
+    }
+
+    private void writeSpool(Buffer chunk) {
+        if (spool == null) {
+            if (backlog != null) {
+                backlog.add(chunk);
+            }
+            return;
+        }
+        if (spoolFailure != null) {
+            return;
+        }
+        spool.write(chunk).onFailure(err -> owner.onContext(() -> {
+            if (spoolFailure == null) {
+                spoolFailure = err;
+            }
+        }));
+        spoolFull = spool.writeQueueFull();
+    }
+
+    private void closeSpool() {
+        spool.close().onComplete(ar -> owner.onContext(() -> {
+            if (spoolFailure != null) {
+                spooled.tryFail(spoolFailure);
+            } else if (ar.failed()) {
+                spooled.tryFail(ar.cause());
+            } else {
+                spooled.tryComplete(spoolPath);
+            }
+        }));
+    }
+
+    private Future<Void> deleteSpool() {
+        if (spoolPath == null || deleted) {
+            return Future.succeededFuture();
+        }
+        deleted = true;
+        return fileSystem().delete(spoolPath).otherwiseEmpty();
+    }
+
+    private Multi<Buffer> spooledContent() {
+        return Multi.createFrom().deferred(() -> {
+            if (!spooling) {
+                return Multi.createFrom().empty();
+            }
+            io.vertx.mutiny.core.file.FileSystem fs = io.vertx.mutiny.core.file.FileSystem.newInstance(fileSystem());
+            return UniHelper.toUni(spooled.future())
+                    .onItem().transformToMulti(path -> FileSystemHelper.readAsMulti(fs, path))
+                    .onTermination().call(() -> UniHelper.toUni(deleteSpool()));
+        });
+    }
+
+    private void drainContent() {
+        if (subscriber == null || liveDone) {
+            return;
+        }
+        if (emitting) {
+            missed = true;
+            return;
+        }
+        emitting = true;
+        try {
+            do {
+                missed = false;
+                while (demand > 0 && !memory.isEmpty() && !liveDone) {
+                    Buffer chunk = memory.poll();
+                    memoryBytes -= chunk.length();
+                    demand--;
+                    subscriber.onNext(chunk);
+                }
+                if (!liveDone && memory.isEmpty()) {
+                    if (failure != null) {
+                        liveDone = true;
+                        subscriber.onError(failure);
+                    } else if (spooling || received) {
+                        // The rest of the part, if any, is read from the spool file
+                        liveDone = true;
+                        subscriber.onComplete();
+                    }
+                }
+            } while (missed);
+        } finally {
+            emitting = false;
+        }
+    }
+
+    /**
+     * Emits the chunks kept in memory, and the chunks received while the part is not spooled.
+     */
+    private final class Live extends AbstractMulti<Buffer> implements Subscription {
+
+        @Override
+        public void subscribe(Subscriber<? super Buffer> downstream) {
+            owner.onContext(() -> {
+                subscriber = downstream;
+                downstream.onSubscribe(this);
+                if (discarded) {
+                    liveDone = true;
+                    downstream.onError(new IllegalStateException("The part has been discarded"));
+                    return;
+                }
+                drainContent();
+                owner.updateFlow();
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                owner.onContext(() -> {
+                    if (!liveDone) {
+                        liveDone = true;
+                        discardNow();
+                        subscriber.onError(Subscriptions.getInvalidRequestException());
+                        owner.updateFlow();
+                    }
+                });
+                return;
+            }
+            owner.onContext(() -> {
+                demand = Subscriptions.add(demand, n);
+                drainContent();
+                owner.updateFlow();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            owner.onContext(() -> {
+                if (!liveDone) {
+                    liveDone = true;
+                    discardNow();
+                    owner.updateFlow();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.smallrye.mutiny.vertx.core;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mutiny.core.Context;
+
+/**
+ * A {@link ScheduledExecutorService} backed by the Vert.x timers of the captured context, instead of a delegate
+ * {@link ScheduledExecutorService}: delayed tasks fire directly on the event loop of the context, without a hop from a
+ * scheduler thread.
+ * <p>
+ * The context is captured when the task is scheduled. Unless it is a duplicated context, or the capture once mode is
+ * enabled, each execution runs on a new duplicate of it.
+ */
+class VertxTimerScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final Supplier<Context> contextSupplier;
+
+    private final boolean captureOnSchedule;
+
+    VertxTimerScheduler(Supplier<Context> contextSupplier, boolean captureOnSchedule) {
+        this.contextSupplier = contextSupplier;
+        this.captureOnSchedule = captureOnSchedule;
+    }
+
+    // ---- ScheduledExecutorService ---- //
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(new ContextScheduledFuture<>(command, delay, unit), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return schedule(new ContextScheduledFuture<>(callable, delay, unit), delay, unit);
+    }
+
+    private <V> ContextScheduledFuture<V> schedule(ContextScheduledFuture<V> future, long delay, TimeUnit unit) {
+        Target target = target();
+        if (delay <= 0) {
+            target.context.runOnContext(v -> target.run(future));
+            return future;
+        }
+        long id = target.context.setTimer(toMillis(delay, unit), l -> target.run(future));
+        future.onCancellation(() -> target.context.owner().cancelTimer(id));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        requirePositive(period);
+        Target target = target();
+        ContextScheduledFuture<?> future = new ContextScheduledFuture<>(command, initialDelay, unit);
+        long periodInMs = toMillis(period, unit);
+        Periodic periodic = new Periodic(target, future);
+        periodic.timer = target.context.setTimer(toMillis(initialDelay, unit), l -> {
+            if (periodic.fire(period, unit)) {
+                periodic.timer = target.context.setPeriodic(periodInMs, p -> periodic.fire(period, unit));
+                periodic.cancelIfDone();
+            }
+        });
+        future.onCancellation(periodic::cancel);
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        requirePositive(delay);
+        Target target = target();
+        ContextScheduledFuture<?> future = new ContextScheduledFuture<>(command, initialDelay, unit);
+        long delayInMs = toMillis(delay, unit);
+        Periodic periodic = new Periodic(target, future);
+        periodic.timer = target.context.setTimer(toMillis(initialDelay, unit), new Handler<>() {
+            @Override
+            public void handle(Long l) {
+                if (periodic.fire(delay, unit)) {
+                    periodic.timer = target.context.setTimer(delayInMs, this);
+                    periodic.cancelIfDone();
+                }
+            }
+        });
+        future.onCancellation(periodic::cancel);
+        return future;
+    }
+
+    private static void requirePositive(long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be greater than 0");
+        }
+    }
+
+    /**
+     * @return the delay in milliseconds, rounded up: Vert.x timers fire after 1 ms at the earliest
+     */
+    private static long toMillis(long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(delay);
+        return Math.max(1L, (nanos + 999_999L) / 1_000_000L);
+    }
+
+    /**
+     * @return the context to set the timers of a task on
+     */
+    Target target() {
+        ContextInternal context = (ContextInternal) contextSupplier.get().getDelegate();
+        if (captureOnSchedule && !context.isDuplicate()) {
+            context = context.duplicate();
+        }
+        return new Target(context, !context.isDuplicate());
+    }
+
+    /**
+     * The context the timers are set on, running each execution either on this context or on a new duplicate of it.
+     */
+    record Target(ContextInternal context, boolean duplicate) {
+
+        void run(Runnable task) {
+            if (duplicate) {
+                context.duplicate().dispatch(task);
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * The state of a periodic task, only run on the event loop of its context, but cancellable from any thread.
+     */
+    private static final class Periodic implements Runnable {
+
+        private final Target target;
+        private final ContextScheduledFuture<?> future;
+        private volatile long timer;
+        private boolean again;
+
+        Periodic(Target target, ContextScheduledFuture<?> future) {
+            this.target = target;
+            this.future = future;
+        }
+
+        /**
+         * Runs the task on the context.
+         *
+         * @return whether the task must run again
+         */
+        boolean fire(long period, TimeUnit unit) {
+            future.setDelay(period, unit);
+            target.run(this);
+            if (!again) {
+                cancel();
+            }
+            return again;
+        }
+
+        @Override
+        public void run() {
+            again = future.runPeriodically();
+        }
+
+        void cancelIfDone() {
+            if (future.isDone()) {
+                cancel();
+            }
+        }
+
+        void cancel() {
+            target.context.owner().cancelTimer(timer);
+        }
+    }
+
+    // ---- ExecutorService ---- //
+
+    @Override
+    public void shutdown() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    // ---- Executor ---- //
+
+    @Override
+    public void execute(Runnable command) {
+        ContextAwareExecutorWrapper.duplicate(contextSupplier.get()).runOnContext(v -> command.run());
+    }
+}
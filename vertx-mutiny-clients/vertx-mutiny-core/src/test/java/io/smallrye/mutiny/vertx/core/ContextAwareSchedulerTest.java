@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -172,28 +176,16 @@ public class ContextAwareSchedulerTest {
     }
 
     @Test
-    public void rejectManyExecutorMethods() {
+    public void rejectShutdown() {
         ScheduledExecutorService scheduler = ContextAwareScheduler.delegatingTo(delegate)
                 .withGetOrCreateContext(vertx);
 
-        assertThatThrownBy(() -> scheduler.submit(() -> 123))
-                .isInstanceOf(UnsupportedOperationException.class);
-
-        assertThatThrownBy(() -> scheduler.invokeAll(List.of(() -> 123)))
-                .isInstanceOf(UnsupportedOperationException.class);
-
-        assertThatThrownBy(() -> scheduler.invokeAny(List.of(() -> 123)))
-                .isInstanceOf(UnsupportedOperationException.class);
-
         assertThatThrownBy(scheduler::shutdownNow)
                 .isInstanceOf(UnsupportedOperationException.class);
 
         assertThatThrownBy(scheduler::shutdown)
                 .isInstanceOf(UnsupportedOperationException.class);
 
-        assertThatThrownBy(() -> scheduler.schedule(() -> 123, 100, TimeUnit.MILLISECONDS))
-                .isInstanceOf(UnsupportedOperationException.class);
-
         assertThatThrownBy(() -> scheduler.awaitTermination(100, TimeUnit.MILLISECONDS))
                 .isInstanceOf(UnsupportedOperationException.class);
 
@@ -201,6 +193,77 @@ public class ContextAwareSchedulerTest {
         assertThat(scheduler.isTerminated()).isFalse();
     }
 
+    @Test
+    public void callables() throws Exception {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.delegatingTo(delegate)
+                .withGetOrCreateContext(vertx);
+        Callable<Boolean> onDuplicate = () -> isDuplicate(Vertx.currentContext());
+
+        assertThat(scheduler.submit(onDuplicate).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.schedule(onDuplicate, 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.invokeAll(List.of(onDuplicate, onDuplicate))).allSatisfy(f -> assertThat(f.get()).isTrue());
+        assertThat(scheduler.invokeAny(List.of(onDuplicate))).isTrue();
+
+        ScheduledFuture<Integer> failing = scheduler.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 10, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void cancelScheduledCallable() throws Exception {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.delegatingTo(delegate)
+                .withGetOrCreateContext(vertx);
+        AtomicBoolean called = new AtomicBoolean();
+
+        ScheduledFuture<Boolean> future = scheduler.schedule(() -> called.getAndSet(true), 100, TimeUnit.MILLISECONDS);
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(100);
+        assertThat(future.cancel(false)).isTrue();
+
+        Thread.sleep(200);
+        assertThat(called).isFalse();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void capturingOnSchedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<Context> contexts = ConcurrentHashMap.newKeySet();
+        Context context = vertx.getOrCreateContext();
+        ScheduledExecutorService scheduler = ContextAwareScheduler.delegatingTo(delegate)
+                .capturingOnSchedule()
+                .withContext(context);
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            contexts.add(Vertx.currentContext());
+            latch.countDown();
+        }, 1, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        future.cancel(true);
+        assertThat(contexts).hasSize(1).allMatch(this::isDuplicate);
+    }
+
+    @Test
+    public void capturingForEachExecution() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<Context> contexts = ConcurrentHashMap.newKeySet();
+        Context context = vertx.getOrCreateContext();
+        ScheduledExecutorService scheduler = ContextAwareScheduler.delegatingTo(delegate)
+                .withContext(context);
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            contexts.add(Vertx.currentContext());
+            latch.countDown();
+        }, 1, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        future.cancel(true);
+        assertThat(contexts.size()).isGreaterThanOrEqualTo(3);
+    }
+
     @Test
     public void schedule() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
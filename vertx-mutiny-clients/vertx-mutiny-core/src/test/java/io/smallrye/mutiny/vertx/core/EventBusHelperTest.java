@@ -0,0 +1,240 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.eventbus.EventBus;
+import io.vertx.mutiny.core.eventbus.Message;
+
+public class EventBusHelperTest {
+
+    Vertx vertx;
+
+    EventBus eventBus;
+
+    io.vertx.core.eventbus.EventBus bare;
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+        eventBus = vertx.eventBus();
+        bare = eventBus.getDelegate();
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.closeAndAwait();
+    }
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void repliesInOrder() {
+        // The first requests get the slowest replies
+        bare.<Integer> consumer("square", msg -> vertx.setTimer(20 - msg.body(), l -> msg.reply(msg.body() * msg.body())))
+                .completion().await();
+
+        List<Integer> replies = EventBusHelper.<Integer, Integer> requestAll(eventBus, "square",
+                Multi.createFrom().iterable(range(10)))
+                .map(Message::body)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(replies).containsExactly(0, 1, 4, 9, 16, 25, 36, 49, 64, 81);
+    }
+
+    @Test
+    public void repliesInCompletionOrder() {
+        bare.<Integer> consumer("square",
+                msg -> vertx.setTimer(50 - msg.body() * 10, l -> msg.reply(msg.body() * msg.body()))).completion().await();
+
+        List<Integer> replies = EventBusHelper.<Integer, Integer> requestAll(eventBus, "square",
+                Multi.createFrom().iterable(range(5)), new RequestAllOptions().setOrdered(false))
+                .map(Message::body)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(replies).containsExactly(16, 9, 4, 1, 0);
+    }
+
+    @Test
+    public void boundedWindow() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        bare.<Integer> consumer("echo", msg -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            vertx.setTimer(2, l -> {
+                inFlight.decrementAndGet();
+                msg.reply(msg.body());
+            });
+        }).completion().await();
+
+        for (boolean ordered : new boolean[] { true, false }) {
+            List<Integer> replies = EventBusHelper.<Integer, Integer> requestAll(eventBus, "echo",
+                    Multi.createFrom().iterable(range(200)),
+                    new RequestAllOptions().setMaxInFlight(8).setOrdered(ordered))
+                    .map(Message::body)
+                    .collect().asList()
+                    .await().atMost(Duration.ofSeconds(10));
+
+            assertThat(replies).hasSize(200).containsExactlyInAnyOrderElementsOf(range(200));
+        }
+        assertThat(maxInFlight.get()).isBetween(2, 8);
+    }
+
+    @Test
+    public void downstreamDemandBoundsTheRequests() {
+        AtomicInteger received = new AtomicInteger();
+        bare.<Integer> consumer("echo", msg -> {
+            received.incrementAndGet();
+            msg.reply(msg.body());
+        }).completion().await();
+
+        AssertSubscriber<Message<Integer>> subscriber = EventBusHelper.<Integer, Integer> requestAll(eventBus, "echo",
+                Multi.createFrom().iterable(range(100)), new RequestAllOptions().setMaxInFlight(4))
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.awaitItems(2);
+        // 2 replies emitted, so 2 more requests sent to refill the window
+        await().pollDelay(Duration.ofMillis(50)).untilAsserted(() -> assertThat(received.get()).isEqualTo(6));
+
+        subscriber.request(98);
+        subscriber.awaitCompletion();
+        assertThat(received.get()).isEqualTo(100);
+        assertThat(subscriber.getItems()).extracting(Message::body).containsExactlyElementsOf(range(100));
+    }
+
+    @Test
+    public void failedReply() {
+        AtomicInteger received = new AtomicInteger();
+        bare.<Integer> consumer("fail", msg -> {
+            received.incrementAndGet();
+            if (msg.body() == 3) {
+                msg.fail(42, "boom");
+            } else {
+                vertx.setTimer(5, l -> msg.reply(msg.body()));
+            }
+        }).completion().await();
+
+        AssertSubscriber<Message<Integer>> subscriber = EventBusHelper.<Integer, Integer> requestAll(eventBus, "fail",
+                Multi.createFrom().iterable(range(100)), new RequestAllOptions().setMaxInFlight(4))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure(err -> assertThat(err).isInstanceOf(ReplyException.class).hasMessage("boom"));
+        // The replies of the previous requests are emitted first, and no request is sent after the failure
+        assertThat(subscriber.getItems()).extracting(Message::body).containsExactly(0, 1, 2);
+        assertThat(received.get()).isLessThan(10);
+    }
+
+    @Test
+    public void timeout() {
+        bare.<Integer> consumer("silent", msg -> {
+            if (msg.body() == 0) {
+                msg.reply(0);
+            }
+        }).completion().await();
+
+        AssertSubscriber<Message<Integer>> subscriber = EventBusHelper.<Integer, Integer> requestAll(eventBus, "silent",
+                Multi.createFrom().iterable(range(3)),
+                new RequestAllOptions().setDeliveryOptions(new DeliveryOptions().setSendTimeout(50)))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure(err -> assertThat(err).isInstanceOf(ReplyException.class));
+        assertThat(subscriber.getItems()).extracting(Message::body).containsExactly(0);
+    }
+
+    @Test
+    public void upstreamFailureAndEmptyUpstream() {
+        bare.<Integer> consumer("echo", msg -> msg.reply(msg.body())).completion().await();
+
+        EventBusHelper
+                .<Integer, Integer> requestAll(eventBus, "echo", Multi.createFrom().failure(new IllegalStateException("boom")))
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .awaitFailure(err -> assertThat(err).isInstanceOf(IllegalStateException.class));
+
+        EventBusHelper.<Integer, Integer> requestAll(eventBus, "echo", Multi.createFrom().empty())
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .awaitCompletion()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void cancellation() {
+        AtomicInteger received = new AtomicInteger();
+        bare.<Integer> consumer("echo", msg -> {
+            received.incrementAndGet();
+            msg.reply(msg.body());
+        }).completion().await();
+
+        AssertSubscriber<Message<Integer>> subscriber = EventBusHelper.<Integer, Integer> requestAll(eventBus, "echo",
+                Multi.createFrom().iterable(range(100)), new RequestAllOptions().setMaxInFlight(4))
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.awaitItems(1);
+        subscriber.cancel();
+
+        await().pollDelay(Duration.ofMillis(50)).untilAsserted(() -> assertThat(received.get()).isEqualTo(5));
+        subscriber.assertNotTerminated();
+    }
+
+    record Order(String id, int quantity) {
+    }
+
+    @Test
+    public void localCodecPassesTheInstances() {
+        EventBusHelper.registerLocalCodec(eventBus, Order.class);
+        Order order = new Order("a", 1);
+        Order reply = new Order("b", 2);
+        AtomicReference<Object> received = new AtomicReference<>();
+        bare.<Order> consumer("orders", msg -> {
+            received.set(msg.body());
+            msg.reply(reply);
+        }).completion().await();
+
+        Message<Order> response = eventBus.<Order> request("orders", order).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(received.get()).isSameAs(order);
+        assertThat(response.body()).isSameAs(reply);
+        assertThatThrownBy(() -> EventBusHelper.registerLocalCodec(eventBus, Order.class))
+                .isInstanceOf(IllegalStateException.class);
+
+        EventBusHelper.unregisterLocalCodec(eventBus, Order.class);
+        assertThatThrownBy(() -> eventBus.send("orders", order)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void localCodecWireFormat() {
+        LocalCodec<Order> localOnly = LocalCodec.localOnly(Order.class);
+        assertThat(localOnly.isClusterable()).isFalse();
+        assertThatThrownBy(() -> localOnly.encodeToWire(Buffer.buffer(), new Order("a", 1)))
+                .isInstanceOf(IllegalStateException.class);
+
+        LocalCodec<Order> codec = LocalCodec.withWireFormat(Order.class,
+                o -> Buffer.buffer().appendInt(o.quantity()).appendString(o.id()),
+                b -> new Order(b.getString(4, b.length()), b.getInt(0)));
+        assertThat(codec.isClusterable()).isTrue();
+        Buffer wire = Buffer.buffer().appendString("header");
+        codec.encodeToWire(wire, new Order("abc", 3));
+        wire.appendString("trailer");
+        assertThat(codec.decodeFromWire(6, wire)).isEqualTo(new Order("abc", 3));
+    }
+}
@@ -0,0 +1,214 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+public class EventLoopSchedulerTest {
+
+    Vertx vertx;
+
+    ScheduledExecutorService fallback;
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+        fallback = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "fallback"));
+    }
+
+    @AfterEach
+    public void teardown() {
+        fallback.shutdownNow();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void scheduleOnTheCurrentContext() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Context context = vertx.getOrCreateContext();
+
+        CompletableFuture<ScheduledFuture<Context>> scheduled = new CompletableFuture<>();
+        context.runOnContext(() -> scheduled.complete(scheduler.schedule(Vertx::currentContext, 10, TimeUnit.MILLISECONDS)));
+
+        ScheduledFuture<Context> future = scheduled.get(5, TimeUnit.SECONDS);
+        assertThat(future.get(5, TimeUnit.SECONDS).getDelegate()).isSameAs(context.getDelegate());
+        assertThat(future.isDone()).isTrue();
+    }
+
+    @Test
+    public void fallbackOutsideOfAContext() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+
+        ScheduledFuture<String> future = scheduler.schedule(() -> Thread.currentThread().getName(), 10,
+                TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("fallback");
+    }
+
+    @Test
+    public void executeOnTheFallback() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Context context = vertx.getOrCreateContext();
+
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        context.runOnContext(() -> scheduler.execute(() -> thread.complete(Thread.currentThread().getName())));
+
+        assertThat(thread.get(5, TimeUnit.SECONDS)).isEqualTo("fallback");
+        assertThat(scheduler.submit(() -> Context.isOnEventLoopThread()).get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Context context = vertx.getOrCreateContext();
+
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<ScheduledFuture<?>> scheduled = new CompletableFuture<>();
+        context.runOnContext(() -> scheduled.complete(scheduler.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS)));
+
+        ScheduledFuture<?> future = scheduled.get(5, TimeUnit.SECONDS);
+        assertThat(future.cancel(false)).isTrue();
+        Thread.sleep(100);
+        assertThat(ran).isFalse();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void periodicOnTheCurrentContext() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Context context = vertx.getOrCreateContext();
+
+        CompletableFuture<Integer> done = new CompletableFuture<>();
+        context.runOnContext(() -> scheduler.scheduleAtFixedRate(new Runnable() {
+            int count;
+
+            @Override
+            public void run() {
+                // As with setPeriodic, the executions after the first one run on duplicates of the context
+                ContextInternal current = (ContextInternal) Vertx.currentContext().getDelegate();
+                if (current.unwrap() == context.getDelegate() && ++count == 3) {
+                    done.complete(count);
+                }
+            }
+        }, 1, 5, TimeUnit.MILLISECONDS));
+
+        assertThat(done.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    public void rejectOnceShutDown() {
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Context context = vertx.getOrCreateContext();
+        scheduler.shutdown();
+        assertThat(fallback.isShutdown()).isTrue();
+        assertThat(scheduler.isShutdown()).isTrue();
+
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        context.runOnContext(() -> {
+            try {
+                scheduler.schedule(() -> {
+                }, 10, TimeUnit.MILLISECONDS);
+                failure.complete(null);
+            } catch (Throwable err) {
+                failure.complete(err);
+            }
+        });
+        assertThat(failure.join()).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> scheduler.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void installAndUninstall() {
+        Executor executor = Infrastructure.getDefaultExecutor();
+        ScheduledExecutorService workerPool = Infrastructure.getDefaultWorkerPool();
+
+        EventLoopScheduler scheduler = EventLoopScheduler.install();
+        try {
+            assertThat(Infrastructure.getDefaultExecutor()).isSameAs(scheduler);
+            assertThat(Infrastructure.getDefaultWorkerPool()).isSameAs(scheduler);
+            assertThat(EventLoopScheduler.install()).isSameAs(scheduler);
+        } finally {
+            scheduler.uninstall();
+        }
+
+        assertThat(Infrastructure.getDefaultExecutor()).isSameAs(executor);
+        assertThat(Infrastructure.getDefaultWorkerPool()).isNotSameAs(scheduler);
+        assertThat(workerPool.isShutdown()).isEqualTo(Infrastructure.getDefaultWorkerPool() != workerPool);
+        assertThat(Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(10)).await().atMost(
+                Duration.ofSeconds(5))).isEqualTo(1);
+    }
+
+    @Test
+    public void shutDownWhenReplacedInMutiny() {
+        Executor executor = Infrastructure.getDefaultExecutor();
+        EventLoopScheduler scheduler = EventLoopScheduler.withFallback(fallback);
+        Infrastructure.setDefaultExecutor(scheduler, false);
+        fallback.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+
+        // Mutiny calls shutdownNow() on the replaced executor
+        Infrastructure.setDefaultExecutor(executor, true);
+
+        assertThat(Infrastructure.getDefaultExecutor()).isSameAs(executor);
+        assertThat(fallback.isShutdown()).isTrue();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(scheduler.shutdownNow()).isEmpty();
+    }
+
+    @Test
+    public void installedForMutinyDelaysAndTimeouts() throws Exception {
+        EventLoopScheduler scheduler = EventLoopScheduler.install();
+        try {
+            Context context = vertx.getOrCreateContext();
+
+            CompletableFuture<Boolean> delayed = new CompletableFuture<>();
+            context.runOnContext(() -> Uni.createFrom().item(1)
+                    .onItem().delayIt().by(Duration.ofMillis(10))
+                    .subscribe().with(i -> delayed.complete(Vertx.currentContext().getDelegate() == context.getDelegate())));
+            assertThat(delayed.get(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Throwable> timeout = new CompletableFuture<>();
+            context.runOnContext(() -> Uni.createFrom().nothing()
+                    .ifNoItem().after(Duration.ofMillis(10)).fail()
+                    .subscribe().with(i -> {
+                    }, err -> timeout.complete(Context.isOnEventLoopThread() ? err : null)));
+            assertThat(timeout.get(5, TimeUnit.SECONDS)).isInstanceOf(TimeoutException.class);
+
+            CompletableFuture<Boolean> ticks = new CompletableFuture<>();
+            context.runOnContext(() -> Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                    .select().first(3)
+                    .collect().last()
+                    .subscribe().with(l -> ticks.complete(Context.isOnEventLoopThread())));
+            assertThat(ticks.get(5, TimeUnit.SECONDS)).isTrue();
+
+            // Outside of a context, Mutiny keeps its worker pool
+            assertThat(Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(10))
+                    .map(i -> Context.isOnVertxThread())
+                    .await().atMost(Duration.ofSeconds(5))).isFalse();
+        } finally {
+            scheduler.uninstall();
+        }
+    }
+}
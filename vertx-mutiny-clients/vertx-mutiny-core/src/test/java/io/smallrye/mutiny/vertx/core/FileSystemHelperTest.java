@@ -0,0 +1,154 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.file.FileSystem;
+
+public class FileSystemHelperTest {
+
+    @TempDir
+    Path dir;
+
+    Vertx vertx;
+
+    FileSystem fs;
+
+    Path file;
+
+    byte[] content;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        fs = vertx.fileSystem();
+        content = new byte[1_000_003];
+        new Random(42).nextBytes(content);
+        file = Files.write(dir.resolve("data.bin"), content);
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.closeAndAwait();
+    }
+
+    private static byte[] concat(List<Buffer> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chunks.forEach(chunk -> out.writeBytes(chunk.getBytes()));
+        return out.toByteArray();
+    }
+
+    private List<Buffer> read(FileReadOptions options) {
+        return FileSystemHelper.readAsMulti(fs, file.toString(), options)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void readWithTheBufferSize() {
+        for (boolean mapped : new boolean[] { false, true }) {
+            List<Buffer> chunks = read(new FileReadOptions().setBufferSize(64 * 1024).setMemoryMapped(mapped));
+
+            assertThat(chunks).hasSize(16);
+            assertThat(chunks.subList(0, 15)).allSatisfy(chunk -> assertThat(chunk.length()).isEqualTo(64 * 1024));
+            assertThat(concat(chunks)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void readARange() {
+        for (boolean mapped : new boolean[] { false, true }) {
+            List<Buffer> chunks = read(new FileReadOptions().setBufferSize(1000).setPosition(500).setLength(2500)
+                    .setMemoryMapped(mapped));
+
+            assertThat(chunks).extracting(Buffer::length).containsExactly(1000, 1000, 500);
+            assertThat(concat(chunks)).isEqualTo(Arrays.copyOfRange(content, 500, 3000));
+
+            assertThat(read(new FileReadOptions().setPosition(content.length + 10).setMemoryMapped(mapped))).isEmpty();
+        }
+    }
+
+    @Test
+    public void readOnRequest() {
+        for (boolean mapped : new boolean[] { false, true }) {
+            AssertSubscriber<Buffer> subscriber = FileSystemHelper.readAsMulti(fs, file.toString(),
+                    new FileReadOptions().setBufferSize(1000).setMemoryMapped(mapped))
+                    .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+            subscriber.awaitItems(2);
+            subscriber.assertNotTerminated();
+            assertThat(subscriber.getItems()).hasSize(2);
+            subscriber.cancel();
+        }
+    }
+
+    @Test
+    public void mappedRegions() throws IOException {
+        // Regions of 3 chunks of 1000 bytes
+        try (MappedFileReader reader = MappedFileReader.open(file, new FileReadOptions().setBufferSize(1000)
+                .setPosition(10), 3500)) {
+            List<Buffer> chunks = new ArrayList<>();
+            int regions = 0;
+            while (reader.map()) {
+                regions++;
+                Buffer chunk;
+                while ((chunk = reader.next()) != null) {
+                    chunks.add(chunk);
+                }
+            }
+            assertThat(regions).isEqualTo(334);
+            assertThat(chunks).hasSize(1000);
+            assertThat(chunks.get(999).length()).isEqualTo(993);
+            assertThat(concat(chunks)).isEqualTo(Arrays.copyOfRange(content, 10, content.length));
+            assertThatThrownBy(() -> chunks.get(0).setByte(0, (byte) 1)).isInstanceOf(ReadOnlyBufferException.class);
+        }
+    }
+
+    @Test
+    public void mappedChunksAreEmittedOnTheContext() {
+        Context context = vertx.getOrCreateContext();
+        List<Boolean> onContext = new ArrayList<>();
+        Multi<Buffer> multi = Multi.createFrom().<Buffer> emitter(emitter -> context.runOnContext(() -> FileSystemHelper
+                .readAsMulti(fs, file.toString(), new FileReadOptions().setBufferSize(1000).setMemoryMapped(true))
+                .onItem().invoke(chunk -> onContext.add(Vertx.currentContext() != null
+                        && Vertx.currentContext().getDelegate() == context.getDelegate() && Context.isOnEventLoopThread()))
+                .subscribe().with(emitter::emit, emitter::fail, emitter::complete)));
+
+        List<Buffer> chunks = multi.collect().asList().await().atMost(Duration.ofSeconds(10));
+        assertThat(concat(chunks)).isEqualTo(content);
+        assertThat(onContext).hasSize(chunks.size()).containsOnly(true);
+    }
+
+    @Test
+    public void missingFile() {
+        for (boolean mapped : new boolean[] { false, true }) {
+            Multi<Buffer> multi = FileSystemHelper.readAsMulti(fs, dir.resolve("missing").toString(),
+                    new FileReadOptions().setMemoryMapped(mapped));
+
+            multi.subscribe().withSubscriber(AssertSubscriber.create(1))
+                    .awaitFailure(err -> assertThat(err).isInstanceOfAny(FileSystemException.class, IOException.class));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpClientResponse;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+public class HttpServerRequestHelperTest {
+
+    static final String BOUNDARY = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+
+    @TempDir
+    Path spool;
+
+    Vertx vertx;
+
+    byte[] first;
+
+    byte[] second;
+
+    Map<String, byte[]> received = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+        Random random = new Random(42);
+        first = new byte[1_000_000];
+        random.nextBytes(first);
+        second = new byte[300_001];
+        random.nextBytes(second);
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.closeAndAwait();
+    }
+
+    private Buffer body() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"description\"\r\n\r\n"
+                + "two files\r\n").getBytes(StandardCharsets.UTF_8));
+        writePart(out, "first", "first.bin", first);
+        writePart(out, "second", "second.bin", second);
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return Buffer.buffer(out.toByteArray());
+    }
+
+    private static void writePart(ByteArrayOutputStream out, String name, String filename, byte[] content) {
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Uni<byte[]> read(UploadPart part) {
+        return part.content()
+                .collect().in(ByteArrayOutputStream::new, (out, chunk) -> out.writeBytes(chunk.getBytes()))
+                .map(ByteArrayOutputStream::toByteArray);
+    }
+
+    private String upload(Function<HttpServerRequest, Uni<String>> handler) {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(req -> handler.apply(req).subscribe().with(
+                        result -> req.response().endAndForget(result),
+                        err -> req.response().setStatusCode(500).endAndForget(err.toString())))
+                .listen(0)
+                .await().atMost(Duration.ofSeconds(10));
+        return vertx.createHttpClient()
+                .request(HttpMethod.POST, server.actualPort(), "localhost", "/")
+                .chain(request -> request
+                        .putHeader("content-type", "multipart/form-data; boundary=" + BOUNDARY)
+                        .send(body()))
+                .chain(HttpClientResponse::body)
+                .map(Buffer::toString)
+                .await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void readThePartsAsTheyArrive() {
+        UploadOptions options = new UploadOptions().setMemoryThreshold(16 * 1024).setSpoolDirectory(spool.toString());
+        String result = upload(req -> HttpServerRequestHelper.uploads(req, options)
+                .onItem().transformToUniAndConcatenate(part -> read(part).invoke(bytes -> received.put(part.name(), bytes))
+                        .replaceWith(part.filename()))
+                .collect().asList()
+                .map(filenames -> String.join(",", filenames) + ";" + req.formAttributes().get("description")));
+
+        assertThat(result).isEqualTo("first.bin,second.bin;two files");
+        assertThat(received.get("first")).isEqualTo(first);
+        assertThat(received.get("second")).isEqualTo(second);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    public void spoolThePartsReadLater() {
+        UploadOptions options = new UploadOptions().setMemoryThreshold(16 * 1024).setSpoolDirectory(spool.toString());
+        AtomicLong spooledWhileCollected = new AtomicLong();
+        String result = upload(req -> HttpServerRequestHelper.uploads(req, options)
+                .collect().asList()
+                .invoke(parts -> spooledWhileCollected.set(count()))
+                .chain(parts -> Multi.createFrom().iterable(parts)
+                        .onItem().transformToUniAndConcatenate(part -> read(part)
+                                .invoke(bytes -> received.put(part.name(), bytes)))
+                        .collect().asList())
+                .map(List::size)
+                .map(String::valueOf));
+
+        assertThat(result).isEqualTo("2");
+        assertThat(spooledWhileCollected).hasValue(2);
+        assertThat(received.get("first")).isEqualTo(first);
+        assertThat(received.get("second")).isEqualTo(second);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    public void discardTheParts() {
+        UploadOptions options = new UploadOptions().setMemoryThreshold(16 * 1024).setSpoolDirectory(spool.toString());
+        String result = upload(req -> HttpServerRequestHelper.uploads(req, options)
+                .collect().asList()
+                .chain(parts -> Multi.createFrom().iterable(parts)
+                        .onItem().transformToUniAndConcatenate(UploadPart::discard)
+                        .collect().asList()
+                        .chain(x -> read(parts.get(0)).map(bytes -> "read").onFailure()
+                                .recoverWithItem(Throwable::getMessage))));
+
+        assertThat(result).isEqualTo("The content of a part can only be consumed once");
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    public void smallPartsStayInMemory() {
+        UploadOptions options = new UploadOptions().setMemoryThreshold(2_000_000).setSpoolDirectory(spool.toString());
+        AtomicLong spooledWhileCollected = new AtomicLong();
+        String result = upload(req -> HttpServerRequestHelper.uploads(req, options)
+                .collect().asList()
+                .invoke(parts -> spooledWhileCollected.set(count()))
+                .chain(parts -> read(parts.get(1)))
+                .map(bytes -> String.valueOf(bytes.length)));
+
+        assertThat(result).isEqualTo(String.valueOf(second.length));
+        assertThat(spooledWhileCollected).hasValue(0);
+    }
+
+    @Test
+    public void slowConsumerPausesTheRequest() {
+        UploadOptions options = new UploadOptions().setMemoryThreshold(16 * 1024).setSpoolDirectory(spool.toString());
+        String result = upload(req -> HttpServerRequestHelper.uploads(req, options)
+                .onItem().transformToUniAndConcatenate(part -> {
+                    // The next part is not requested while this one is processed
+                    AssertSubscriber<Buffer> content = part.content().subscribe().withSubscriber(AssertSubscriber.create(1));
+                    return Uni.createFrom().voidItem()
+                            .onItem().delayIt().by(Duration.ofMillis(200))
+                            .map(x -> part.bufferedBytes() + ":" + content.getItems().size())
+                            .invoke(content::cancel);
+                })
+                .collect().asList()
+                .map(List::toString));
+
+        Matcher matcher = Pattern.compile("\\[(\\d+):1, (\\d+):1]").matcher(result);
+        assertThat(matcher.matches()).as(result).isTrue();
+        // The memory threshold, plus the chunks delivered while the request is paused
+        assertThat(Long.parseLong(matcher.group(1))).isBetween(16L * 1024, 16L * 1024 + 64 * 1024);
+        assertThat(Long.parseLong(matcher.group(2))).isBetween(16L * 1024, 16L * 1024 + 64 * 1024);
+        assertThat(count()).isZero();
+    }
+
+    private long count() {
+        try (Stream<Path> files = Files.list(spool)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpClientRequest;
+import io.vertx.mutiny.core.http.HttpClientResponse;
+import io.vertx.mutiny.core.http.HttpServer;
+
+public class HttpServerResponseHelperTest {
+
+    @TempDir
+    Path dir;
+
+    Vertx vertx;
+
+    byte[] first;
+
+    byte[] second;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        Random random = new Random(42);
+        first = new byte[300_000];
+        random.nextBytes(first);
+        second = new byte[70_001];
+        random.nextBytes(second);
+        Files.write(dir.resolve("first.bin"), first);
+        Files.write(dir.resolve("second.bin"), second);
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.closeAndAwait();
+    }
+
+    private byte[] expected() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(first);
+        out.writeBytes(Arrays.copyOfRange(second, 1000, 11_000));
+        out.writeBytes(Arrays.copyOfRange(first, 299_000, first.length));
+        return out.toByteArray();
+    }
+
+    private List<FileRange> ranges() {
+        return List.of(
+                FileRange.of(dir.resolve("first.bin").toString()),
+                FileRange.of(dir.resolve("second.bin").toString(), 1000, 10_000),
+                FileRange.of(dir.resolve("first.bin").toString(), 299_000, 5000),
+                FileRange.of(dir.resolve("second.bin").toString(), 100_000, 10));
+    }
+
+    private Buffer get(HttpServerOptions options, List<FileRange> files, Map<String, String> headers) {
+        HttpServer server = vertx.createHttpServer(options)
+                .requestHandler(req -> HttpServerResponseHelper.sendFiles(req.response(), vertx.fileSystem(), files)
+                        .subscribe().with(x -> {
+                        }, err -> req.connection().closeAndForget()))
+                .listen(0)
+                .await().atMost(Duration.ofSeconds(10));
+        return vertx.createHttpClient()
+                .request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+                .chain(HttpClientRequest::send)
+                .invoke(response -> response.headers().forEach(headers::put))
+                .chain(HttpClientResponse::body)
+                .await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void sendSingleRangeWithSendFile() {
+        Map<String, String> headers = new HashMap<>();
+        Buffer body = get(new HttpServerOptions(),
+                List.of(FileRange.of(dir.resolve("second.bin").toString(), 1000, 10_000)), headers);
+
+        assertThat(headers).containsEntry("content-length", "10000").doesNotContainKey("transfer-encoding");
+        assertThat(body.getBytes()).isEqualTo(Arrays.copyOfRange(second, 1000, 11_000));
+    }
+
+    @Test
+    public void sendRanges() {
+        Map<String, String> headers = new HashMap<>();
+        Buffer body = get(new HttpServerOptions(), ranges(), headers);
+
+        assertThat(headers).containsEntry("transfer-encoding", "chunked");
+        assertThat(body.getBytes()).isEqualTo(expected());
+    }
+
+    @Test
+    public void sendRangesWithCompression() {
+        Buffer body = get(new HttpServerOptions().setCompressionSupported(true), ranges(), new HashMap<>());
+
+        assertThat(body.getBytes()).isEqualTo(expected());
+    }
+
+    @Test
+    public void sendNoRange() {
+        Buffer body = get(new HttpServerOptions(), List.of(), new HashMap<>());
+
+        assertThat(body.length()).isZero();
+    }
+
+    @Test
+    public void missingFile() {
+        AtomicBoolean failed = new AtomicBoolean();
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(req -> HttpServerResponseHelper.sendFiles(req.response(), vertx.fileSystem(),
+                        List.of(
+                                FileRange.of(dir.resolve("first.bin").toString()),
+                                FileRange.of(dir.resolve("missing.bin").toString())))
+                        .subscribe().with(x -> {
+                        }, err -> {
+                            failed.set(true);
+                            req.connection().closeAndForget();
+                        }))
+                .listen(0)
+                .await().atMost(Duration.ofSeconds(10));
+
+        vertx.createHttpClient()
+                .request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+                .chain(HttpClientRequest::send)
+                .chain(HttpClientResponse::body)
+                .onFailure().recoverWithNull()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(failed).isTrue();
+    }
+}
@@ -0,0 +1,168 @@
+package io.smallrye.mutiny.vertx.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+public class VertxTimerSchedulerTest {
+
+    Vertx vertx;
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.closeAndAwait();
+    }
+
+    private boolean isDuplicate(Context ctx) {
+        return (ctx != null) && ((ContextInternal) ctx.getDelegate()).isDuplicate();
+    }
+
+    @Test
+    public void schedule() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        context.put("foo", "bar");
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withContext(context);
+
+        ScheduledFuture<String> future = scheduler.schedule(() -> {
+            Context ctx = Vertx.currentContext();
+            return isDuplicate(ctx) ? ctx.get("foo") : null;
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("bar");
+    }
+
+    @Test
+    public void executeAndSubmit() throws Exception {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withGetOrCreateContext(vertx);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean ok = new AtomicBoolean();
+        scheduler.execute(() -> {
+            ok.set(isDuplicate(Vertx.currentContext()));
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ok).isTrue();
+
+        assertThat(scheduler.submit(() -> isDuplicate(Vertx.currentContext())).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.invokeAll(List.of(() -> 1, () -> 2))).extracting(f -> f.get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void failures() {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withGetOrCreateContext(vertx);
+
+        ScheduledFuture<Object> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withGetOrCreateContext(vertx);
+        AtomicBoolean called = new AtomicBoolean();
+
+        ScheduledFuture<?> future = scheduler.schedule(() -> called.set(true), 100, TimeUnit.MILLISECONDS);
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(100);
+        assertThat(future.cancel(false)).isTrue();
+
+        Thread.sleep(200);
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withContext(context);
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<Context> contexts = ConcurrentHashMap.newKeySet();
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            contexts.add(Vertx.currentContext());
+            latch.countDown();
+        }, 1, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        // Each execution runs on its own duplicated context
+        assertThat(contexts).hasSizeGreaterThanOrEqualTo(3).allMatch(this::isDuplicate);
+    }
+
+    @Test
+    public void scheduleWithFixedDelayCapturingOnSchedule() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers()
+                .capturingOnSchedule()
+                .withContext(context);
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<Context> contexts = ConcurrentHashMap.newKeySet();
+
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(() -> {
+            contexts.add(Vertx.currentContext());
+            latch.countDown();
+        }, 1, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(contexts).hasSize(1).allMatch(this::isDuplicate);
+    }
+
+    @Test
+    public void periodicTaskStopsAfterAFailure() throws Exception {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withGetOrCreateContext(vertx);
+        AtomicInteger runs = new AtomicInteger();
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            if (runs.incrementAndGet() == 2) {
+                throw new IllegalStateException("boom");
+            }
+        }, 1, 5, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        Thread.sleep(50);
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    public void usage_delay() {
+        ScheduledExecutorService scheduler = ContextAwareScheduler.usingVertxTimers().withGetOrCreateContext(vertx);
+
+        Boolean res = Uni.createFrom().item(123)
+                .onItem().delayIt().onExecutor(scheduler).by(Duration.ofMillis(10))
+                .map(n -> isDuplicate(Vertx.currentContext()))
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(res).isTrue();
+    }
+}
@@ -12,16 +12,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.vertx.FutureUni;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpServerOptions;
@@ -32,6 +36,7 @@ import io.vertx.mutiny.core.eventbus.EventBus;
 import io.vertx.mutiny.core.eventbus.Message;
 import io.vertx.mutiny.core.file.AsyncFile;
 import io.vertx.mutiny.core.http.HttpClient;
+import io.vertx.mutiny.core.http.HttpClientRequest;
 import io.vertx.mutiny.core.http.HttpClientResponse;
 import io.vertx.mutiny.core.http.HttpServer;
 import io.vertx.mutiny.core.http.WebSocket;
@@ -228,4 +233,34 @@ public class CoreTest {
         assertEquals("http://localhost:" + 8082 + "/custom", response.request().absoluteURI());
 
     }
+
+    @Test
+    public void testCancelledSendResetsTheRequest() throws Exception {
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(req -> {
+                    // Never responds, the client cancels before
+                    req.response().closeHandler(() -> closed.complete(null));
+                    received.complete(null);
+                });
+        server.listenAndAwait(0, "localhost");
+
+        HttpClient client = vertx.createHttpClient();
+        HttpClientRequest request = client.request(new RequestOptions().setHost("localhost").setPort(server.actualPort()))
+                .await().indefinitely();
+        AtomicReference<HttpClientResponse> response = new AtomicReference<>();
+        // The hooks generated for HttpClientRequest#send with cancel.io.vertx.core.http.HttpClientRequest#send=reset()
+        // and discard.io.vertx.core.http.HttpClientResponse=request().reset(), opt-in in the shim metadata
+        Uni<HttpClientResponse> send = FutureUni.toUni(() -> request.getDelegate().send(), HttpClientResponse::newInstance,
+                () -> request.getDelegate().reset(), discarded -> discarded.request().reset());
+        Cancellable cancellable = send.subscribe().with(response::set, failure -> {
+        });
+        received.get(5, TimeUnit.SECONDS);
+
+        // Without the reset of the request, the connection would stay open, waiting for the response
+        cancellable.cancel();
+        closed.get(5, TimeUnit.SECONDS);
+        assertThat(response.get()).isNull();
+    }
 }
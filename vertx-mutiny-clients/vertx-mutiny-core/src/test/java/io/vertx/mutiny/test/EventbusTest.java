@@ -1,6 +1,7 @@
 package io.vertx.mutiny.test;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
@@ -11,12 +12,14 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.vertx.core.VertxException;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.eventbus.DeliveryContext;
@@ -130,4 +133,20 @@ public class EventbusTest {
         uni.await().atMost(Duration.ofSeconds(100));
     }
 
+    @Test
+    public void testBatchedConsumer() {
+        EventBus bus = vertx.eventBus();
+        MessageConsumer<Integer> consumer = bus.consumer("address");
+        AssertSubscriber<List<Message<Integer>>> subscriber = consumer.toBatchedMulti(500, Duration.ofMillis(100))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        consumer.completionAndAwait();
+
+        for (int i = 0; i < 1200; i++) {
+            bus.send("address", i);
+        }
+
+        subscriber.awaitItems(3);
+        assertEquals(List.of(500, 500, 200), subscriber.getItems().stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(1199, subscriber.getItems().get(2).get(199).body());
+    }
 }
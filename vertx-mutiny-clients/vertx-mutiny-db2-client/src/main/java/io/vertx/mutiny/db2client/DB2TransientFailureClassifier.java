@@ -0,0 +1,24 @@
+package io.vertx.mutiny.db2client;
+
+import io.vertx.db2client.DB2Exception;
+import io.vertx.mutiny.sqlclient.TransientFailureClassifier;
+
+/**
+ * Considers transient the Db2 deadlocks and lock timeouts rolling back the transaction (SQLCODE {@code -911}).
+ * <p>
+ * The deadlocks and lock timeouts rolling back the statement only (SQLCODE {@code -913}) are not considered transient:
+ * the transaction is still active and must be rolled back, or the statement executed again, by the application.
+ */
+public class DB2TransientFailureClassifier implements TransientFailureClassifier {
+
+    /**
+     * The SQLCODE of the deadlocks and lock timeouts rolling back the transaction.
+     */
+    public static final int DEADLOCK_OR_TIMEOUT_ROLLBACK = -911;
+
+    @Override
+    public boolean isTransient(Throwable failure) {
+        return failure instanceof DB2Exception
+                && ((DB2Exception) failure).getErrorCode() == DEADLOCK_OR_TIMEOUT_ROLLBACK;
+    }
+}
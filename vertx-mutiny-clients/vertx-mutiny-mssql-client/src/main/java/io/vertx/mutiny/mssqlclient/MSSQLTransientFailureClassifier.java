@@ -0,0 +1,30 @@
+package io.vertx.mutiny.mssqlclient;
+
+import io.vertx.mssqlclient.MSSQLException;
+import io.vertx.mutiny.sqlclient.TransientFailureClassifier;
+
+/**
+ * Considers transient the SQL Server deadlocks (error {@code 1205}) and snapshot isolation update conflicts (error
+ * {@code 3960}).
+ */
+public class MSSQLTransientFailureClassifier implements TransientFailureClassifier {
+
+    /**
+     * The error number of the deadlocks.
+     */
+    public static final int DEADLOCK_VICTIM = 1205;
+
+    /**
+     * The error number of the snapshot isolation update conflicts.
+     */
+    public static final int SNAPSHOT_UPDATE_CONFLICT = 3960;
+
+    @Override
+    public boolean isTransient(Throwable failure) {
+        if (failure instanceof MSSQLException) {
+            int errorCode = ((MSSQLException) failure).getErrorCode();
+            return errorCode == DEADLOCK_VICTIM || errorCode == SNAPSHOT_UPDATE_CONFLICT;
+        }
+        return false;
+    }
+}
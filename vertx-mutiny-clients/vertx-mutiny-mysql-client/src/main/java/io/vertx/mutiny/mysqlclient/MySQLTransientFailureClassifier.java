@@ -0,0 +1,23 @@
+package io.vertx.mutiny.mysqlclient;
+
+import io.vertx.mutiny.sqlclient.TransientFailureClassifier;
+import io.vertx.mysqlclient.MySQLException;
+
+/**
+ * Considers transient the MySQL deadlocks ({@code ER_LOCK_DEADLOCK}, error {@code 1213}).
+ * <p>
+ * The lock wait timeouts ({@code ER_LOCK_WAIT_TIMEOUT}, error {@code 1205}) are not considered transient: by default,
+ * MySQL only rolls back the statement, not the transaction.
+ */
+public class MySQLTransientFailureClassifier implements TransientFailureClassifier {
+
+    /**
+     * The error code of the deadlocks.
+     */
+    public static final int ER_LOCK_DEADLOCK = 1213;
+
+    @Override
+    public boolean isTransient(Throwable failure) {
+        return failure instanceof MySQLException && ((MySQLException) failure).getErrorCode() == ER_LOCK_DEADLOCK;
+    }
+}
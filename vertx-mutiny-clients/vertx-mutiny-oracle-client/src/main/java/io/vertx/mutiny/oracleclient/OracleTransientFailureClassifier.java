@@ -0,0 +1,51 @@
+package io.vertx.mutiny.oracleclient;
+
+import java.sql.SQLException;
+
+import io.vertx.mutiny.sqlclient.TransientFailureClassifier;
+import io.vertx.sqlclient.DatabaseException;
+
+/**
+ * Considers transient the Oracle deadlocks ({@code ORA-00060}) and serialization failures ({@code ORA-08177}).
+ * <p>
+ * The Oracle client may report them with the {@link SQLException} of the JDBC driver, or a {@link DatabaseException}
+ * of the client: both are recognized. As other JDBC drivers may be on the classpath, a {@link SQLException} is only
+ * considered when it is an exception of the Oracle driver or its message carries the {@code ORA-} error.
+ */
+public class OracleTransientFailureClassifier implements TransientFailureClassifier {
+
+    /**
+     * The error code of the deadlocks.
+     */
+    public static final int DEADLOCK_DETECTED = 60;
+
+    /**
+     * The error code of the serialization failures.
+     */
+    public static final int CANNOT_SERIALIZE = 8177;
+
+    @Override
+    public boolean isTransient(Throwable failure) {
+        if (failure instanceof SQLException) {
+            int errorCode = ((SQLException) failure).getErrorCode();
+            return isTransient(errorCode) && isOracleFailure(failure, errorCode);
+        }
+        if (failure instanceof DatabaseException && failure.getClass().getName().startsWith("io.vertx.oracleclient.")) {
+            return isTransient(((DatabaseException) failure).getErrorCode());
+        }
+        return false;
+    }
+
+    private static boolean isTransient(int errorCode) {
+        return errorCode == DEADLOCK_DETECTED || errorCode == CANNOT_SERIALIZE;
+    }
+
+    private static boolean isOracleFailure(Throwable failure, int errorCode) {
+        if (failure.getClass().getName().startsWith("oracle.")) {
+            return true;
+        }
+        // The driver also reports errors with the java.sql exceptions, like SQLTransactionRollbackException
+        String message = failure.getMessage();
+        return message != null && message.contains(String.format("ORA-%05d", errorCode));
+    }
+}
@@ -0,0 +1,24 @@
+package io.vertx.mutiny.pgclient;
+
+import io.vertx.mutiny.sqlclient.TransientFailureClassifier;
+import io.vertx.pgclient.PgException;
+
+/**
+ * Considers transient the PostgreSQL serialization failures ({@code 40001}) and deadlocks ({@code 40P01}).
+ */
+public class PgTransientFailureClassifier implements TransientFailureClassifier {
+
+    /**
+     * The SQLSTATE of the deadlocks.
+     */
+    public static final String DEADLOCK_DETECTED = "40P01";
+
+    @Override
+    public boolean isTransient(Throwable failure) {
+        if (failure instanceof PgException) {
+            String sqlState = ((PgException) failure).getSqlState();
+            return SERIALIZATION_FAILURE.equals(sqlState) || DEADLOCK_DETECTED.equals(sqlState);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package io.vertx.mutiny.postgresql;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.sqlclient.ContextConnectionTest;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.PoolOptions;
+
+public class PgContextConnectionTest extends ContextConnectionTest {
+
+    private static final int MAX_POOL_SIZE = 4;
+
+    public static PostgreSQLContainer<?> container = new PostgreSQLContainer<>();
+
+    @BeforeAll
+    public static void init() {
+        container.start();
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        container.stop();
+    }
+
+    Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+
+        PgConnectOptions options = new PgConnectOptions()
+                .setPort(container.getMappedPort(5432))
+                .setHost(container.getContainerIpAddress())
+                .setDatabase(container.getDatabaseName())
+                .setUser(container.getUsername())
+                .setPassword(container.getPassword());
+
+        pool = Pool.pool(vertx, options, new PoolOptions().setMaxSize(MAX_POOL_SIZE));
+
+        initDb();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.close();
+        vertx.closeAndAwait();
+    }
+
+    @Override
+    protected Vertx getVertx() {
+        return vertx;
+    }
+
+    @Override
+    protected String connectionIdSql() {
+        return "select pg_backend_pid()";
+    }
+
+    @Override
+    protected int getMaxPoolSize() {
+        return MAX_POOL_SIZE;
+    }
+}
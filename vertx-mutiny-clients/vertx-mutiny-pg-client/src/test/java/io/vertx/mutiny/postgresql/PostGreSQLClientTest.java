@@ -2,6 +2,10 @@ package io.vertx.mutiny.postgresql;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Uni;
@@ -73,4 +77,37 @@ public class PostGreSQLClientTest extends PGTestBase {
         Void v = uni.await().indefinitely();
         assertThat(v).isNull();
     }
+
+    @Test
+    public void testFlyweightIterator() {
+        PgConnectOptions options = new PgConnectOptions()
+                .setPort(container.getMappedPort(5432))
+                .setHost(container.getContainerIpAddress())
+                .setDatabase(container.getDatabaseName())
+                .setUser(container.getUsername())
+                .setPassword(container.getPassword());
+        Pool client = Pool.pool(vertx, options, new PoolOptions().setMaxSize(5));
+
+        RowSet<Row> rows = client.query("SELECT generate_series(1, 3) AS n").executeAndAwait();
+        List<Integer> values = new ArrayList<>();
+        Row previous = null;
+        for (Iterator<Row> iterator = rows.flyweightIterator(); iterator.hasNext();) {
+            Row row = iterator.next();
+            if (previous != null) {
+                assertThat(row).isSameAs(previous);
+            }
+            previous = row;
+            values.add(row.getInteger("n"));
+        }
+        assertThat(values).containsExactly(1, 2, 3);
+
+        // The items of a mapped row set are not rows, they are returned as is
+        RowSet<Integer> mapped = new RowSet<>(client.getDelegate().query("SELECT generate_series(1, 3) AS n")
+                .mapping(row -> row.getInteger("n"))
+                .execute()
+                .toCompletionStage().toCompletableFuture().join());
+        List<Integer> items = new ArrayList<>();
+        mapped.flyweightIterator().forEachRemaining(items::add);
+        assertThat(items).containsExactly(1, 2, 3);
+    }
 }
@@ -0,0 +1,155 @@
+package io.smallrye.mutiny.vertx;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Configures how the {@link io.smallrye.mutiny.Multi} to {@link io.vertx.core.streams.ReadStream} and
+ * {@link io.vertx.core.streams.WriteStream} to {@link java.util.concurrent.Flow.Subscriber} adapters request items
+ * from their upstream.
+ * <p>
+ * An adapter first requests {@link #getPrefetch() prefetch} items. Once the number of requested items that have not
+ * been consumed yet falls to the {@link #getLowWatermark() low watermark}, it requests enough items to get back to
+ * {@code prefetch}.
+ * <p>
+ * In adaptive mode, the request size starts at {@code prefetch} and is adjusted at each replenishment: it doubles (up to
+ * {@link #getMaxPrefetch() maxPrefetch}) while the consumer keeps up, and halves (down to {@code 1}) when the consumer
+ * pushes back, i.e. when the {@link io.vertx.core.streams.WriteStream#writeQueueFull() write queue is full} or when the
+ * {@link io.vertx.core.streams.ReadStream} is paused with items still buffered. The low watermark is then kept at half
+ * the current request size. Small items thus end up requested in large batches, and large items in small ones.
+ * <p>
+ * When the {@code WriteStream} adapter is created with a {@link WriteCombiner}, the items received during the same
+ * event loop tick are combined and written at once, in batches of at most {@link #getMaxWriteBatchSize()} items.
+ */
+public class FlowControlOptions {
+
+    /**
+     * The default prefetch.
+     */
+    public static final int DEFAULT_PREFETCH = 16;
+
+    /**
+     * The default upper bound of the request size in adaptive mode.
+     */
+    public static final int DEFAULT_MAX_PREFETCH = 1024;
+
+    /**
+     * The default maximum number of items combined into a single write, the default prefetch.
+     */
+    public static final int DEFAULT_MAX_WRITE_BATCH_SIZE = DEFAULT_PREFETCH;
+
+    private int prefetch = DEFAULT_PREFETCH;
+    private int lowWatermark = -1;
+    private boolean adaptive;
+    private int maxPrefetch = DEFAULT_MAX_PREFETCH;
+    private int maxWriteBatchSize = DEFAULT_MAX_WRITE_BATCH_SIZE;
+
+    public FlowControlOptions() {
+    }
+
+    public FlowControlOptions(FlowControlOptions other) {
+        this.prefetch = other.prefetch;
+        this.lowWatermark = other.lowWatermark;
+        this.adaptive = other.adaptive;
+        this.maxPrefetch = other.maxPrefetch;
+        this.maxWriteBatchSize = other.maxWriteBatchSize;
+    }
+
+    /**
+     * @return the number of items requested upfront, and the size of the buffer of the {@code ReadStream} adapter
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the number of items requested upfront. Defaults to {@link #DEFAULT_PREFETCH}.
+     *
+     * @param prefetch the prefetch, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FlowControlOptions setPrefetch(int prefetch) {
+        this.prefetch = ParameterValidation.positive(prefetch, "prefetch");
+        return this;
+    }
+
+    /**
+     * @return the number of outstanding items at or below which the adapter requests more items, defaults to half the
+     *         prefetch
+     */
+    public int getLowWatermark() {
+        return lowWatermark < 0 ? prefetch / 2 : lowWatermark;
+    }
+
+    /**
+     * Sets the number of requested but not yet consumed items at or below which the adapter replenishes its demand.
+     * {@code 0} waits for every requested item to be consumed before requesting again.
+     *
+     * @param lowWatermark the low watermark, must be positive or zero and lower than the prefetch
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FlowControlOptions setLowWatermark(int lowWatermark) {
+        this.lowWatermark = ParameterValidation.positiveOrZero(lowWatermark, "lowWatermark");
+        return this;
+    }
+
+    /**
+     * @return whether the request size adapts to the consumer
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Enables or disables the adaptive mode. Disabled by default.
+     *
+     * @param adaptive {@code true} to enable the adaptive mode
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FlowControlOptions setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        return this;
+    }
+
+    /**
+     * @return the upper bound of the request size in adaptive mode
+     */
+    public int getMaxPrefetch() {
+        return maxPrefetch;
+    }
+
+    /**
+     * Sets the upper bound of the request size in adaptive mode. Defaults to {@link #DEFAULT_MAX_PREFETCH}.
+     * In adaptive mode, the {@code ReadStream} adapter sizes its buffer to this value.
+     *
+     * @param maxPrefetch the maximum prefetch, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FlowControlOptions setMaxPrefetch(int maxPrefetch) {
+        this.maxPrefetch = ParameterValidation.positive(maxPrefetch, "maxPrefetch");
+        return this;
+    }
+
+    /**
+     * @return the maximum number of items combined into a single write by a {@code WriteStream} adapter using a
+     *         {@link WriteCombiner}
+     */
+    public int getMaxWriteBatchSize() {
+        return maxWriteBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of items combined into a single write. Defaults to
+     * {@link #DEFAULT_MAX_WRITE_BATCH_SIZE}. Only used by the {@code WriteStream} adapters created with a
+     * {@link WriteCombiner}: a batch is written as soon as it reaches this size, without waiting for the end of the
+     * event loop tick, which bounds the memory held by the adapter. A batch never holds more items than requested at
+     * once, so the size is capped at the {@link #getPrefetch() prefetch}, or at the {@link #getMaxPrefetch()
+     * maxPrefetch} in adaptive mode.
+     *
+     * @param maxWriteBatchSize the maximum batch size, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public FlowControlOptions setMaxWriteBatchSize(int maxWriteBatchSize) {
+        this.maxWriteBatchSize = ParameterValidation.positive(maxWriteBatchSize, "maxWriteBatchSize");
+        return this;
+    }
+}
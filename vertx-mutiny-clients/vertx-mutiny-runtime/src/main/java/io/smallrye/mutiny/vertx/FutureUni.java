@@ -0,0 +1,238 @@
+package io.smallrye.mutiny.vertx;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+
+/**
+ * A {@link Uni} emitting the outcome of a Vert.x {@link Future}.
+ * <p>
+ * Unlike {@code Uni.createFrom().completionStage(() -> future.toCompletionStage())}, it registers a single handler with
+ * {@link Future#onComplete(Handler)} and does not go through a {@link java.util.concurrent.CompletableFuture}.
+ * When created from a {@link Supplier}, the supplier is called for each subscription, so the operation producing the
+ * future is only triggered on subscription.
+ * <p>
+ * An optional mapper transforms the result from the completion handler, which avoids an additional
+ * {@link Uni#map(Function)} stage when the result only needs to be wrapped. A failure thrown by the mapper is
+ * propagated downstream.
+ * <p>
+ * Vert.x futures cannot be cancelled: by default, cancelling the subscription only stops the signals from being
+ * propagated downstream. Two optional hooks let the caller release the resources of the operation instead:
+ * <ul>
+ * <li>{@code onCancellation} is called when the subscription is cancelled after the future has been obtained, and
+ * before it completes, e.g. to reset a request or close a cursor;</li>
+ * <li>{@code onDiscard} receives the result of a future that completes successfully after the cancellation, e.g. to
+ * close a connection nobody is going to use.</li>
+ * </ul>
+ * Failures thrown by these hooks are reported to {@link Infrastructure#handleDroppedException(Throwable)}.
+ *
+ * @param <T> the type of item
+ */
+public class FutureUni<T> extends AbstractUni<T> implements Uni<T> {
+
+    private final Supplier<? extends Future<?>> supplier;
+    private final Future<?> future;
+    private final Function<Object, ? extends T> mapper;
+    private final Runnable onCancellation;
+    private final Consumer<Object> onDiscard;
+
+    public static <T> Uni<T> toUni(Supplier<? extends Future<? extends T>> supplier) {
+        return new FutureUni<>(ParameterValidation.nonNull(supplier, "supplier"), null, null, null, null);
+    }
+
+    public static <T> Uni<T> toUni(Future<? extends T> future) {
+        return new FutureUni<>(null, ParameterValidation.nonNull(future, "future"), null, null, null);
+    }
+
+    public static <R, T> Uni<T> toUni(Supplier<? extends Future<? extends R>> supplier,
+            Function<? super R, ? extends T> mapper) {
+        return new FutureUni<>(ParameterValidation.nonNull(supplier, "supplier"), null,
+                ParameterValidation.nonNull(mapper, "mapper"), null, null);
+    }
+
+    public static <R, T> Uni<T> toUni(Future<? extends R> future, Function<? super R, ? extends T> mapper) {
+        return new FutureUni<>(null, ParameterValidation.nonNull(future, "future"),
+                ParameterValidation.nonNull(mapper, "mapper"), null, null);
+    }
+
+    /**
+     * Creates a {@link Uni} from a {@link Supplier} of {@link Future}, with cancellation hooks.
+     *
+     * @param supplier the supplier called for each subscription, must not be {@code null}
+     * @param mapper the mapper applied to the result, must not be {@code null}
+     * @param onCancellation called when the subscription is cancelled while the future is pending, can be {@code null}
+     * @param onDiscard receives the results produced after the cancellation, can be {@code null}
+     * @return the uni
+     * @param <R> the type of result of the future
+     * @param <T> the type of item
+     */
+    public static <R, T> Uni<T> toUni(Supplier<? extends Future<? extends R>> supplier,
+            Function<? super R, ? extends T> mapper, Runnable onCancellation, Consumer<? super R> onDiscard) {
+        return new FutureUni<>(ParameterValidation.nonNull(supplier, "supplier"), null,
+                ParameterValidation.nonNull(mapper, "mapper"), onCancellation, onDiscard);
+    }
+
+    /**
+     * Waits for the item of the given {@link Uni}, as the generated {@code AndAwait} methods do.
+     * <p>
+     * When called from a Vert.x virtual thread context, a {@link FutureUni} is not subscribed: its future is obtained
+     * and awaited with {@link Future#await()}, which suspends the virtual thread. Other {@link Uni Unis}, and other
+     * threads, use {@code uni.await().indefinitely()}. An event loop thread cannot be blocked, so the call is rejected
+     * before the operation starts.
+     *
+     * @param uni the uni, must not be {@code null}
+     * @return the item, {@code null} for a {@code Uni<Void>}
+     * @param <T> the type of item
+     * @throws IllegalStateException if called from an event loop thread
+     * @throws java.util.concurrent.CompletionException wrapping the checked exceptions, as {@code await()} does
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T await(Uni<T> uni) {
+        ParameterValidation.nonNull(uni, "uni");
+        if (Context.isOnEventLoopThread()) {
+            throw new IllegalStateException("The current thread is a Vert.x event loop thread and cannot be blocked: "
+                    + Thread.currentThread().getName());
+        }
+        Context context = Vertx.currentContext();
+        if (!(uni instanceof FutureUni<T> futureUni) || context == null
+                || context.threadingModel() != ThreadingModel.VIRTUAL_THREAD) {
+            return uni.await().indefinitely();
+        }
+        Future<?> actual = futureUni.future != null ? futureUni.future : futureUni.supplier.get();
+        if (actual == null) {
+            throw new NullPointerException("The supplier produced a `null` future");
+        }
+        Object result;
+        try {
+            result = actual.await();
+        } catch (RuntimeException | Error failure) {
+            throw failure;
+        } catch (Throwable failure) {
+            throw new CompletionException(failure);
+        }
+        return futureUni.mapper == null ? (T) result : futureUni.mapper.apply(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private FutureUni(Supplier<? extends Future<?>> supplier, Future<?> future, Function<?, ? extends T> mapper,
+            Runnable onCancellation, Consumer<?> onDiscard) {
+        this.supplier = supplier == null ? null : Infrastructure.decorate(supplier);
+        this.future = future;
+        this.mapper = (Function<Object, ? extends T>) mapper;
+        this.onCancellation = onCancellation;
+        this.onDiscard = (Consumer<Object>) onDiscard;
+    }
+
+    @Override
+    public void subscribe(UniSubscriber<? super T> downstream) {
+        FutureSubscription<T> subscription = new FutureSubscription<>(downstream, mapper, onCancellation, onDiscard);
+        downstream.onSubscribe(subscription);
+        if (subscription.get() != FutureSubscription.INIT) {
+            return;
+        }
+        Future<?> actual;
+        try {
+            actual = future != null ? future : supplier.get();
+        } catch (Throwable failure) {
+            subscription.fail(failure);
+            return;
+        }
+        if (actual == null) {
+            subscription.fail(new NullPointerException("The supplier produced a `null` future"));
+            return;
+        }
+        if (!subscription.compareAndSet(FutureSubscription.INIT, FutureSubscription.PENDING)) {
+            // Cancelled while the operation was being started
+            subscription.cancelled();
+        }
+        @SuppressWarnings("unchecked")
+        Future<Object> result = (Future<Object>) actual;
+        result.onComplete(subscription);
+    }
+
+    private static final class FutureSubscription<T> extends AtomicInteger
+            implements UniSubscription, Handler<AsyncResult<Object>> {
+
+        static final int INIT = 0;
+        static final int PENDING = 1;
+        static final int DONE = 2;
+
+        private final UniSubscriber<? super T> downstream;
+        private final Function<Object, ? extends T> mapper;
+        private final Runnable onCancellation;
+        private final Consumer<Object> onDiscard;
+
+        private FutureSubscription(UniSubscriber<? super T> downstream, Function<Object, ? extends T> mapper,
+                Runnable onCancellation, Consumer<Object> onDiscard) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.onCancellation = onCancellation;
+            this.onDiscard = onDiscard;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void handle(AsyncResult<Object> ar) {
+            if (getAndSet(DONE) != PENDING) {
+                if (onDiscard != null && ar.succeeded() && ar.result() != null) {
+                    try {
+                        onDiscard.accept(ar.result());
+                    } catch (Throwable failure) {
+                        Infrastructure.handleDroppedException(failure);
+                    }
+                }
+                return;
+            }
+            if (ar.failed()) {
+                downstream.onFailure(ar.cause());
+                return;
+            }
+            T item;
+            try {
+                item = mapper == null ? (T) ar.result() : mapper.apply(ar.result());
+            } catch (Throwable failure) {
+                downstream.onFailure(failure);
+                return;
+            }
+            downstream.onItem(item);
+        }
+
+        void fail(Throwable failure) {
+            if (getAndSet(DONE) == INIT) {
+                downstream.onFailure(failure);
+            }
+        }
+
+        void cancelled() {
+            if (onCancellation != null) {
+                try {
+                    onCancellation.run();
+                } catch (Throwable failure) {
+                    Infrastructure.handleDroppedException(failure);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (getAndSet(DONE) == PENDING) {
+                cancelled();
+            }
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package io.smallrye.mutiny.vertx;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.impl.BatchedMultiReadStream;
+import io.smallrye.mutiny.vertx.impl.JsonStreamEncoder;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
 
 public class MultiHelper {
@@ -19,6 +24,18 @@ public class MultiHelper {
         return ReadStreamSubscriber.asReadStream(observable, Function.identity());
     }
 
+    /**
+     * Like {@link #toReadStream(Multi)} but with the given {@link FlowControlOptions} governing how items are requested
+     * from the {@link Multi<T>}.
+     *
+     * @param observable the observable to adapt
+     * @param options the flow control options
+     * @return the adapted stream
+     */
+    public static <T> ReadStream<T> toReadStream(Multi<T> observable, FlowControlOptions options) {
+        return ReadStreamSubscriber.asReadStream(observable, Function.identity(), options);
+    }
+
     /**
      * Like {@link #toMulti(ReadStream)} but with a {@code mapping} function
      */
@@ -39,4 +56,118 @@ public class MultiHelper {
         return new MultiReadStream<>(stream, Function.identity());
     }
 
+    /**
+     * Adapts a Vert.x {@link ReadStream<T>} to a Mutiny {@link Multi} emitting the items in batches of at most
+     * {@code maxSize} items. A batch is emitted once full, or {@code maxDelay} after its first item was received, so
+     * the downstream gets one signal per batch.
+     * <p>
+     * The items are fetched from the stream for the requested batches, at most two batches ahead, the other items stay
+     * in the buffer of the stream. For a {@code MessageConsumer}, this buffer is bounded by
+     * {@code MessageConsumerOptions#setMaxBufferedMessages}. As with {@link #toMulti(ReadStream)}, the original stream
+     * handlers should not be used anymore.
+     *
+     * @param stream the stream to adapt
+     * @param maxSize the maximum number of items of a batch, must be strictly positive
+     * @param maxDelay the maximum delay between the first item of a batch and its emission, must be strictly positive
+     * @return the adapted stream of batches
+     */
+    public static <T> Multi<List<T>> toBatchedMulti(ReadStream<T> stream, int maxSize, Duration maxDelay) {
+        return new BatchedMultiReadStream<>(stream, Function.identity(), maxSize, maxDelay);
+    }
+
+    /**
+     * Like {@link #toBatchedMulti(ReadStream, int, Duration)} but with a {@code mapping} function
+     */
+    public static <T, U> Multi<List<U>> toBatchedMulti(ReadStream<T> stream, Function<T, U> mapping, int maxSize,
+            Duration maxDelay) {
+        return new BatchedMultiReadStream<>(stream, mapping, maxSize, maxDelay);
+    }
+
+    /**
+     * Encodes the items into a JSON array, emitted as chunks of about 8 KB.
+     * <p>
+     * The items are typically {@link io.vertx.core.json.JsonObject JsonObjects}, SQL rows can be mapped with
+     * {@code Row::toJson}. The returned {@link Multi} can be written to an HTTP response with
+     * {@link MutinyHelper#toSubscriber(io.vertx.core.streams.WriteStream)}, the items are encoded as the response
+     * requests chunks.
+     *
+     * @param items the items to encode
+     * @return the chunks of the JSON array
+     * @see #encodeJsonArray(Multi, int)
+     */
+    public static Multi<Buffer> encodeJsonArray(Multi<?> items) {
+        return encodeJsonArray(items, JsonStreamEncoder.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Like {@link #encodeJsonArray(Multi)} but with the given chunk size. A chunk is emitted once it reaches
+     * {@code chunkSize} bytes, or when the items do not arrive right away.
+     *
+     * @param items the items to encode
+     * @param chunkSize the target size of the chunks, in bytes
+     * @return the chunks of the JSON array
+     */
+    public static Multi<Buffer> encodeJsonArray(Multi<?> items, int chunkSize) {
+        return JsonStreamEncoder.jsonArray(items, chunkSize);
+    }
+
+    /**
+     * Encodes the items into newline delimited JSON, emitted as chunks of about 8 KB.
+     *
+     * @param items the items to encode
+     * @return the NDJSON chunks
+     * @see #encodeJsonArray(Multi)
+     */
+    public static Multi<Buffer> encodeNdjson(Multi<?> items) {
+        return encodeNdjson(items, JsonStreamEncoder.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Like {@link #encodeNdjson(Multi)} but with the given chunk size.
+     *
+     * @param items the items to encode
+     * @param chunkSize the target size of the chunks, in bytes
+     * @return the NDJSON chunks
+     */
+    public static Multi<Buffer> encodeNdjson(Multi<?> items, int chunkSize) {
+        return JsonStreamEncoder.ndjson(items, chunkSize);
+    }
+
+    /**
+     * Like {@link #encodeJsonArray(Multi, int)}, adapted to a {@link ReadStream}, for instance to be piped to an HTTP
+     * response.
+     *
+     * @param items the items to encode
+     * @param chunkSize the target size of the chunks, in bytes
+     * @return the stream of the JSON array chunks
+     */
+    public static ReadStream<Buffer> toJsonArrayStream(Multi<?> items, int chunkSize) {
+        return toReadStream(encodeJsonArray(items, chunkSize));
+    }
+
+    /**
+     * Like {@link #toJsonArrayStream(Multi, int)} with chunks of about 8 KB.
+     */
+    public static ReadStream<Buffer> toJsonArrayStream(Multi<?> items) {
+        return toReadStream(encodeJsonArray(items));
+    }
+
+    /**
+     * Like {@link #encodeNdjson(Multi, int)}, adapted to a {@link ReadStream}.
+     *
+     * @param items the items to encode
+     * @param chunkSize the target size of the chunks, in bytes
+     * @return the stream of the NDJSON chunks
+     */
+    public static ReadStream<Buffer> toNdjsonStream(Multi<?> items, int chunkSize) {
+        return toReadStream(encodeNdjson(items, chunkSize));
+    }
+
+    /**
+     * Like {@link #toNdjsonStream(Multi, int)} with chunks of about 8 KB.
+     */
+    public static ReadStream<Buffer> toNdjsonStream(Multi<?> items) {
+        return toReadStream(encodeNdjson(items));
+    }
+
 }
@@ -1,14 +1,19 @@
 package io.smallrye.mutiny.vertx;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.vertx.impl.ContextExecutor;
 import io.smallrye.mutiny.vertx.impl.WriteStreamSubscriberImpl;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.streams.WriteStream;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -36,6 +41,40 @@ public class MutinyHelper {
 
     }
 
+    /**
+     * Like {@link #executor(io.vertx.core.Context)}, except actions submitted from the event loop thread of this
+     * context, while it is the current context, are executed inline rather than dispatched with
+     * {@link io.vertx.core.Context#runOnContext(Handler)}.
+     * <p>
+     * Actions submitted by an action executed inline are queued and executed when it returns, in order, so recursive
+     * submissions do not grow the stack. Failures are reported to the context exception handler, as with
+     * {@code runOnContext}.
+     * <p>
+     * Use it with {@code emitOn} to come back to a context without a hop when the item is already emitted on it:
+     *
+     * <pre>
+     * client.get("/").emitOn(MutinyHelper.contextAwareExecutor(context))
+     * </pre>
+     *
+     * @param context the context object
+     * @return the executor
+     */
+    public static Executor contextAwareExecutor(io.vertx.core.Context context) {
+        return ContextExecutor.of(context);
+    }
+
+    /**
+     * Like {@link #executor(io.vertx.core.Vertx)}, except actions submitted from an event loop thread, while a context
+     * of this {@link Vertx} instance is current, are executed inline on that context.
+     *
+     * @param vertx the vert.x object
+     * @return the executor
+     * @see #contextAwareExecutor(io.vertx.core.Context)
+     */
+    public static Executor contextAwareExecutor(io.vertx.core.Vertx vertx) {
+        return ContextExecutor.of(vertx);
+    }
+
     /**
      * Create an executor for a {@link io.vertx.core.Vertx} object, actions can be blocking, they are not executed
      * on Vert.x event loop.
@@ -81,6 +120,65 @@ public class MutinyHelper {
         });
     }
 
+    /**
+     * Create an executor for a {@link io.vertx.core.Vertx} object, actions can be blocking, each of them is executed
+     * on its own virtual thread, in a Vert.x virtual thread context.
+     * <p>
+     * Unlike {@link #blockingExecutor(Vertx)}, the actions are not bounded by the size of the worker pool, so blocking
+     * calls do not queue behind each other. Within an action, {@link io.vertx.core.Future#await()} suspends the
+     * virtual thread instead of blocking a carrier thread.
+     *
+     * @param vertx the vert.x object
+     * @return the executor
+     * @throws IllegalStateException if virtual threads are not available, they require Java 21 or later
+     */
+    public static Executor virtualThreadExecutor(Vertx vertx) {
+        VertxInternal internal = (VertxInternal) ParameterValidation.nonNull(vertx, "vertx");
+        if (!internal.isVirtualThreadAvailable()) {
+            throw new IllegalStateException("Virtual threads are not available, they require Java 21 or later");
+        }
+        return command -> internal.createVirtualThreadContext().runOnContext(v -> command.run());
+    }
+
+    /**
+     * Executes the given blocking {@code task} on a virtual thread, see {@link #virtualThreadExecutor(Vertx)}, and
+     * emits its result on the context of the subscriber.
+     * <p>
+     * The context is captured when subscribing to the returned {@link Uni}: the result or the failure is emitted on
+     * that context, so the pipeline continues where it started. Without context, the result is emitted on the virtual
+     * thread.
+     *
+     * @param vertx the vert.x object
+     * @param task the blocking task
+     * @return a {@link Uni} emitting the result of the task
+     * @throws IllegalStateException if virtual threads are not available, they require Java 21 or later
+     */
+    public static <T> Uni<T> executeOnVirtualThread(Vertx vertx, Callable<T> task) {
+        ParameterValidation.nonNull(task, "task");
+        Executor executor = virtualThreadExecutor(vertx);
+        return Uni.createFrom().emitter(emitter -> {
+            io.vertx.core.Context origin = Vertx.currentContext();
+            executor.execute(() -> {
+                T result;
+                try {
+                    result = task.call();
+                } catch (Throwable failure) {
+                    emitOn(origin, () -> emitter.fail(failure));
+                    return;
+                }
+                emitOn(origin, () -> emitter.complete(result));
+            });
+        });
+    }
+
+    private static void emitOn(io.vertx.core.Context context, Runnable emission) {
+        if (context == null) {
+            emission.run();
+        } else {
+            context.runOnContext(v -> emission.run());
+        }
+    }
+
     /**
      * Unwrap the type used in Mutiny.
      *
@@ -137,4 +235,51 @@ public class MutinyHelper {
     public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping) {
         return new WriteStreamSubscriberImpl<>(stream, mapping);
     }
+
+    /**
+     * Like {@link #toSubscriber(WriteStream)}, except the provided {@link FlowControlOptions} govern how items are
+     * requested from the upstream.
+     */
+    public static <T> WriteStreamSubscriber<T> toSubscriber(WriteStream<T> stream, FlowControlOptions options) {
+        return toSubscriber(stream, Function.identity(), options);
+    }
+
+    /**
+     * Like {@link #toSubscriber(WriteStream, Function)}, except the provided {@link FlowControlOptions} govern how
+     * items are requested from the upstream.
+     */
+    public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping,
+            FlowControlOptions options) {
+        return new WriteStreamSubscriberImpl<>(stream, mapping, options);
+    }
+
+    /**
+     * Like {@link #toSubscriber(WriteStream, FlowControlOptions)}, except the items received during the same event loop
+     * tick are combined with the given {@code combiner} and written at once, in batches of at most
+     * {@link FlowControlOptions#getMaxWriteBatchSize()} items, capped at the prefetch.
+     * <p>
+     * The adapter flushes its batch at the end of the tick on the context it was subscribed on, or on the emitting
+     * context. Without any Vert.x context, the items are written one by one. The back-pressure is unchanged: once a
+     * batch is written, the adapter stops requesting items when {@link WriteStream#writeQueueFull()} returns
+     * {@code true} and resumes in the drain handler.
+     *
+     * @param stream the stream to adapt
+     * @param options the flow control options
+     * @param combiner the combiner, e.g. {@link WriteCombiner#buffers()}
+     * @return the adapted {@link Subscriber}
+     */
+    public static <T> WriteStreamSubscriber<T> toSubscriber(WriteStream<T> stream, FlowControlOptions options,
+            WriteCombiner<T> combiner) {
+        return toSubscriber(stream, Function.identity(), options, combiner);
+    }
+
+    /**
+     * Like {@link #toSubscriber(WriteStream, FlowControlOptions, WriteCombiner)}, except the provided {@code mapping}
+     * function is applied to each item before combining them.
+     */
+    public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping,
+            FlowControlOptions options, WriteCombiner<T> combiner) {
+        return new WriteStreamSubscriberImpl<>(stream, mapping, options,
+                ParameterValidation.nonNull(combiner, "combiner"));
+    }
 }
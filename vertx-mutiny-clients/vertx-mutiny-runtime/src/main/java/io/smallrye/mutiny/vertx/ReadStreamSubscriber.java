@@ -1,156 +1,210 @@
 package io.smallrye.mutiny.vertx;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.vertx.impl.DemandWindow;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+/**
+ * Adapts a {@link Publisher} to a Vert.x {@link ReadStream}.
+ * <p>
+ * Upstream signals and {@link ReadStream} calls never take a lock. Every state change records itself in a
+ * work-in-progress counter, and the thread that moves the counter away from zero drains on behalf of all the others,
+ * so items, upstream requests and terminal events are always delivered by a single thread at a time.
+ * Received items are stored in a bounded single-producer / single-consumer queue sized to the prefetch configured by
+ * the {@link FlowControlOptions} ({@link #BUFFER_SIZE} by default): the adapter never has more than that requested
+ * from upstream, and replenishes its demand once the outstanding items fall to the low watermark.
+ * <p>
+ * The stream starts in flowing mode. {@link #pause()}, {@link #resume()} and {@link #fetch(long)} follow the usual
+ * {@link ReadStream} demand semantics.
+ *
+ * @param <R> the type of item received from the publisher
+ * @param <J> the type of item emitted by the stream
+ */
 public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J> {
 
-    private static final Runnable NOOP_ACTION = () -> {
-    };
     private static final Throwable DONE_SENTINEL = new Throwable();
 
-    public static final int BUFFER_SIZE = 16;
+    public static final int BUFFER_SIZE = FlowControlOptions.DEFAULT_PREFETCH;
 
     public static <R, J> ReadStream<J> asReadStream(Publisher<R> multi, Function<R, J> adapter) {
-        ReadStreamSubscriber<R, J> actual = new ReadStreamSubscriber<>(adapter);
+        return asReadStream(multi, adapter, new FlowControlOptions());
+    }
+
+    public static <R, J> ReadStream<J> asReadStream(Publisher<R> multi, Function<R, J> adapter, FlowControlOptions options) {
+        ReadStreamSubscriber<R, J> actual = new ReadStreamSubscriber<>(adapter, options);
         multi.subscribe(actual);
         return actual;
     }
 
     private final Function<R, J> adapter;
-    private Handler<Void> endHandler;
-    private Handler<Throwable> exceptionHandler;
-    private Handler<J> elementHandler;
-    private boolean paused = false;
-    private Throwable completed;
-    private ArrayDeque<R> pending = new ArrayDeque<>();
-    private int requested = 0;
-    private Subscription subscription;
+    private final DemandWindow window;
+    private final Queue<R> pending;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicReference<Throwable> completed = new AtomicReference<>();
+
+    private volatile Subscription subscription;
+    private volatile Handler<J> elementHandler;
+    private volatile Handler<Void> endHandler;
+    private volatile Handler<Throwable> exceptionHandler;
+
+    // Only accessed by the thread owning the drain loop
+    private boolean prefetched;
+    private boolean terminated;
 
     public ReadStreamSubscriber(Function<R, J> adapter) {
+        this(adapter, new FlowControlOptions());
+    }
+
+    public ReadStreamSubscriber(Function<R, J> adapter, FlowControlOptions options) {
+        ParameterValidation.nonNull(options, "options");
         this.adapter = adapter;
+        this.window = new DemandWindow(options);
+        this.pending = Queues.createSpscArrayQueue(DemandWindow.capacity(options));
     }
 
     @Override
     public ReadStream<J> handler(Handler<J> handler) {
-        synchronized (this) {
-            elementHandler = handler;
-        }
-        checkStatus();
+        elementHandler = handler;
+        drain();
         return this;
     }
 
     @Override
     public ReadStream<J> pause() {
-        synchronized (this) {
-            paused = true;
-        }
+        demand.set(0L);
         return this;
     }
 
     @Override
     public ReadStream<J> fetch(long amount) {
-        throw new UnsupportedOperationException("not implemented");
+        ParameterValidation.positiveOrZero(amount, "amount");
+        if (amount > 0L) {
+            Subscriptions.add(demand, amount);
+            drain();
+        }
+        return this;
     }
 
     @Override
     public ReadStream<J> resume() {
-        synchronized (this) {
-            paused = false;
-        }
-        checkStatus();
+        demand.set(Long.MAX_VALUE);
+        drain();
         return this;
     }
 
     @Override
     public void onSubscribe(Subscription s) {
-        synchronized (this) {
-            subscription = s;
-        }
-        checkStatus();
+        subscription = s;
+        drain();
     }
 
-    private void checkStatus() {
-        Runnable action = NOOP_ACTION;
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
         while (true) {
-            J adapted;
-            Handler<J> handler;
-            synchronized (this) {
-                if (!paused && (handler = elementHandler) != null && pending.size() > 0) {
-                    requested--;
-                    R item = pending.poll();
-                    adapted = adapter.apply(item);
-                } else {
-                    if (completed != null) {
-                        if (pending.isEmpty()) {
-                            Handler<Throwable> onError;
-                            Throwable result;
-                            if (completed != DONE_SENTINEL) {
-                                onError = exceptionHandler;
-                                result = completed;
-                                exceptionHandler = null;
-                            } else {
-                                onError = null;
-                                result = null;
-                            }
-                            Handler<Void> onCompleted = endHandler;
-                            endHandler = null;
-                            action = () -> {
-                                try {
-                                    if (onError != null) {
-                                        onError.handle(result);
-                                    }
-                                } finally {
-                                    if (onCompleted != null) {
-                                        onCompleted.handle(null);
-                                    }
-                                }
-                            };
-                        }
-                    } else if (elementHandler != null && requested < BUFFER_SIZE / 2) {
-                        int request = BUFFER_SIZE - requested;
-                        action = () -> subscription.request(request);
-                        requested = BUFFER_SIZE;
+            Subscription s = subscription;
+            Handler<J> handler = elementHandler;
+            if (!prefetched && s != null && handler != null) {
+                prefetched = true;
+                s.request(window.replenish());
+            }
+
+            while (handler != null && !terminated) {
+                if (demand.get() == 0L) {
+                    if (!pending.isEmpty()) {
+                        window.congested();
                     }
                     break;
                 }
+                R item = pending.poll();
+                if (item == null) {
+                    break;
+                }
+                Subscriptions.produced(demand, 1L);
+                try {
+                    handler.handle(adapter.apply(item));
+                } catch (Throwable failure) {
+                    failed(s, failure);
+                    break;
+                }
+                window.consumed();
+                int n = window.replenish();
+                if (n > 0) {
+                    s.request(n);
+                }
+                handler = elementHandler;
+            }
+
+            Throwable done = completed.get();
+            if (done != null && !terminated && pending.isEmpty()) {
+                terminated = true;
+                terminate(done);
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
             }
-            handler.handle(adapted);
         }
-        action.run();
+    }
+
+    private void failed(Subscription s, Throwable failure) {
+        completed.set(failure);
+        pending.clear();
+        s.cancel();
+    }
+
+    private void terminate(Throwable done) {
+        Handler<Throwable> onError = exceptionHandler;
+        Handler<Void> onCompleted = endHandler;
+        exceptionHandler = null;
+        endHandler = null;
+        try {
+            if (done != DONE_SENTINEL && onError != null) {
+                onError.handle(done);
+            }
+        } finally {
+            if (onCompleted != null) {
+                onCompleted.handle(null);
+            }
+        }
+    }
+
+    private boolean isDrained() {
+        return completed.get() != null && pending.isEmpty();
     }
 
     @Override
     public ReadStream<J> endHandler(Handler<Void> handler) {
-        synchronized (this) {
-            if (completed == null || pending.size() > 0) {
-                endHandler = handler;
-            } else {
-                if (handler != null) {
-                    throw new IllegalStateException();
-                }
-            }
+        if (isDrained() && handler != null) {
+            throw new IllegalStateException();
         }
+        endHandler = handler;
         return this;
     }
 
     @Override
     public ReadStream<J> exceptionHandler(Handler<Throwable> handler) {
-        synchronized (this) {
-            if (completed == null || pending.size() > 0) {
-                exceptionHandler = handler;
-            } else {
-                if (handler != null) {
-                    throw new IllegalStateException();
-                }
-            }
+        if (isDrained() && handler != null) {
+            throw new IllegalStateException();
         }
+        exceptionHandler = handler;
         return this;
     }
 
@@ -161,20 +215,18 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
 
     @Override
     public void onError(Throwable e) {
-        synchronized (this) {
-            if (completed != null) {
-                return;
-            }
-            completed = e;
+        if (completed.compareAndSet(null, e)) {
+            drain();
         }
-        checkStatus();
     }
 
     @Override
     public void onNext(R item) {
-        synchronized (this) {
-            pending.add(item);
+        if (!pending.offer(item)) {
+            subscription.cancel();
+            onError(new BackPressureFailure("The upstream emitted more items than requested"));
+            return;
         }
-        checkStatus();
+        drain();
     }
 }
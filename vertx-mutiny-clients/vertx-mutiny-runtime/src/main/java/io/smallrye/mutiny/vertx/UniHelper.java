@@ -73,8 +73,16 @@ public class UniHelper {
         };
     }
 
+    /**
+     * Adapts a Vert.x {@link Future} to a {@link Uni}.
+     * <p>
+     * The returned {@link Uni} registers a handler on the future for each subscription, see {@link FutureUni}.
+     *
+     * @param future the future to adapt
+     * @return the uni
+     */
     public static <T> Uni<T> toUni(Future<T> future) {
-        return Uni.createFrom().completionStage(future.toCompletionStage());
+        return FutureUni.toUni(future);
     }
 
     /**
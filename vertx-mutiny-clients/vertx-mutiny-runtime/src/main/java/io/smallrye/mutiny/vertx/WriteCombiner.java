@@ -0,0 +1,44 @@
+package io.smallrye.mutiny.vertx;
+
+import java.util.List;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Combines the items received by a {@link WriteStreamSubscriber} during the same event loop tick into a single item,
+ * written at once to the {@link io.vertx.core.streams.WriteStream}.
+ * <p>
+ * For instance, combining the small buffers emitted by a {@code Multi<Buffer>} turns many writes and flushes into one.
+ *
+ * @param <T> the type of item written to the stream
+ * @see MutinyHelper#toSubscriber(io.vertx.core.streams.WriteStream, FlowControlOptions, WriteCombiner)
+ */
+@FunctionalInterface
+public interface WriteCombiner<T> {
+
+    /**
+     * Combines the given items.
+     *
+     * @param items the items, in order, at least 2. The list is reused for the following batches once this method
+     *        returns, so it must not be retained
+     * @return the combined item
+     */
+    T combine(List<T> items);
+
+    /**
+     * @return a combiner copying the {@link Buffer buffers} into a single buffer
+     */
+    static WriteCombiner<Buffer> buffers() {
+        return items -> {
+            int length = 0;
+            for (Buffer item : items) {
+                length += item.length();
+            }
+            Buffer combined = Buffer.buffer(length);
+            for (Buffer item : items) {
+                combined.appendBuffer(item);
+            }
+            return combined;
+        };
+    }
+}
@@ -0,0 +1,329 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Adapts a {@link ReadStream} to a {@link Multi} emitting the items in batches of at most {@code maxSize} items. A batch
+ * is emitted once full, or {@code maxDelay} after its first item was received.
+ * <p>
+ * The stream is paused, and items are fetched in credits: the adapter fetches the items of the batches requested by the
+ * downstream, for at most two batches ahead, and fetches again as batches are emitted. A
+ * request for one batch is a single {@code fetch(maxSize)} rather than {@code maxSize} calls. The items not fetched
+ * yet stay in the buffer of the stream, for a {@code MessageConsumer} at most
+ * {@code MessageConsumerOptions.getMaxBufferedMessages()} messages, the messages exceeding it being discarded: this
+ * buffer must be sized for the items received while the downstream processes the batches already emitted.
+ * <p>
+ * The delay of a batch is a timer set on the Vert.x context delivering its first item, or scheduled on the Mutiny
+ * default worker pool when there is no context. A batch closed by its delay while the downstream has not requested it
+ * yet is held, and emitted on request.
+ * <p>
+ * Like {@link io.smallrye.mutiny.vertx.MultiReadStream}, this {@link Multi} accepts a single subscriber. Once the
+ * stream ends, fails or the subscription is cancelled, the handlers are removed and the stream is resumed.
+ *
+ * @param <T> the type of the items of the stream
+ * @param <U> the type of the items of the batches
+ */
+public class BatchedMultiReadStream<T, U> extends AbstractMulti<List<U>> {
+
+    static final int PREFETCHED_BATCHES = 2;
+
+    private final ReadStream<T> source;
+    private final Function<T, U> mapping;
+    private final int maxSize;
+    private final long maxDelay;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public BatchedMultiReadStream(ReadStream<T> source, Function<T, U> mapping, int maxSize, Duration maxDelay) {
+        this.source = ParameterValidation.nonNull(source, "source");
+        this.mapping = Infrastructure.decorate(ParameterValidation.nonNull(mapping, "mapping"));
+        this.maxSize = ParameterValidation.positive(maxSize, "maxSize");
+        this.maxDelay = Math.max(1L, ParameterValidation.validate(maxDelay, "maxDelay").toMillis());
+        source.pause();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super List<U>> downstream) {
+        ParameterValidation.nonNullNpe(downstream, "downstream");
+        if (!subscribed.compareAndSet(false, true)) {
+            Subscriptions.fail(downstream, new IllegalStateException("This processor allows only a single Subscriber"));
+            return;
+        }
+        BatchSubscription subscription = new BatchSubscription(downstream);
+        source.pause();
+        source.endHandler(v -> subscription.onEnd());
+        source.exceptionHandler(subscription::onFailure);
+        source.handler(subscription::onItem);
+        downstream.onSubscribe(subscription);
+    }
+
+    private final class BatchSubscription implements Subscription {
+
+        private final Subscriber<? super List<U>> downstream;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        // Guarded by this
+        private final ArrayDeque<List<U>> ready = new ArrayDeque<>(PREFETCHED_BATCHES + 1);
+        private List<U> current;
+        private Runnable cancelTimer;
+        private long timerGeneration;
+        private long credit;
+        private boolean done;
+        private Throwable failure;
+
+        // Only accessed by the thread owning the drain loop
+        private boolean terminated;
+
+        BatchSubscription(Subscriber<? super List<U>> downstream) {
+            this.downstream = downstream;
+        }
+
+        void onItem(T item) {
+            if (cancelled) {
+                return;
+            }
+            U mapped;
+            try {
+                mapped = mapping.apply(item);
+            } catch (Throwable err) {
+                onFailure(err);
+                return;
+            }
+            boolean first;
+            long generation;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                credit--;
+                if (current == null) {
+                    current = new ArrayList<>(maxSize);
+                }
+                current.add(mapped);
+                first = current.size() == 1;
+                generation = timerGeneration;
+                if (current.size() == maxSize) {
+                    close();
+                    first = false;
+                }
+            }
+            if (first) {
+                startTimer(generation);
+            } else {
+                drain();
+            }
+        }
+
+        private void startTimer(long generation) {
+            Runnable cancel;
+            Context context = Vertx.currentContext();
+            if (context != null) {
+                Vertx vertx = context.owner();
+                long id = vertx.setTimer(maxDelay, l -> onDelay(generation));
+                cancel = () -> vertx.cancelTimer(id);
+            } else {
+                ScheduledFuture<?> future = Infrastructure.getDefaultWorkerPool()
+                        .schedule(() -> onDelay(generation), maxDelay, TimeUnit.MILLISECONDS);
+                cancel = () -> future.cancel(false);
+            }
+            boolean stale;
+            synchronized (this) {
+                stale = generation != timerGeneration;
+                if (!stale) {
+                    cancelTimer = cancel;
+                }
+            }
+            if (stale) {
+                // The batch was closed meanwhile
+                cancel.run();
+            }
+        }
+
+        private void onDelay(long generation) {
+            synchronized (this) {
+                if (generation != timerGeneration || current == null) {
+                    return;
+                }
+                cancelTimer = null;
+                close();
+            }
+            drain();
+        }
+
+        /**
+         * Moves the current batch to the ready batches, and cancels its timer. Must be called while holding the lock.
+         */
+        private void close() {
+            ready.add(current);
+            current = null;
+            timerGeneration++;
+            if (cancelTimer != null) {
+                cancelTimer.run();
+                cancelTimer = null;
+            }
+        }
+
+        void onEnd() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (current != null) {
+                    close();
+                }
+            }
+            release();
+            drain();
+        }
+
+        void onFailure(Throwable err) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                failure = err;
+                timerGeneration++;
+                if (cancelTimer != null) {
+                    cancelTimer.run();
+                    cancelTimer = null;
+                }
+            }
+            release();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                synchronized (this) {
+                    done = true;
+                    ready.clear();
+                    current = null;
+                    timerGeneration++;
+                    if (cancelTimer != null) {
+                        cancelTimer.run();
+                        cancelTimer = null;
+                    }
+                }
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                try {
+                    source.exceptionHandler(null);
+                    source.endHandler(null);
+                    source.handler(null);
+                } catch (Exception ignore) {
+                } finally {
+                    try {
+                        source.resume();
+                    } catch (Exception ignore) {
+                    }
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                long emitted = 0L;
+                long fetch = 0L;
+                while (!cancelled && !terminated) {
+                    List<U> batch;
+                    Throwable err;
+                    boolean completed;
+                    synchronized (this) {
+                        err = failure;
+                        batch = err == null && requested.get() != emitted ? ready.poll() : null;
+                        completed = done && err == null && ready.isEmpty() && batch == null;
+                    }
+                    if (err != null) {
+                        terminated = true;
+                        downstream.onError(err);
+                        break;
+                    }
+                    if (batch != null) {
+                        downstream.onNext(batch);
+                        emitted++;
+                        continue;
+                    }
+                    if (completed) {
+                        terminated = true;
+                        downstream.onComplete();
+                    }
+                    break;
+                }
+
+                if (emitted > 0L) {
+                    Subscriptions.produced(requested, emitted);
+                }
+                if (!cancelled && !terminated) {
+                    synchronized (this) {
+                        if (!done) {
+                            // Fetch the items of the requested batches not received yet
+                            long batches = Math.min(requested.get(), PREFETCHED_BATCHES) - ready.size();
+                            long missing = batches * maxSize - credit - (current == null ? 0 : current.size());
+                            if (missing > 0) {
+                                credit += missing;
+                                fetch = missing;
+                            }
+                        }
+                    }
+                }
+                if (fetch > 0L) {
+                    try {
+                        source.fetch(fetch);
+                    } catch (Throwable err) {
+                        onFailure(err);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * An executor running its tasks on a Vert.x event loop, inline when the caller already runs on the right context.
+ * <p>
+ * A task is run inline when the current thread is an event loop thread and the current context is the context of the
+ * executor, or, for an executor created from a {@link Vertx} instance, any context of that instance. Otherwise, the
+ * task is dispatched with {@code runOnContext}.
+ * <p>
+ * Tasks submitted by a task running inline are trampolined: they are queued and run once the current task returns, so
+ * recursive submissions keep the order of {@code runOnContext} and do not grow the stack.
+ * <p>
+ * Tasks are decorated with {@link Infrastructure#decorate(Runnable)}, whether run inline or dispatched, so the Mutiny
+ * callback decorators, such as context propagation, apply as they do for the other Mutiny executors.
+ */
+public final class ContextExecutor implements Executor {
+
+    private static final ThreadLocal<Trampoline> TRAMPOLINE = ThreadLocal.withInitial(Trampoline::new);
+
+    private final Vertx vertx;
+    private final Context context;
+
+    private ContextExecutor(Vertx vertx, Context context) {
+        this.vertx = vertx;
+        this.context = context;
+    }
+
+    /**
+     * @return an executor running the tasks on the given context
+     */
+    public static Executor of(Context context) {
+        return new ContextExecutor(null, ParameterValidation.nonNull(context, "context"));
+    }
+
+    /**
+     * @return an executor running the tasks on the current context of the caller, or on a new event loop context
+     */
+    public static Executor of(Vertx vertx) {
+        return new ContextExecutor(ParameterValidation.nonNull(vertx, "vertx"), null);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Runnable task = Infrastructure.decorate(ParameterValidation.nonNull(command, "command"));
+        Context current = Context.isOnEventLoopThread() ? Vertx.currentContext() : null;
+        if (current != null && (context != null ? current == context : current.owner() == vertx)) {
+            TRAMPOLINE.get().run(current, task);
+        } else if (context != null) {
+            context.runOnContext(v -> task.run());
+        } else {
+            vertx.runOnContext(v -> task.run());
+        }
+    }
+
+    /**
+     * The tasks run inline on a thread, only accessed by that thread.
+     */
+    private static final class Trampoline {
+
+        private ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private Context running;
+
+        void run(Context context, Runnable task) {
+            if (running == context) {
+                queue.add(task);
+                return;
+            }
+            // Another context dispatched synchronously on the same event loop: its tasks get their own queue, so they
+            // do not run on the outer context
+            Context previousContext = running;
+            ArrayDeque<Runnable> previousQueue = queue;
+            if (previousContext != null) {
+                queue = new ArrayDeque<>(4);
+            }
+            running = context;
+            try {
+                Runnable next = task;
+                while (next != null) {
+                    try {
+                        next.run();
+                    } catch (Throwable failure) {
+                        report(context, failure);
+                    }
+                    next = queue.poll();
+                }
+            } finally {
+                running = previousContext;
+                queue = previousQueue;
+            }
+        }
+
+        /**
+         * Reports the failure as {@code runOnContext} would, rather than to the submitter of the task.
+         */
+        private static void report(Context context, Throwable failure) {
+            Handler<Throwable> handler = context.exceptionHandler();
+            if (handler == null) {
+                handler = context.owner().exceptionHandler();
+            }
+            if (handler != null) {
+                handler.handle(failure);
+            } else {
+                Infrastructure.handleDroppedException(failure);
+            }
+        }
+    }
+}
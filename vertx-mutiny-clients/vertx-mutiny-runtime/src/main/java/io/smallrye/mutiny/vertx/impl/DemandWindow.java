@@ -0,0 +1,86 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import io.smallrye.mutiny.vertx.FlowControlOptions;
+
+/**
+ * Tracks the items an adapter requested from its upstream and did not consume yet, and decides when and how many
+ * items to request, following a {@link FlowControlOptions}.
+ * <p>
+ * This class is not thread-safe, callers must serialize the accesses.
+ */
+public class DemandWindow {
+
+    private final boolean adaptive;
+    private final int maxSize;
+    private final int fixedLowWatermark;
+
+    private int size;
+    private int outstanding;
+    private boolean started;
+    private boolean congested;
+
+    public DemandWindow(FlowControlOptions options) {
+        if (options.getLowWatermark() >= options.getPrefetch()) {
+            throw new IllegalArgumentException("`lowWatermark` must be lower than `prefetch`");
+        }
+        this.adaptive = options.isAdaptive();
+        this.maxSize = capacity(options);
+        this.fixedLowWatermark = options.getLowWatermark();
+        this.size = options.getPrefetch();
+    }
+
+    /**
+     * @param options the options
+     * @return the maximum number of items requested and not consumed at any time by an adapter using these options
+     */
+    public static int capacity(FlowControlOptions options) {
+        return options.isAdaptive() ? Math.max(options.getPrefetch(), options.getMaxPrefetch()) : options.getPrefetch();
+    }
+
+    /**
+     * Records that an item has been consumed.
+     */
+    public void consumed() {
+        outstanding--;
+    }
+
+    /**
+     * Records that the consumer pushed back since the last replenishment.
+     */
+    public void congested() {
+        congested = true;
+    }
+
+    /**
+     * @return the number of outstanding items
+     */
+    public int outstanding() {
+        return outstanding;
+    }
+
+    /**
+     * Computes the number of items to request now, and records them as outstanding.
+     *
+     * @return the number of items to request, {@code 0} if the outstanding items are above the low watermark
+     */
+    public int replenish() {
+        if (outstanding > lowWatermark()) {
+            return 0;
+        }
+        if (adaptive && started) {
+            size = congested ? Math.max(1, size >> 1) : Math.min(maxSize, size << 1);
+        }
+        started = true;
+        congested = false;
+        int n = size - outstanding;
+        if (n <= 0) {
+            return 0;
+        }
+        outstanding = size;
+        return n;
+    }
+
+    private int lowWatermark() {
+        return adaptive && started ? size >> 1 : fixedLowWatermark;
+    }
+}
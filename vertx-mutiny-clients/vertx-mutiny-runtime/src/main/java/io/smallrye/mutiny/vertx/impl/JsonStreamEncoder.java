@@ -0,0 +1,363 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+
+/**
+ * Encodes the items of a {@link Multi} into a JSON array or into newline delimited JSON, emitting {@link Buffer chunks}
+ * of about {@code chunkSize} bytes.
+ * <p>
+ * Each subscription uses a single Jackson generator writing directly into the current chunk, so the items do not get
+ * their own intermediate buffer, and the delimiters are written in place. A chunk is emitted once it reaches
+ * {@code chunkSize}, or earlier when the upstream does not emit the requested items right away, so slow streams are
+ * not delayed: the items received asynchronously are flushed at the end of the current event loop tick, or
+ * immediately without Vert.x context.
+ * <p>
+ * The items are requested from the upstream in batches of 32, and only while the downstream has requested chunks and all
+ * the encoded chunks have been emitted. So the encoder holds at most the chunks encoded from a single batch of items:
+ * one chunk, unless the items of the batch are larger than {@code chunkSize}.
+ * <p>
+ * {@link JsonObject}, {@link JsonArray}, maps, lists and scalar values are encoded by the Vert.x codec. Other items
+ * are encoded with {@link Json#encode(Object)}, which requires Jackson Databind.
+ *
+ * @param <T> the type of item
+ */
+public class JsonStreamEncoder<T> extends AbstractMulti<Buffer> {
+
+    /**
+     * The default size of the emitted chunks.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int REQUEST_SIZE = 32;
+
+    private final Multi<T> upstream;
+    private final boolean array;
+    private final int chunkSize;
+
+    private JsonStreamEncoder(Multi<T> upstream, boolean array, int chunkSize) {
+        this.upstream = ParameterValidation.nonNull(upstream, "upstream");
+        this.array = array;
+        this.chunkSize = ParameterValidation.positive(chunkSize, "chunkSize");
+    }
+
+    /**
+     * @return a {@link Multi} emitting the items as a JSON array: {@code [item1,item2]}
+     */
+    public static <T> Multi<Buffer> jsonArray(Multi<T> upstream, int chunkSize) {
+        return new JsonStreamEncoder<>(upstream, true, chunkSize);
+    }
+
+    /**
+     * @return a {@link Multi} emitting the items as newline delimited JSON: {@code item1\nitem2\n}
+     */
+    public static <T> Multi<Buffer> ndjson(Multi<T> upstream, int chunkSize) {
+        return new JsonStreamEncoder<>(upstream, false, chunkSize);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Buffer> downstream) {
+        upstream.subscribe(new EncoderSubscriber<>(downstream, array, chunkSize));
+    }
+
+    private static final class EncoderSubscriber<T> extends OutputStream implements Subscriber<T>, Subscription {
+
+        private static final Throwable DONE_SENTINEL = new Throwable();
+
+        private final Subscriber<? super Buffer> downstream;
+        private final boolean array;
+        private final int chunkSize;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> completed = new AtomicReference<>();
+        private volatile Subscription subscription;
+        private volatile boolean cancelled;
+        private volatile Thread requesting;
+
+        // Guarded by this
+        private final ArrayDeque<Buffer> ready = new ArrayDeque<>(2);
+        private Buffer chunk;
+        private JsonGenerator generator;
+        private int outstanding;
+        private boolean first = true;
+        private boolean flushScheduled;
+
+        // Only accessed by the thread owning the drain loop
+        private boolean terminated;
+
+        EncoderSubscriber(Subscriber<? super Buffer> downstream, boolean array, int chunkSize) {
+            this.downstream = downstream;
+            this.array = array;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            synchronized (this) {
+                chunk = Buffer.buffer(chunkSize);
+                try {
+                    generator = FACTORY.createGenerator(this);
+                    generator.setRootValueSeparator(null);
+                } catch (IOException e) {
+                    s.cancel();
+                    Subscriptions.fail(downstream, e);
+                    return;
+                }
+            }
+            subscription = s;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            boolean async = Thread.currentThread() != requesting;
+            Context context = null;
+            try {
+                synchronized (this) {
+                    if (generator == null) {
+                        return;
+                    }
+                    outstanding--;
+                    if (array) {
+                        generator.writeRaw(first ? '[' : ',');
+                    }
+                    first = false;
+                    encode(item);
+                    if (!array) {
+                        generator.writeRaw('\n');
+                    }
+                    if (chunk.length() + generator.getOutputBuffered() >= chunkSize) {
+                        cut();
+                    } else if (async && !flushScheduled) {
+                        context = Vertx.currentContext();
+                        if (context == null) {
+                            cut();
+                        } else {
+                            flushScheduled = true;
+                        }
+                    }
+                }
+            } catch (Throwable failure) {
+                subscription.cancel();
+                onError(failure);
+                return;
+            }
+            if (context != null) {
+                context.runOnContext(v -> {
+                    synchronized (this) {
+                        flushScheduled = false;
+                        cutQuietly();
+                    }
+                    drain();
+                });
+            }
+            drain();
+        }
+
+        private void encode(T item) throws IOException {
+            if (item == null || item instanceof JsonObject || item instanceof JsonArray || item instanceof Map
+                    || item instanceof List || item instanceof CharSequence || item instanceof Number
+                    || item instanceof Boolean) {
+                JacksonCodec.encodeJson(item instanceof CharSequence ? item.toString() : item, generator);
+            } else {
+                generator.writeRawValue(Json.encode(item));
+            }
+        }
+
+        /**
+         * Moves the encoded bytes to the current chunk, and queues the chunk if not empty.
+         */
+        private void cut() throws IOException {
+            generator.flush();
+            if (chunk.length() > 0) {
+                ready.add(chunk);
+                chunk = Buffer.buffer(chunkSize);
+            }
+        }
+
+        private void cutQuietly() {
+            if (generator == null) {
+                return;
+            }
+            try {
+                cut();
+            } catch (IOException ignored) {
+                // Cannot happen, the generator writes to memory
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            ParameterValidation.nonNullNpe(failure, "failure");
+            synchronized (this) {
+                release();
+                ready.clear();
+            }
+            if (completed.compareAndSet(null, failure)) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (generator == null) {
+                    return;
+                }
+                try {
+                    if (array) {
+                        if (first) {
+                            generator.writeRaw('[');
+                        }
+                        generator.writeRaw(']');
+                    }
+                    cut();
+                } catch (IOException e) {
+                    ready.clear();
+                    release();
+                    completed.compareAndSet(null, e);
+                    drain();
+                    return;
+                }
+                release();
+            }
+            if (completed.compareAndSet(null, DONE_SENTINEL)) {
+                drain();
+            }
+        }
+
+        /**
+         * Closes the generator, so its internal buffers go back to the Jackson pool.
+         */
+        private void release() {
+            if (generator != null) {
+                try {
+                    generator.close();
+                } catch (IOException ignored) {
+                    // Cannot happen, the generator writes to memory
+                }
+                generator = null;
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                subscription.cancel();
+                onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                subscription.cancel();
+                synchronized (this) {
+                    release();
+                    ready.clear();
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                while (!cancelled && !terminated && requested.get() > 0L) {
+                    Buffer next;
+                    synchronized (this) {
+                        next = ready.poll();
+                    }
+                    if (next == null) {
+                        break;
+                    }
+                    Subscriptions.produced(requested, 1L);
+                    downstream.onNext(next);
+                }
+
+                Throwable done = completed.get();
+                boolean empty;
+                boolean request;
+                synchronized (this) {
+                    empty = ready.isEmpty();
+                    // Do not encode ahead of the downstream demand
+                    request = empty && outstanding == 0 && done == null && !cancelled && requested.get() > 0L;
+                    if (request) {
+                        outstanding = REQUEST_SIZE;
+                    }
+                }
+                if (request) {
+                    requesting = Thread.currentThread();
+                    try {
+                        subscription.request(REQUEST_SIZE);
+                    } finally {
+                        requesting = null;
+                    }
+                    synchronized (this) {
+                        // The upstream did not emit everything synchronously: do not hold back what has been encoded
+                        if (outstanding > 0 && generator != null) {
+                            cutQuietly();
+                        }
+                    }
+                    continue;
+                }
+
+                if (done != null && empty && !terminated && !cancelled) {
+                    terminated = true;
+                    if (done == DONE_SENTINEL) {
+                        downstream.onComplete();
+                    } else {
+                        downstream.onError(done);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        // OutputStream of the generator, appending to the current chunk, called while holding the lock
+
+        @Override
+        public void write(int b) {
+            chunk.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            chunk.appendBytes(b, off, len);
+        }
+    }
+}
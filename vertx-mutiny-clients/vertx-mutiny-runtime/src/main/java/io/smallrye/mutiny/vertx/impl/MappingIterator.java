@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.vertx.impl;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -16,6 +17,32 @@ public class MappingIterator<U, V> implements Iterator<V> {
         this.mapping = mapping;
     }
 
+    /**
+     * Creates an iterator returning the same {@code wrapper} for every non-{@code null} item, after re-targeting it at
+     * the item with {@code rebind}.
+     * <p>
+     * This avoids allocating a wrapper per item when iterating over large collections, but an item returned by
+     * {@link #next()} is only valid until the following call: it must not be stored or used after that.
+     *
+     * @param iterator the iterator of items
+     * @param wrapper the reused wrapper
+     * @param rebind re-targets the wrapper at the given item
+     * @return the iterator
+     * @param <U> the type of item
+     * @param <V> the type of wrapper returned by the iterator
+     * @param <W> the actual type of the wrapper
+     */
+    public static <U, V, W extends V> MappingIterator<U, V> flyweight(Iterator<U> iterator, W wrapper,
+            BiConsumer<? super W, ? super U> rebind) {
+        return new MappingIterator<>(iterator, item -> {
+            if (item == null) {
+                return null;
+            }
+            rebind.accept(wrapper, item);
+            return wrapper;
+        });
+    }
+
     @Override
     public boolean hasNext() {
         return iterator.hasNext();
@@ -1,7 +1,10 @@
 package io.smallrye.mutiny.vertx.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -9,42 +12,93 @@ import java.util.function.Function;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.vertx.FlowControlOptions;
+import io.smallrye.mutiny.vertx.WriteCombiner;
 import io.smallrye.mutiny.vertx.WriteStreamSubscriber;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.core.streams.WriteStream;
 
+/**
+ * Adapts a {@link WriteStream} to a {@link Flow.Subscriber}.
+ * <p>
+ * The stream and the callbacks are never called while holding a lock. The lock only guards the demand window and,
+ * with a combiner, the current batch. The batches, and the terminal events, are written by the thread owning the
+ * drain loop: every flush records itself in a work-in-progress counter, and the thread that moves the counter away
+ * from zero writes the batches on behalf of all the others, so they are written in order, and the stream is ended
+ * after the last one.
+ */
 public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I> {
 
-    private static final int BATCH_SIZE = 16;
+    private static final Throwable COMPLETED = new Throwable();
 
     private final WriteStream<O> stream;
     private final Function<I, O> mapping;
+    private final DemandWindow window;
+    private final WriteCombiner<O> combiner;
+    private final int maxBatchSize;
+
+    // Only used with a combiner, guarded by this. The batch being written is the spare one: the two lists alternate
+    private List<O> batch;
+    private List<O> spare;
+    private boolean flushScheduled;
+
+    private volatile Context context;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> terminal = new AtomicReference<>();
+    // Only accessed by the thread owning the drain loop
+    private boolean terminated;
 
     private AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
     private AtomicBoolean done = new AtomicBoolean();
-    private int outstanding;
 
-    private Consumer<? super Throwable> onFailure;
-    private Runnable onCompletion;
-    private Consumer<? super Throwable> onStreamFailure;
+    private volatile Consumer<? super Throwable> onFailure;
+    private volatile Runnable onCompletion;
+    private volatile Consumer<? super Throwable> onStreamFailure;
 
     public WriteStreamSubscriberImpl(WriteStream<O> stream, Function<I, O> mapping) {
+        this(stream, mapping, new FlowControlOptions());
+    }
+
+    public WriteStreamSubscriberImpl(WriteStream<O> stream, Function<I, O> mapping, FlowControlOptions options) {
+        this(stream, mapping, options, null);
+    }
+
+    /**
+     * Creates a subscriber combining the items received during the same event loop tick with the given
+     * {@code combiner}, if not {@code null}.
+     */
+    public WriteStreamSubscriberImpl(WriteStream<O> stream, Function<I, O> mapping, FlowControlOptions options,
+            WriteCombiner<O> combiner) {
         this.stream = ParameterValidation.nonNull(stream, "writeStream");
         this.mapping = ParameterValidation.nonNull(mapping, "mapping");
+        this.window = new DemandWindow(ParameterValidation.nonNull(options, "options"));
+        this.combiner = combiner;
+        // A batch cannot hold more items than requested at once
+        this.maxBatchSize = Math.min(options.getMaxWriteBatchSize(), DemandWindow.capacity(options));
+        this.batch = combiner == null ? null : new ArrayList<>();
+        this.spare = combiner == null ? null : new ArrayList<>();
     }
 
     @Override
     public void onSubscribe(Flow.Subscription subscription) {
         ParameterValidation.nonNullNpe(subscription, "upstream");
         if (upstream.compareAndSet(null, subscription)) {
+            if (combiner != null) {
+                context = Vertx.currentContext();
+            }
             stream.exceptionHandler(t -> {
                 if (done.getAndSet(true)) {
                     return;
                 }
                 cancel();
-                Consumer<? super Throwable> onFailureCallback;
-                synchronized (this) {
-                    onFailureCallback = this.onStreamFailure;
+                if (combiner != null) {
+                    synchronized (this) {
+                        batch.clear();
+                    }
                 }
+                Consumer<? super Throwable> onFailureCallback = this.onStreamFailure;
                 if (onFailureCallback != null) {
                     try {
                         onFailureCallback.accept(t);
@@ -82,9 +136,15 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
         }
 
         try {
-            stream.write(mapping.apply(item));
+            O mapped = mapping.apply(item);
+            if (combiner != null) {
+                // The write queue is checked once the batch is written
+                enqueue(mapped);
+                return;
+            }
+            stream.write(mapped);
             synchronized (this) {
-                outstanding--;
+                window.consumed();
             }
         } catch (Throwable t) {
             Throwable throwable;
@@ -98,50 +158,166 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
+        checkWriteQueue();
+    }
+
+    private void checkWriteQueue() {
         if (!stream.writeQueueFull()) {
             requestMore();
+        } else {
+            synchronized (this) {
+                window.congested();
+            }
         }
     }
 
-    @Override
-    public void onError(Throwable failure) {
-        if (done.getAndSet(true)) {
+    /**
+     * Adds the item to the current batch. The batch is written when it is full, or at the end of the current event
+     * loop tick. Without a Vert.x context, items are written immediately.
+     */
+    private void enqueue(O item) {
+        boolean full;
+        boolean schedule;
+        synchronized (this) {
+            window.consumed();
+            batch.add(item);
+            full = batch.size() >= maxBatchSize;
+            schedule = !full && !flushScheduled;
+            if (schedule) {
+                flushScheduled = true;
+            }
+        }
+        Context ctx = context;
+        if (ctx == null) {
+            ctx = Vertx.currentContext();
+        }
+        if (full || ctx == null) {
+            drain();
+        } else if (schedule) {
+            ctx.runOnContext(v -> drain());
+        }
+    }
+
+    /**
+     * Swaps the current batch with the spare one, emptied once written by {@link #drain()}.
+     *
+     * @return the current batch, {@code null} if empty
+     */
+    private synchronized List<O> takeBatch() {
+        flushScheduled = false;
+        if (batch == null || batch.isEmpty()) {
+            return null;
+        }
+        List<O> items = batch;
+        batch = spare;
+        spare = items;
+        return items;
+    }
+
+    /**
+     * Writes the pending batches, then the terminal event once received. Once batches have been written, requests more
+     * items unless the write queue is full.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
             return;
         }
+        int missed = 1;
+        boolean written = false;
+        while (true) {
+            // Read before taking the batch: once the terminal event is set, the batch holds all the remaining items
+            Throwable done = terminal.get();
+            if (!terminated) {
+                List<O> items = takeBatch();
+                if (items != null) {
+                    try {
+                        stream.write(items.size() == 1 ? items.get(0) : combiner.combine(items));
+                        written = true;
+                    } catch (Throwable t) {
+                        done = failed(t);
+                    }
+                    // The spare batch is only accessed by the thread owning the drain loop
+                    items.clear();
+                }
+                if (done != null) {
+                    terminated = true;
+                    terminate(done);
+                }
+            }
 
-        ParameterValidation.nonNullNpe(failure, "failure");
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+        if (written && !this.done.get()) {
+            checkWriteQueue();
+        }
+    }
 
-        Consumer<? super Throwable> c;
+    private Throwable failed(Throwable failure) {
+        this.done.set(true);
+        Throwable throwable = failure;
+        try {
+            cancel();
+        } catch (Throwable t) {
+            throwable = new CompositeException(failure, t);
+        }
         synchronized (this) {
-            c = onFailure;
+            batch.clear();
         }
-        try {
-            if (c != null) {
-                c.accept(failure);
+        Throwable previous = terminal.get();
+        if (previous != null && previous != COMPLETED) {
+            // Already failed, the items received before the failure could not be written
+            return previous;
+        }
+        terminal.set(throwable);
+        return throwable;
+    }
+
+    private void terminate(Throwable done) {
+        if (done == COMPLETED) {
+            Runnable completionCallback = onCompletion;
+            try {
+                stream.end();
+                if (completionCallback != null) {
+                    completionCallback.run();
+                }
+            } catch (Throwable ignored) {
+                // ignored
+            }
+        } else {
+            Consumer<? super Throwable> c = onFailure;
+            try {
+                if (c != null) {
+                    c.accept(done);
+                }
+            } catch (Throwable ignored) {
+                // ignore it.
             }
-        } catch (Throwable ignored) {
-            // ignore it.
         }
     }
 
     @Override
-    public void onComplete() {
+    public void onError(Throwable failure) {
         if (done.getAndSet(true)) {
             return;
         }
 
-        Runnable completionCallback;
-        synchronized (this) {
-            completionCallback = onCompletion;
-        }
-        try {
-            stream.end();
-            if (completionCallback != null) {
-                completionCallback.run();
-            }
-        } catch (Throwable ignored) {
-            // ignored
+        ParameterValidation.nonNullNpe(failure, "failure");
+        // The items received before the failure are written, as without a combiner
+        terminal.set(failure);
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done.getAndSet(true)) {
+            return;
         }
+
+        terminal.set(COMPLETED);
+        drain();
     }
 
     private void requestMore() {
@@ -150,29 +326,32 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
+        int n;
         synchronized (this) {
-            if (done.get() || outstanding > 0) {
+            if (done.get()) {
                 return;
             }
-            outstanding = BATCH_SIZE;
+            n = window.replenish();
+        }
+        if (n > 0) {
+            s.request(n);
         }
-        s.request(BATCH_SIZE);
     }
 
     @Override
-    public synchronized WriteStreamSubscriber<I> onFailure(Consumer<? super Throwable> handler) {
+    public WriteStreamSubscriber<I> onFailure(Consumer<? super Throwable> handler) {
         this.onFailure = handler;
         return this;
     }
 
     @Override
-    public synchronized WriteStreamSubscriber<I> onComplete(Runnable handler) {
+    public WriteStreamSubscriber<I> onComplete(Runnable handler) {
         this.onCompletion = handler;
         return this;
     }
 
     @Override
-    public synchronized WriteStreamSubscriber<I> onWriteStreamError(Consumer<? super Throwable> handler) {
+    public WriteStreamSubscriber<I> onWriteStreamError(Consumer<? super Throwable> handler) {
         this.onStreamFailure = handler;
         return this;
     }
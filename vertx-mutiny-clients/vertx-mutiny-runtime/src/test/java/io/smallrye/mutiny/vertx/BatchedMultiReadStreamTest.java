@@ -0,0 +1,176 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.eventbus.MessageConsumerOptions;
+
+class BatchedMultiReadStreamTest {
+
+    private Vertx vertx;
+
+    private EventBus eventBus;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx();
+        eventBus = vertx.eventBus();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private MessageConsumer<Integer> consumer() {
+        return eventBus.consumer(new MessageConsumerOptions().setAddress("batches")
+                .setMaxBufferedMessages(1000));
+    }
+
+    @Test
+    void fullBatchesAndLastPartialBatch() throws InterruptedException {
+        MessageConsumer<Integer> consumer = consumer();
+        CountDownLatch delivered = new CountDownLatch(250);
+        AssertSubscriber<List<Integer>> subscriber = MultiHelper
+                .toBatchedMulti(consumer, (Message<Integer> message) -> {
+                    delivered.countDown();
+                    return message.body();
+                }, 100, Duration.ofSeconds(10))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        consumer.completion().await();
+
+        range(0, 250).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(2);
+        assertEquals(range(0, 100), subscriber.getItems().get(0));
+        assertEquals(range(100, 200), subscriber.getItems().get(1));
+
+        // The last 50 items are flushed when the stream ends, once they have all been delivered: unregistering drops
+        // the messages still in flight
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        consumer.unregister().await();
+        subscriber.awaitCompletion();
+        assertEquals(3, subscriber.getItems().size());
+        assertEquals(range(200, 250), subscriber.getItems().get(2));
+    }
+
+    @Test
+    void partialBatchEmittedAfterTheDelay() {
+        MessageConsumer<Integer> consumer = consumer();
+        AssertSubscriber<List<Integer>> subscriber = MultiHelper
+                .toBatchedMulti(consumer, Message::body, 100, Duration.ofMillis(50))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        consumer.completion().await();
+
+        long start = System.nanoTime();
+        range(0, 10).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(1);
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(40).toNanos());
+        assertEquals(range(0, 10), subscriber.getItems().get(0));
+
+        range(10, 15).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(2);
+        assertEquals(range(10, 15), subscriber.getItems().get(1));
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    void fetchOnlyTheRequestedBatches() {
+        MessageConsumer<Integer> consumer = consumer();
+        AtomicInteger received = new AtomicInteger();
+        AssertSubscriber<List<Integer>> subscriber = MultiHelper
+                .toBatchedMulti(consumer, message -> {
+                    received.incrementAndGet();
+                    return message.body();
+                }, 10, Duration.ofSeconds(10))
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        consumer.completion().await();
+
+        range(0, 100).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(1);
+        assertEquals(range(0, 10), subscriber.getItems().get(0));
+        assertEquals(10, received.get());
+
+        // Two batches ahead at most, the other messages stay buffered in the consumer
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitItems(10);
+        assertEquals(100, received.get());
+        assertEquals(range(0, 100),
+                subscriber.getItems().stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    void heldPartialBatchEmittedOnRequest() throws InterruptedException {
+        MessageConsumer<Integer> consumer = consumer();
+        AssertSubscriber<List<Integer>> subscriber = MultiHelper
+                .toBatchedMulti(consumer, Message::body, 10, Duration.ofMillis(20))
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        consumer.completion().await();
+
+        range(0, 5).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(1);
+        assertEquals(range(0, 5), subscriber.getItems().get(0));
+
+        // Already fetched for the first batch, so they get closed by the delay, and wait for a request
+        range(5, 8).forEach(i -> eventBus.send("batches", i));
+        Thread.sleep(100);
+        assertEquals(1, subscriber.getItems().size());
+        subscriber.request(1);
+        subscriber.awaitItems(2);
+        assertEquals(range(5, 8), subscriber.getItems().get(1));
+    }
+
+    @Test
+    void cancellationAndSingleSubscriber() {
+        MessageConsumer<Integer> consumer = consumer();
+        Multi<List<Integer>> batches = MultiHelper.toBatchedMulti(consumer, Message::body, 10, Duration.ofSeconds(10));
+        AssertSubscriber<List<Integer>> subscriber = batches.subscribe().withSubscriber(AssertSubscriber.create(1));
+        consumer.completion().await();
+
+        batches.subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IllegalStateException.class);
+
+        range(0, 10).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitItems(1);
+        subscriber.cancel();
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    void failure() {
+        MessageConsumer<Integer> consumer = consumer();
+        AssertSubscriber<List<Integer>> subscriber = MultiHelper
+                .toBatchedMulti(consumer, message -> {
+                    if (message.body() == 3) {
+                        throw new IllegalArgumentException("boom");
+                    }
+                    return message.body();
+                }, 10, Duration.ofSeconds(10))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        consumer.completion().await();
+
+        range(0, 5).forEach(i -> eventBus.send("batches", i));
+        subscriber.awaitFailure(err -> assertEquals("boom", err.getMessage()));
+        assertTrue(subscriber.getItems().isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+class ContextAwareExecutorTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    @Test
+    void test_inlineOnTheSameContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextAwareExecutor(context);
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            List<String> events = new ArrayList<>();
+            executor.execute(() -> events.add("task"));
+            events.add("after");
+            result.complete(events);
+        });
+
+        assertEquals(List.of("task", "after"), result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_dispatchedFromAnotherThread() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Context> result = new CompletableFuture<>();
+        MutinyHelper.contextAwareExecutor(context).execute(() -> result.complete(Vertx.currentContext()));
+
+        assertSame(context, result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_dispatchedFromAnotherContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        Context other = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextAwareExecutor(context);
+        CompletableFuture<List<Object>> result = new CompletableFuture<>();
+        List<Object> events = new ArrayList<>();
+        other.runOnContext(v -> {
+            executor.execute(() -> {
+                events.add(Vertx.currentContext());
+                result.complete(events);
+            });
+            events.add("after");
+        });
+
+        assertEquals(List.of("after", context), result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_vertxExecutorRunsInlineOnAnyContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextAwareExecutor(vertx);
+        CompletableFuture<List<Object>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            List<Object> events = new ArrayList<>();
+            executor.execute(() -> events.add(Vertx.currentContext()));
+            events.add("after");
+            result.complete(events);
+        });
+
+        assertEquals(List.of(context, "after"), result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_recursiveSubmissionsAreTrampolined() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextAwareExecutor(context);
+        CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+        List<Integer> order = new ArrayList<>();
+        context.runOnContext(v -> executor.execute(new Runnable() {
+            int count;
+
+            @Override
+            public void run() {
+                order.add(count);
+                if (++count < 100_000) {
+                    executor.execute(this);
+                    // Runs after this task, as with runOnContext
+                    order.add(-count);
+                } else {
+                    result.complete(order);
+                }
+            }
+        }));
+
+        List<Integer> events = result.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(0, -1, 1, -2, 2), events.subList(0, 5));
+    }
+
+    @Test
+    void test_failuresAreReportedToTheContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Throwable> reported = new CompletableFuture<>();
+        context.exceptionHandler(reported::complete);
+        Executor executor = MutinyHelper.contextAwareExecutor(context);
+        CompletableFuture<String> after = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            executor.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+            after.complete("after");
+        });
+
+        assertEquals("after", after.get(10, TimeUnit.SECONDS));
+        assertEquals("boom", reported.get(10, TimeUnit.SECONDS).getMessage());
+    }
+
+    @Test
+    void test_emitOnWithoutHop() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            List<String> events = new ArrayList<>();
+            Uni.createFrom().item("item")
+                    .emitOn(MutinyHelper.contextAwareExecutor(context))
+                    .subscribe().with(events::add);
+            events.add("after");
+            result.complete(events);
+        });
+
+        assertEquals(List.of("item", "after"), result.get(10, TimeUnit.SECONDS));
+    }
+}
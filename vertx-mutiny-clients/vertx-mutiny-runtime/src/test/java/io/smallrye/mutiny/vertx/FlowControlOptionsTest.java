@@ -0,0 +1,149 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+
+class FlowControlOptionsTest {
+
+    @Test
+    void test_defaults() {
+        FlowControlOptions options = new FlowControlOptions();
+        assertEquals(16, options.getPrefetch());
+        assertEquals(8, options.getLowWatermark());
+        assertFalse(options.isAdaptive());
+
+        options.setPrefetch(100);
+        assertEquals(50, options.getLowWatermark());
+        options.setLowWatermark(0);
+        assertEquals(0, options.getLowWatermark());
+
+        assertThrows(IllegalArgumentException.class, () -> options.setPrefetch(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setLowWatermark(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> MultiHelper.toReadStream(Multi.createFrom().empty(),
+                        new FlowControlOptions().setPrefetch(4).setLowWatermark(4)));
+    }
+
+    @Test
+    void test_readStreamPrefetchAndLowWatermark() {
+        List<Long> requests = new ArrayList<>();
+        List<Integer> items = new ArrayList<>();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(requests::add), new FlowControlOptions().setPrefetch(100).setLowWatermark(10));
+        stream.pause();
+        stream.handler(items::add);
+        assertEquals(List.of(100L), requests);
+
+        stream.fetch(89);
+        assertEquals(List.of(100L), requests);
+        stream.fetch(1);
+        assertEquals(List.of(100L, 90L), requests);
+
+        stream.resume();
+        assertEquals(1000, items.size());
+    }
+
+    @Test
+    void test_writeStreamPrefetchAndLowWatermark() {
+        List<Long> requests = new ArrayList<>();
+        FakeWriteStream<Integer> stream = new FakeWriteStream<>();
+        Multi.createFrom().range(0, 100)
+                .onRequest().invoke(requests::add)
+                .subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                        new FlowControlOptions().setPrefetch(32).setLowWatermark(0)));
+
+        assertEquals(100, stream.written.size());
+        assertTrue(stream.ended);
+        assertEquals(List.of(32L, 32L, 32L, 32L), requests);
+    }
+
+    @Test
+    void test_writeStreamAdaptiveGrowsWhileTheStreamKeepsUp() {
+        List<Long> requests = new ArrayList<>();
+        FakeWriteStream<Integer> stream = new FakeWriteStream<>();
+        Multi.createFrom().range(0, 10_000)
+                .onRequest().invoke(requests::add)
+                .subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                        new FlowControlOptions().setAdaptive(true).setMaxPrefetch(256)));
+
+        assertEquals(10_000, stream.written.size());
+        assertTrue(requests.stream().mapToLong(Long::longValue).max().getAsLong() > 16L);
+        assertTrue(requests.stream().allMatch(n -> n <= 256L));
+    }
+
+    @Test
+    void test_writeStreamAdaptiveShrinksWhenTheQueueIsFull() {
+        List<Long> requests = new ArrayList<>();
+        FakeWriteStream<Integer> stream = new FakeWriteStream<>();
+        stream.setWriteQueueMaxSize(1);
+        Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(requests::add)
+                .subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                        new FlowControlOptions().setAdaptive(true)));
+
+        while (!stream.ended) {
+            stream.drain();
+        }
+        assertEquals(1000, stream.written.size());
+        assertTrue(requests.subList(requests.size() / 2, requests.size()).stream().allMatch(n -> n < 16L));
+    }
+
+    private static class FakeWriteStream<T> implements WriteStream<T> {
+
+        private final List<T> written = new ArrayList<>();
+        private int maxSize = Integer.MAX_VALUE;
+        private int pending;
+        private Handler<Void> drainHandler;
+        private boolean ended;
+
+        @Override
+        public WriteStream<T> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(T data) {
+            written.add(data);
+            pending++;
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> end() {
+            ended = true;
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public WriteStream<T> setWriteQueueMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return pending >= maxSize;
+        }
+
+        @Override
+        public WriteStream<T> drainHandler(Handler<Void> handler) {
+            this.drainHandler = handler;
+            return this;
+        }
+
+        void drain() {
+            pending = 0;
+            drainHandler.handle(null);
+        }
+    }
+}
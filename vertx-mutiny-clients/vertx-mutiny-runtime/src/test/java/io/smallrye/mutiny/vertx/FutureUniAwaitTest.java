@@ -0,0 +1,97 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+
+class FutureUniAwaitTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    @Test
+    void test_awaitOutsideOfVertx() {
+        assertEquals("OK", FutureUni.await(FutureUni.toUni(() -> Future.succeededFuture("ok"), String::toUpperCase)));
+        assertEquals("ok", FutureUni.await(Uni.createFrom().item("ok")));
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> FutureUni.await(FutureUni.toUni(Future.failedFuture(new Exception("boom")))));
+        assertEquals("boom", failure.getCause().getMessage());
+    }
+
+    @Test
+    void test_eventLoopCallersAreRejectedBeforeTheOperationStarts() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Throwable> result = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                FutureUni.await(FutureUni.toUni(() -> Future.succeededFuture(calls.incrementAndGet())));
+                result.complete(null);
+            } catch (Throwable failure) {
+                result.complete(failure);
+            }
+        });
+
+        assertInstanceOf(IllegalStateException.class, result.get(10, TimeUnit.SECONDS));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void test_awaitOnVirtualThreadContext() throws Exception {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        ((VertxInternal) vertx).createVirtualThreadContext().runOnContext(v -> {
+            try {
+                assertEquals(ThreadingModel.VIRTUAL_THREAD, Vertx.currentContext().threadingModel());
+                Uni<String> uni = FutureUni.toUni(() -> vertx.timer(10).map("ok"), String::toUpperCase);
+                result.complete(FutureUni.await(uni));
+            } catch (Throwable failure) {
+                result.complete(failure);
+            }
+        });
+
+        assertEquals("OK", result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_failuresOnVirtualThreadContext() throws Exception {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+        CompletableFuture<Throwable> result = new CompletableFuture<>();
+        ((VertxInternal) vertx).createVirtualThreadContext().runOnContext(v -> {
+            try {
+                FutureUni.await(FutureUni.toUni(() -> vertx.timer(10)
+                        .compose(l -> Future.failedFuture(new IllegalStateException("boom")))));
+                result.complete(null);
+            } catch (Throwable failure) {
+                result.complete(failure);
+            }
+        });
+
+        Throwable failure = result.get(10, TimeUnit.SECONDS);
+        assertInstanceOf(IllegalStateException.class, failure);
+        assertEquals("boom", failure.getMessage());
+    }
+}
@@ -0,0 +1,156 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+class FutureUniTest {
+
+    @Test
+    void test_completedFutures() {
+        Uni<String> uni = FutureUni.toUni(Future.succeededFuture("Ok"));
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("Ok");
+
+        IllegalStateException boom = new IllegalStateException("boom");
+        FutureUni.toUni(Future.failedFuture(boom))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    void test_supplierIsCalledOnEachSubscription() {
+        AtomicInteger calls = new AtomicInteger();
+        Uni<Integer> uni = FutureUni.toUni(() -> Future.succeededFuture(calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+    }
+
+    @Test
+    void test_supplierFailures() {
+        FutureUni.<String> toUni(() -> {
+            throw new IllegalArgumentException("boom");
+        }).subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalArgumentException.class, "boom");
+
+        FutureUni.<String> toUni(() -> null)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(NullPointerException.class);
+    }
+
+    @Test
+    void test_asynchronousCompletion() {
+        Promise<String> promise = Promise.promise();
+        UniAssertSubscriber<String> subscriber = FutureUni.toUni(promise::future)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.assertNotTerminated();
+
+        promise.complete("Ok");
+        subscriber.assertItem("Ok");
+    }
+
+    @Test
+    void test_mapper() {
+        Promise<Integer> promise = Promise.promise();
+        UniAssertSubscriber<String> subscriber = FutureUni.toUni(promise::future, i -> "#" + i)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        promise.complete(42);
+        subscriber.assertItem("#42");
+
+        FutureUni.toUni(Future.<Integer> failedFuture("boom"), i -> "#" + i)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(Exception.class, "boom");
+
+        FutureUni.toUni(Future.succeededFuture(42), i -> {
+            throw new IllegalStateException("mapper");
+        }).subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "mapper");
+    }
+
+    @Test
+    void test_cancellation() {
+        Promise<String> promise = Promise.promise();
+        UniAssertSubscriber<String> subscriber = FutureUni.toUni(promise.future())
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.cancel();
+
+        promise.complete("Ok");
+        subscriber.assertNotTerminated();
+
+        AtomicInteger calls = new AtomicInteger();
+        UniAssertSubscriber<Integer> cancelled = new UniAssertSubscriber<>(true);
+        FutureUni.toUni(() -> Future.succeededFuture(calls.incrementAndGet())).subscribe().withSubscriber(cancelled);
+        assertEquals(0, calls.get());
+        cancelled.assertNotTerminated();
+    }
+
+    @Test
+    void test_cancellationHooks() {
+        List<String> events = new ArrayList<>();
+        Promise<String> promise = Promise.promise();
+        Uni<String> uni = FutureUni.toUni(promise::future, Function.identity(),
+                () -> events.add("cancelled"), s -> events.add("discarded " + s));
+
+        UniAssertSubscriber<String> subscriber = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.cancel();
+        subscriber.cancel();
+        assertEquals(List.of("cancelled"), events);
+
+        promise.complete("Ok");
+        subscriber.assertNotTerminated();
+        assertEquals(List.of("cancelled", "discarded Ok"), events);
+
+        // The hooks are not called once the item has been emitted
+        events.clear();
+        subscriber = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.assertItem("Ok");
+        subscriber.cancel();
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void test_cancellationHooksAreNotCalledIfTheOperationDidNotStart() {
+        List<String> events = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        Uni<Integer> uni = FutureUni.toUni(() -> Future.succeededFuture(calls.incrementAndGet()), Function.identity(),
+                () -> events.add("cancelled"), i -> events.add("discarded " + i));
+
+        uni.subscribe().withSubscriber(new UniAssertSubscriber<>(true)).assertNotTerminated();
+        assertEquals(0, calls.get());
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void test_cancellationHooksFailuresAreDropped() {
+        List<Throwable> dropped = new ArrayList<>();
+        Infrastructure.setDroppedExceptionHandler(dropped::add);
+        try {
+            Promise<String> promise = Promise.promise();
+            UniAssertSubscriber<String> subscriber = FutureUni.<String, String> toUni(promise::future,
+                    Function.identity(),
+                    () -> {
+                        throw new IllegalStateException("cancellation");
+                    },
+                    s -> {
+                        throw new IllegalStateException("discard");
+                    }).subscribe().withSubscriber(UniAssertSubscriber.create());
+            subscriber.cancel();
+            promise.complete("Ok");
+
+            assertEquals(List.of("cancellation", "discard"), dropped.stream().map(Throwable::getMessage).toList());
+        } finally {
+            Infrastructure.resetDroppedExceptionHandler();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class JsonStreamEncoderTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    @Test
+    void test_jsonArray() {
+        List<Buffer> chunks = MultiHelper.encodeJsonArray(objects(3)).collect().asList().await().indefinitely();
+
+        assertEquals(1, chunks.size());
+        assertEquals("[{\"id\":0},{\"id\":1},{\"id\":2}]", chunks.get(0).toString());
+        assertEquals(objects(3).collect().asList().await().indefinitely(), new JsonArray(chunks.get(0)).getList()
+                .stream().map(o -> new JsonObject((Map<String, Object>) o)).toList());
+    }
+
+    @Test
+    void test_emptyJsonArray() {
+        List<Buffer> chunks = MultiHelper.encodeJsonArray(Multi.createFrom().empty()).collect().asList().await()
+                .indefinitely();
+
+        assertEquals(List.of("[]"), chunks.stream().map(Buffer::toString).toList());
+    }
+
+    @Test
+    void test_ndjson() {
+        Multi<Object> items = Multi.createFrom().items(new JsonObject().put("a", "x\ny"), new JsonArray().add(1),
+                "text", 42, true, Map.of("b", 2), List.of(3));
+        List<Buffer> chunks = MultiHelper.encodeNdjson(items).collect().asList().await().indefinitely();
+
+        assertEquals("{\"a\":\"x\\ny\"}\n[1]\n\"text\"\n42\ntrue\n{\"b\":2}\n[3]\n", join(chunks));
+    }
+
+    @Test
+    void test_emptyNdjson() {
+        List<Buffer> chunks = MultiHelper.encodeNdjson(Multi.createFrom().empty()).collect().asList().await()
+                .indefinitely();
+
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    void test_chunking() {
+        List<Buffer> chunks = MultiHelper.encodeJsonArray(objects(1000), 256).collect().asList().await()
+                .indefinitely();
+
+        assertEquals(1000, new JsonArray(Buffer.buffer(join(chunks))).size());
+        assertTrue(chunks.size() > 10);
+        for (Buffer chunk : chunks.subList(0, chunks.size() - 1)) {
+            // The chunk is cut after the item crossing the target size
+            assertTrue(chunk.length() >= 256 && chunk.length() < 256 + 16, "chunk: " + chunk.length());
+        }
+    }
+
+    @Test
+    void test_backPressure() {
+        List<Long> requests = new ArrayList<>();
+        AssertSubscriber<Buffer> subscriber = MultiHelper
+                .encodeNdjson(objects(10_000).onRequest().invoke(requests::add), 128)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.request(1);
+        assertEquals(1, subscriber.getItems().size());
+        long received = requests.stream().mapToLong(Long::longValue).sum();
+        assertTrue(received < 100, "requested: " + received);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitCompletion();
+        assertEquals(objects(10_000).map(o -> o.encode() + "\n").collect().with(Collectors.joining()).await()
+                .indefinitely(), join(subscriber.getItems()));
+    }
+
+    @Test
+    void test_noItemsAreEncodedAheadOfTheDemand() {
+        List<JsonObject> emitted = new ArrayList<>();
+        AssertSubscriber<Buffer> subscriber = MultiHelper
+                .encodeNdjson(objects(10_000).onItem().invoke(emitted::add), 1024)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.request(1);
+        assertEquals(1, subscriber.getItems().size());
+        long encoded = subscriber.getItems().get(0).toString().chars().filter(c -> c == '\n').count();
+        // Only the rest of the batch being encoded when the chunk was cut
+        assertTrue(emitted.size() - encoded < 32, "emitted: " + emitted.size() + ", encoded: " + encoded);
+    }
+
+    @Test
+    void test_asynchronousItemsAreFlushedAtTheEndOfTheTick() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<List<Buffer>> result = new CompletableFuture<>();
+        context.runOnContext(v -> MultiHelper
+                .encodeJsonArray(objects(3).onItem().call(o -> Uni.createFrom()
+                        .emitter(e -> vertx.setTimer(1, l -> e.complete(o)))))
+                .collect().asList()
+                .subscribe().with(result::complete, result::completeExceptionally));
+
+        List<Buffer> chunks = result.get(10, TimeUnit.SECONDS);
+        assertEquals("[{\"id\":0},{\"id\":1},{\"id\":2}]", join(chunks));
+        assertTrue(chunks.size() >= 3);
+    }
+
+    @Test
+    void test_upstreamFailure() {
+        AssertSubscriber<Buffer> subscriber = MultiHelper
+                .encodeJsonArray(Multi.createBy().concatenating().streams(objects(2),
+                        Multi.createFrom().failure(new IllegalStateException("boom"))))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    void test_encodingFailure() {
+        List<Object> cancelled = new ArrayList<>();
+        AssertSubscriber<Buffer> subscriber = MultiHelper
+                .encodeNdjson(Multi.createFrom().items(new JsonObject(), new Object()).onCancellation()
+                        .invoke(() -> cancelled.add(true)))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure();
+        assertEquals(1, cancelled.size());
+    }
+
+    private static Multi<JsonObject> objects(int count) {
+        return Multi.createFrom().items(IntStream.range(0, count).mapToObj(i -> new JsonObject().put("id", i)));
+    }
+
+    private static String join(List<Buffer> chunks) {
+        return chunks.stream().map(Buffer::toString).collect(Collectors.joining());
+    }
+}
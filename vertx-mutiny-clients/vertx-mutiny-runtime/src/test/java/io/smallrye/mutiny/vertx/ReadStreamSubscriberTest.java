@@ -0,0 +1,149 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.streams.ReadStream;
+
+class ReadStreamSubscriberTest {
+
+    @Test
+    void test_flowingMode() {
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean ended = new AtomicBoolean();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 100));
+        stream.endHandler(v -> ended.set(true));
+        stream.handler(items::add);
+
+        assertEquals(100, items.size());
+        assertEquals(99, items.get(99));
+        assertTrue(ended.get());
+    }
+
+    @Test
+    void test_fetch() {
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean ended = new AtomicBoolean();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 50));
+        stream.pause();
+        stream.endHandler(v -> ended.set(true));
+        stream.handler(items::add);
+        assertTrue(items.isEmpty());
+
+        stream.fetch(3);
+        assertEquals(List.of(0, 1, 2), items);
+
+        stream.fetch(0);
+        assertEquals(3, items.size());
+
+        for (int i = 0; i < 46; i++) {
+            stream.fetch(1);
+        }
+        assertEquals(49, items.size());
+        assertFalse(ended.get());
+
+        stream.fetch(10);
+        assertEquals(50, items.size());
+        assertTrue(ended.get());
+
+        assertThrows(IllegalArgumentException.class, () -> stream.fetch(-1));
+    }
+
+    @Test
+    void test_pauseFromHandler() {
+        List<Integer> items = new ArrayList<>();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 10));
+        stream.handler(i -> {
+            items.add(i);
+            if (i == 4) {
+                stream.pause();
+            }
+        });
+        assertEquals(5, items.size());
+
+        stream.resume();
+        assertEquals(10, items.size());
+    }
+
+    @Test
+    void test_boundedUpstreamRequests() {
+        AtomicLong requested = new AtomicLong();
+        List<Integer> items = new ArrayList<>();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(requested::addAndGet));
+        stream.pause();
+        stream.handler(items::add);
+        assertEquals(ReadStreamSubscriber.BUFFER_SIZE, requested.get());
+
+        stream.fetch(ReadStreamSubscriber.BUFFER_SIZE);
+        assertEquals(ReadStreamSubscriber.BUFFER_SIZE, items.size());
+        assertTrue(requested.get() <= 2L * ReadStreamSubscriber.BUFFER_SIZE);
+    }
+
+    @Test
+    void test_failure() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean ended = new AtomicBoolean();
+        List<Integer> items = new ArrayList<>();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 5)
+                .onCompletion().failWith(new RuntimeException("boom")));
+        stream.exceptionHandler(failure::set);
+        stream.endHandler(v -> ended.set(true));
+        stream.handler(items::add);
+
+        assertEquals(5, items.size());
+        assertEquals("boom", failure.get().getMessage());
+        assertTrue(ended.get());
+        assertThrows(IllegalStateException.class, () -> stream.endHandler(v -> {
+        }));
+    }
+
+    @Test
+    void test_handlerFailureCancelsUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, 100)
+                .onCancellation().invoke(() -> cancelled.set(true)));
+        stream.exceptionHandler(failure::set);
+        stream.handler(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("handler");
+            }
+        });
+
+        assertTrue(cancelled.get());
+        assertEquals("handler", failure.get().getMessage());
+    }
+
+    @Test
+    void test_concurrentProducerAndConsumer() throws InterruptedException {
+        int count = 100_000;
+        List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        ReadStream<Integer> stream = MultiHelper.toReadStream(Multi.createFrom().range(0, count)
+                .emitOn(Infrastructure.getDefaultWorkerPool()));
+        stream.pause();
+        stream.endHandler(v -> done.countDown());
+        stream.handler(items::add);
+        for (int i = 0; i < count; i += 7) {
+            stream.fetch(7);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(count, items.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, items.get(i));
+        }
+    }
+}
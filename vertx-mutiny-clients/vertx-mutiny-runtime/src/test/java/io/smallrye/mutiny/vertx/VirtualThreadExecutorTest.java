@@ -0,0 +1,102 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.VertxInternal;
+
+class VirtualThreadExecutorTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx(new VertxOptions().setWorkerPoolSize(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    @Test
+    void test_unavailable() {
+        assumeFalse(((VertxInternal) vertx).isVirtualThreadAvailable());
+
+        assertThrows(IllegalStateException.class, () -> MutinyHelper.virtualThreadExecutor(vertx));
+        assertThrows(IllegalStateException.class, () -> MutinyHelper.executeOnVirtualThread(vertx, () -> 1));
+    }
+
+    @Test
+    void test_blockingTasksDoNotQueueBehindEachOther() throws Exception {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+        Executor executor = MutinyHelper.virtualThreadExecutor(vertx);
+
+        // Many more tasks than worker threads, all blocked until the last one starts
+        int tasks = 100;
+        CountDownLatch started = new CountDownLatch(tasks);
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                assertEquals(ThreadingModel.VIRTUAL_THREAD, Vertx.currentContext().threadingModel());
+                started.countDown();
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_resultIsEmittedOnTheOriginatingContext() throws Exception {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Context> result = new CompletableFuture<>();
+        context.runOnContext(v -> MutinyHelper.executeOnVirtualThread(vertx, () -> {
+            assertEquals(ThreadingModel.VIRTUAL_THREAD, Vertx.currentContext().threadingModel());
+            Thread.sleep(10);
+            return "done";
+        }).subscribe().with(item -> result.complete(Vertx.currentContext()), result::completeExceptionally));
+
+        assertSame(context, result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_failureIsEmittedOnTheOriginatingContext() throws Exception {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Context> result = new CompletableFuture<>();
+        context.runOnContext(v -> MutinyHelper.executeOnVirtualThread(vertx, () -> {
+            throw new IllegalStateException("boom");
+        }).subscribe().with(item -> result.complete(null), failure -> result.complete(Vertx.currentContext())));
+
+        assertSame(context, result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_withoutContext() {
+        assumeTrue(((VertxInternal) vertx).isVirtualThreadAvailable());
+
+        assertEquals(42, MutinyHelper.executeOnVirtualThread(vertx, () -> 42).await().atMost(Duration.ofSeconds(10)));
+    }
+}
@@ -0,0 +1,207 @@
+package io.smallrye.mutiny.vertx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+class WriteCombinerTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await();
+    }
+
+    @Test
+    void test_buffers() {
+        Buffer combined = WriteCombiner.buffers().combine(List.of(Buffer.buffer("a"), Buffer.buffer("bc")));
+        assertEquals("abc", combined.toString());
+    }
+
+    @Test
+    void test_itemsAreWrittenOneByOneWithoutContext() {
+        RecordingWriteStream stream = new RecordingWriteStream(null);
+        buffers(10).subscribe().withSubscriber(MutinyHelper.toSubscriber(stream, new FlowControlOptions(),
+                WriteCombiner.buffers()));
+
+        assertEquals(10, stream.writes.size());
+        assertTrue(stream.ended);
+    }
+
+    @Test
+    void test_itemsOfTheSameTickAreCombined() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        RecordingWriteStream stream = new RecordingWriteStream(context);
+        context.runOnContext(v -> buffers(100).subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                new FlowControlOptions().setPrefetch(64).setMaxWriteBatchSize(64), WriteCombiner.buffers())));
+
+        stream.end.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(64, 36), stream.writes.stream().map(b -> b.length()).toList());
+        assertEquals(expected(100), String.join("", stream.writes.stream().map(Buffer::toString).toList()));
+    }
+
+    @Test
+    void test_batchesAreCappedAtThePrefetch() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        RecordingWriteStream stream = new RecordingWriteStream(context);
+        context.runOnContext(v -> buffers(100).subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                new FlowControlOptions().setMaxWriteBatchSize(64), WriteCombiner.buffers())));
+
+        stream.end.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(16, 16, 16, 16, 16, 16, 4), stream.writes.stream().map(b -> b.length()).toList());
+        assertEquals(expected(100), String.join("", stream.writes.stream().map(Buffer::toString).toList()));
+    }
+
+    @Test
+    void test_batchListsAreReused() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        RecordingWriteStream stream = new RecordingWriteStream(context);
+        Set<List<Buffer>> lists = Collections.newSetFromMap(new IdentityHashMap<>());
+        WriteCombiner<Buffer> combiner = items -> {
+            lists.add(items);
+            return WriteCombiner.buffers().combine(items);
+        };
+        context.runOnContext(v -> buffers(100).subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                new FlowControlOptions().setMaxWriteBatchSize(64), combiner)));
+
+        stream.end.get(10, TimeUnit.SECONDS);
+        assertEquals(7, stream.writes.size());
+        assertEquals(2, lists.size());
+        assertEquals(expected(100), String.join("", stream.writes.stream().map(Buffer::toString).toList()));
+    }
+
+    @Test
+    void test_asynchronousItemsAreFlushedAtTheEndOfTheTick() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        RecordingWriteStream stream = new RecordingWriteStream(context);
+        context.runOnContext(v -> buffers(3)
+                .onItem().call(b -> Uni.createFrom().emitter(e -> vertx.setTimer(1, l -> e.complete(b))))
+                .subscribe().withSubscriber(MutinyHelper.toSubscriber(stream, new FlowControlOptions(),
+                        WriteCombiner.buffers())));
+
+        stream.end.get(10, TimeUnit.SECONDS);
+        assertEquals(expected(3), String.join("", stream.writes.stream().map(Buffer::toString).toList()));
+        assertEquals(3, stream.writes.size());
+    }
+
+    @Test
+    void test_backPressure() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        RecordingWriteStream stream = new RecordingWriteStream(context);
+        stream.setWriteQueueMaxSize(1);
+        List<Long> requests = new ArrayList<>();
+        context.runOnContext(v -> buffers(1000)
+                .onRequest().invoke(requests::add)
+                .subscribe().withSubscriber(MutinyHelper.toSubscriber(stream,
+                        new FlowControlOptions().setPrefetch(16), WriteCombiner.buffers())));
+
+        // Writes are only drained asynchronously, so the subscriber must wait for the drain handler between batches.
+        // Once the queue is full, the items already requested are still written, in a single batch.
+        stream.end.get(10, TimeUnit.SECONDS);
+        assertEquals(expected(1000), String.join("", stream.writes.stream().map(Buffer::toString).toList()));
+        assertTrue(stream.maxPending <= 2, "pending: " + stream.maxPending);
+        assertTrue(requests.stream().allMatch(n -> n <= 16L));
+        assertTrue(stream.writes.size() < 1000);
+    }
+
+    private static Multi<Buffer> buffers(int count) {
+        return Multi.createFrom().range(0, count).map(i -> Buffer.buffer(Integer.toString(i % 10)));
+    }
+
+    private static String expected(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Integer.toString(i % 10))
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * A write stream draining its queue on the next tick of the given context.
+     */
+    private static class RecordingWriteStream implements WriteStream<Buffer> {
+
+        private final Context context;
+        private final List<Buffer> writes = new ArrayList<>();
+        private final CompletableFuture<Void> end = new CompletableFuture<>();
+        private int maxSize = Integer.MAX_VALUE;
+        private int pending;
+        private int maxPending;
+        private boolean ended;
+        private Handler<Void> drainHandler;
+
+        RecordingWriteStream(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(Buffer data) {
+            writes.add(data);
+            if (context != null) {
+                assertSame(context, Vertx.currentContext());
+                maxPending = Math.max(maxPending, ++pending);
+                context.runOnContext(v -> {
+                    boolean wasFull = writeQueueFull();
+                    pending--;
+                    if (wasFull && !writeQueueFull() && drainHandler != null) {
+                        drainHandler.handle(null);
+                    }
+                });
+            }
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> end() {
+            ended = true;
+            end.complete(null);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return pending >= maxSize;
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+            this.drainHandler = handler;
+            return this;
+        }
+    }
+}
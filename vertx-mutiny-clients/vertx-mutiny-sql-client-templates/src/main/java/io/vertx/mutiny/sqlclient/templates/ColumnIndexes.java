@@ -0,0 +1,76 @@
+package io.vertx.mutiny.sqlclient.templates;
+
+import java.util.Arrays;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.sqlclient.Row;
+
+/**
+ * Resolves the indexes of a fixed list of columns in the rows of a result set.
+ * <p>
+ * The indexes are resolved on the first row, and reused for the following rows as long as they have the same columns,
+ * which is checked without hashing or searching the column names. This class is used by the row mappers generated for
+ * the types annotated with {@link io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers}.
+ */
+public final class ColumnIndexes {
+
+    private final String[] columns;
+    private volatile Resolution resolution;
+
+    /**
+     * @param columns the names of the columns
+     */
+    public ColumnIndexes(String... columns) {
+        this.columns = ParameterValidation.doesNotContainNull(columns, "columns").clone();
+    }
+
+    /**
+     * @param row the row
+     * @return for each column, in the order given to the constructor, its index in {@code row}, or {@code -1} when the
+     *         row does not have it. The array must not be modified.
+     */
+    public int[] of(Row row) {
+        Resolution current = resolution;
+        if (current == null || !current.matches(row)) {
+            current = new Resolution(row, columns);
+            resolution = current;
+        }
+        return current.indexes;
+    }
+
+    private static final class Resolution {
+
+        private final String[] names;
+        private final int[] indexes;
+
+        Resolution(Row row, String[] columns) {
+            names = new String[row.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = row.getColumnName(i);
+            }
+            indexes = new int[columns.length];
+            Arrays.fill(indexes, -1);
+            for (int i = 0; i < columns.length; i++) {
+                for (int j = 0; j < names.length; j++) {
+                    if (columns[i].equals(names[j])) {
+                        indexes[i] = j;
+                        break;
+                    }
+                }
+            }
+        }
+
+        boolean matches(Row row) {
+            if (row.size() != names.length) {
+                return false;
+            }
+            // The rows of a result set share their column names, so the comparisons usually succeed on identity
+            for (int i = 0; i < names.length; i++) {
+                if (!names[i].equals(row.getColumnName(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
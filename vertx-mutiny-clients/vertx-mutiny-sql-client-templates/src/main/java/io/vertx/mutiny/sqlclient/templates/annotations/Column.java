@@ -0,0 +1,22 @@
+package io.vertx.mutiny.sqlclient.templates.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the name of the column, or template parameter, of a record component or data object property of a type
+ * annotated with {@link GenerateMappers}.
+ * <p>
+ * On a data object class, the annotation can be placed on the field, the getter or the setter of the property.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.RECORD_COMPONENT, ElementType.FIELD, ElementType.METHOD })
+public @interface Column {
+
+    /**
+     * @return the name of the column
+     */
+    String value();
+}
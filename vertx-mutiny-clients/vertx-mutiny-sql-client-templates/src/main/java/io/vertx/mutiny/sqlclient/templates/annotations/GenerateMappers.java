@@ -0,0 +1,48 @@
+package io.vertx.mutiny.sqlclient.templates.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link io.vertx.sqlclient.templates.RowMapper} and a {@link io.vertx.sqlclient.templates.TupleMapper} for
+ * the annotated record or data object class.
+ * <p>
+ * The annotation processor bundled with this module generates, next to a type {@code Person}:
+ * <ul>
+ * <li>{@code PersonRowMapper}, creating a {@code Person} from a row: the canonical constructor of a record, or the
+ * no-argument constructor and the setters of a class, are called with the columns named after the record components or
+ * properties;</li>
+ * <li>{@code PersonTupleMapper}, creating the parameters of a template from the record components or getters of a
+ * {@code Person}.</li>
+ * </ul>
+ * Unlike the mappers created with {@code mapTo(Class)} and {@code mapFrom(Class)}, the generated mappers do not convert
+ * the rows and the parameters to {@link io.vertx.core.json.JsonObject}: the columns are read with the typed getters of
+ * the row, at indexes resolved once per result set layout.
+ * <p>
+ * Each generated mapper has an {@code INSTANCE} singleton, to wrap with {@code RowMapper.newInstance} or
+ * {@code TupleMapper.newInstance} when used with the Mutiny {@code SqlTemplate}:
+ *
+ * <pre>
+ * SqlTemplate.forQuery(pool, "SELECT * FROM person WHERE id = #{id}")
+ *         .mapTo(RowMapper.newInstance(PersonRowMapper.INSTANCE));
+ * </pre>
+ * <p>
+ * The annotation processor is discovered from the classpath by the Java compiler. With a JDK disabling implicit
+ * annotation processing, enable it with {@code -proc:full} or declare this module in the annotation processor path.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMappers {
+
+    /**
+     * @return whether the row mapper is generated
+     */
+    boolean rowMapper() default true;
+
+    /**
+     * @return whether the tuple mapper is generated
+     */
+    boolean tupleMapper() default true;
+}
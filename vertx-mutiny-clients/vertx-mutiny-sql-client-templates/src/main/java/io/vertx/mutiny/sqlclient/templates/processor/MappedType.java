@@ -0,0 +1,182 @@
+package io.vertx.mutiny.sqlclient.templates.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+import io.vertx.mutiny.sqlclient.templates.annotations.Column;
+
+/**
+ * The columns of a type annotated with {@link io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers}: the
+ * components of a record, or the properties of a data object class.
+ */
+class MappedType {
+
+    /**
+     * A column, read with {@code reader} and written with {@code writer}, which are {@code null} when the property has
+     * no getter or setter.
+     */
+    record Property(String column, TypeMirror type, String reader, String writer) {
+    }
+
+    final TypeElement type;
+    final boolean record;
+    final List<Property> properties;
+
+    private MappedType(TypeElement type, boolean record, List<Property> properties) {
+        this.type = type;
+        this.record = record;
+        this.properties = properties;
+    }
+
+    /**
+     * @return the package of the generated mappers
+     */
+    String packageName(Elements elements) {
+        PackageElement pkg = elements.getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    /**
+     * @return the simple names of the type and of its enclosing types, concatenated
+     */
+    String flatName() {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    static MappedType of(TypeElement type, Elements elements) {
+        if (type.getKind() != ElementKind.RECORD && type.getKind() != ElementKind.CLASS) {
+            throw new MappingException("Only records and classes can be mapped", type);
+        }
+        boolean inner = type.getNestingKind() == NestingKind.MEMBER && type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.STATIC);
+        boolean local = type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS;
+        if (!type.getModifiers().contains(Modifier.PUBLIC) || inner || local) {
+            throw new MappingException("A mapped type must be public, and static when nested", type);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new MappingException("A mapped type must not be generic", type);
+        }
+        List<Property> properties = type.getKind() == ElementKind.RECORD ? recordProperties(type)
+                : beanProperties(type, elements);
+        Set<String> columns = new HashSet<>();
+        for (Property property : properties) {
+            if (!columns.add(property.column())) {
+                throw new MappingException("Several properties are mapped to the column " + property.column(), type);
+            }
+        }
+        return new MappedType(type, type.getKind() == ElementKind.RECORD, properties);
+    }
+
+    private static List<Property> recordProperties(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            String column = columnName(name, component, component.getAccessor());
+            properties.add(new Property(column, component.asType(), component.getAccessor().getSimpleName().toString(),
+                    null));
+        }
+        return properties;
+    }
+
+    private static List<Property> beanProperties(TypeElement type, Elements elements) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        List<? extends Element> members = elements.getAllMembers(type);
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            fields.put(field.getSimpleName().toString(), field);
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().size() == 1 && name.length() > 3 && name.startsWith("set")) {
+                setters.put(decapitalize(name.substring(3)), method);
+            } else if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+                    && !name.equals("getClass")) {
+                if (name.length() > 3 && name.startsWith("get")) {
+                    getters.put(decapitalize(name.substring(3)), method);
+                } else if (name.length() > 2 && name.startsWith("is")
+                        && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                    getters.put(decapitalize(name.substring(2)), method);
+                }
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>(setters.keySet());
+        names.addAll(getters.keySet());
+        List<Property> properties = new ArrayList<>();
+        for (String name : names) {
+            ExecutableElement getter = getters.get(name);
+            ExecutableElement setter = setters.get(name);
+            TypeMirror propertyType = setter != null ? setter.getParameters().get(0).asType() : getter.getReturnType();
+            if (getter != null && setter != null
+                    && !getter.getReturnType().toString().equals(propertyType.toString())) {
+                // Overloaded or mismatching accessors, keep the setter only
+                getter = null;
+            }
+            String column = columnName(name, fields.get(name), getter, setter);
+            properties.add(new Property(column, propertyType, getter == null ? null : getter.getSimpleName().toString(),
+                    setter == null ? null : setter.getSimpleName().toString()));
+        }
+        return properties;
+    }
+
+    private static String decapitalize(String name) {
+        // Like java.beans.Introspector: URL stays URL, Name becomes name
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String columnName(String name, Element... annotated) {
+        for (Element element : annotated) {
+            if (element != null) {
+                Column column = element.getAnnotation(Column.class);
+                if (column != null) {
+                    return column.value();
+                }
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Reports a type that cannot be mapped.
+     */
+    static class MappingException extends RuntimeException {
+
+        final transient Element element;
+
+        MappingException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
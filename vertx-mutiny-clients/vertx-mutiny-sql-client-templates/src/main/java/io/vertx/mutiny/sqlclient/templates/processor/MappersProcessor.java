@@ -0,0 +1,244 @@
+package io.vertx.mutiny.sqlclient.templates.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers;
+
+/**
+ * Generates the row and tuple mappers of the types annotated with {@link GenerateMappers}.
+ */
+@SupportedAnnotationTypes("io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers")
+public class MappersProcessor extends AbstractProcessor {
+
+    private static final String ROW = "io.vertx.sqlclient.Row";
+    private static final String TUPLE = "io.vertx.sqlclient.Tuple";
+    private static final String COLUMN_INDEXES = "io.vertx.mutiny.sqlclient.templates.ColumnIndexes";
+
+    /**
+     * The typed getters of {@code Row}, by the type they return. The other types are read with
+     * {@code Row.get(Class, int)}.
+     */
+    private static final Map<String, String> GETTERS = Map.ofEntries(
+            Map.entry("java.lang.String", "getString"),
+            Map.entry("java.lang.Boolean", "getBoolean"),
+            Map.entry("java.lang.Short", "getShort"),
+            Map.entry("java.lang.Integer", "getInteger"),
+            Map.entry("java.lang.Long", "getLong"),
+            Map.entry("java.lang.Float", "getFloat"),
+            Map.entry("java.lang.Double", "getDouble"),
+            Map.entry("java.math.BigDecimal", "getBigDecimal"),
+            Map.entry("java.util.UUID", "getUUID"),
+            Map.entry("java.time.LocalDate", "getLocalDate"),
+            Map.entry("java.time.LocalTime", "getLocalTime"),
+            Map.entry("java.time.LocalDateTime", "getLocalDateTime"),
+            Map.entry("java.time.OffsetTime", "getOffsetTime"),
+            Map.entry("java.time.OffsetDateTime", "getOffsetDateTime"),
+            Map.entry("io.vertx.core.buffer.Buffer", "getBuffer"),
+            Map.entry("io.vertx.core.json.JsonObject", "getJsonObject"),
+            Map.entry("io.vertx.core.json.JsonArray", "getJsonArray"));
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMappers.class)) {
+            try {
+                MappedType type = MappedType.of((TypeElement) element, processingEnv.getElementUtils());
+                GenerateMappers generate = element.getAnnotation(GenerateMappers.class);
+                if (generate.rowMapper()) {
+                    write(type, "RowMapper", rowMapper(type));
+                }
+                if (generate.tupleMapper()) {
+                    write(type, "TupleMapper", tupleMapper(type));
+                }
+            } catch (MappedType.MappingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            }
+        }
+        return true;
+    }
+
+    private void write(MappedType type, String suffix, String body) {
+        String pkg = type.packageName(processingEnv.getElementUtils());
+        String name = type.flatName() + suffix;
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(pkg.isEmpty() ? name : pkg + "." + name, type.type);
+            try (Writer writer = file.openWriter()) {
+                if (!pkg.isEmpty()) {
+                    writer.write("package " + pkg + ";\n\n");
+                }
+                writer.write("@javax.annotation.processing.Generated(\"" + MappersProcessor.class.getName() + "\")\n");
+                writer.write(body.replace("$NAME$", name));
+            }
+        } catch (IOException e) {
+            throw new MappedType.MappingException("Cannot write " + name + ": " + e.getMessage(), type.type);
+        }
+    }
+
+    private String rowMapper(MappedType type) {
+        String mapped = type.type.getQualifiedName().toString();
+        if (!type.record) {
+            boolean instantiable = !type.type.getModifiers().contains(Modifier.ABSTRACT)
+                    && ElementFilter.constructorsIn(type.type.getEnclosedElements()).stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+            if (!instantiable) {
+                throw new MappedType.MappingException(
+                        "A mapped class must have a public no-argument constructor to generate its row mapper",
+                        type.type);
+            }
+        }
+        List<MappedType.Property> properties = type.properties.stream()
+                .filter(p -> type.record || p.writer() != null)
+                .collect(Collectors.toList());
+
+        StringBuilder code = new StringBuilder();
+        code.append("public class $NAME$ implements io.vertx.sqlclient.templates.RowMapper<").append(mapped)
+                .append("> {\n\n");
+        code.append("    public static final $NAME$ INSTANCE = new $NAME$();\n\n");
+        code.append("    private final ").append(COLUMN_INDEXES).append(" columns = new ").append(COLUMN_INDEXES)
+                .append("(").append(properties.stream().map(p -> literal(p.column())).collect(Collectors.joining(", ")))
+                .append(");\n\n");
+        code.append("    @Override\n");
+        code.append("    public ").append(mapped).append(" map(").append(ROW).append(" row) {\n");
+        code.append("        int[] indexes = columns.of(row);\n");
+        if (type.record) {
+            for (int i = 0; i < properties.size(); i++) {
+                MappedType.Property property = properties.get(i);
+                code.append("        ").append(boxed(property.type())).append(" v").append(i).append(" = indexes[")
+                        .append(i).append("] == -1 ? null : ").append(read(type, property, i)).append(";\n");
+            }
+            code.append("        return new ").append(mapped).append("(");
+            for (int i = 0; i < properties.size(); i++) {
+                TypeMirror t = properties.get(i).type();
+                code.append(i == 0 ? "" : ", ");
+                if (t.getKind().isPrimitive()) {
+                    code.append("v").append(i).append(" == null ? ").append(defaultValue(t)).append(" : v").append(i);
+                } else {
+                    code.append("v").append(i);
+                }
+            }
+            code.append(");\n");
+        } else {
+            code.append("        ").append(mapped).append(" obj = new ").append(mapped).append("();\n");
+            for (int i = 0; i < properties.size(); i++) {
+                MappedType.Property property = properties.get(i);
+                code.append("        if (indexes[").append(i).append("] != -1) {\n");
+                if (property.type().getKind().isPrimitive()) {
+                    code.append("            ").append(boxed(property.type())).append(" v").append(i).append(" = ")
+                            .append(read(type, property, i)).append(";\n");
+                    code.append("            if (v").append(i).append(" != null) {\n");
+                    code.append("                obj.").append(property.writer()).append("(v").append(i)
+                            .append(");\n");
+                    code.append("            }\n");
+                } else {
+                    code.append("            obj.").append(property.writer()).append("(")
+                            .append(read(type, property, i)).append(");\n");
+                }
+                code.append("        }\n");
+            }
+            code.append("        return obj;\n");
+        }
+        code.append("    }\n");
+        code.append("}\n");
+        return code.toString();
+    }
+
+    private String tupleMapper(MappedType type) {
+        String mapped = type.type.getQualifiedName().toString();
+        StringBuilder code = new StringBuilder();
+        code.append("public class $NAME$ implements io.vertx.sqlclient.templates.TupleMapper<").append(mapped)
+                .append("> {\n\n");
+        code.append("    public static final $NAME$ INSTANCE = new $NAME$();\n\n");
+        code.append("    @Override\n");
+        code.append("    public ").append(TUPLE)
+                .append(" map(java.util.function.Function<java.lang.Integer, java.lang.String> mapping, int size, ")
+                .append(mapped).append(" params) {\n");
+        code.append("        java.lang.Object[] values = new java.lang.Object[size];\n");
+        code.append("        for (int i = 0; i < size; i++) {\n");
+        code.append("            values[i] = value(params, mapping.apply(i));\n");
+        code.append("        }\n");
+        code.append("        return ").append(TUPLE).append(".wrap(values);\n");
+        code.append("    }\n\n");
+        code.append("    private static java.lang.Object value(").append(mapped)
+                .append(" params, java.lang.String column) {\n");
+        code.append("        switch (column) {\n");
+        for (MappedType.Property property : type.properties) {
+            if (property.reader() != null) {
+                code.append("            case ").append(literal(property.column())).append(":\n");
+                code.append("                return params.").append(property.reader()).append("();\n");
+            }
+        }
+        code.append("            default:\n");
+        code.append("                return null;\n");
+        code.append("        }\n");
+        code.append("    }\n");
+        code.append("}\n");
+        return code.toString();
+    }
+
+    /**
+     * @return the expression reading the property from the row, at {@code indexes[i]}
+     */
+    private String read(MappedType type, MappedType.Property property, int i) {
+        String boxed = boxed(property.type());
+        String getter = GETTERS.get(boxed);
+        if (getter != null) {
+            return "row." + getter + "(indexes[" + i + "])";
+        }
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(property.type());
+        boolean parameterized = property.type().getKind() == TypeKind.DECLARED
+                && !((DeclaredType) property.type()).getTypeArguments().isEmpty();
+        if (parameterized || erased.getKind() == TypeKind.TYPEVAR || boxed.equals("java.lang.Character")) {
+            throw new MappedType.MappingException(
+                    "Cannot read the column " + property.column() + " of type " + property.type(), type.type);
+        }
+        return "row.get(" + boxed + ".class, indexes[" + i + "])";
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+                    .getQualifiedName().toString();
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN ? "false" : "0";
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\');
+            }
+            literal.append(c);
+        }
+        return literal.append('"').toString();
+    }
+}
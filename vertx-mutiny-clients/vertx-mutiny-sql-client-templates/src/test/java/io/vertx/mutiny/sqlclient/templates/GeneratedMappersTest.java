@@ -0,0 +1,111 @@
+package io.vertx.mutiny.sqlclient.templates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.PoolOptions;
+
+public class GeneratedMappersTest {
+
+    public static PostgreSQLContainer<?> container = new PostgreSQLContainer<>();
+
+    @BeforeAll
+    public static void init() {
+        container.start();
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        container.stop();
+    }
+
+    private Vertx vertx;
+    private Pool pool;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+
+        PgConnectOptions options = new PgConnectOptions()
+                .setPort(container.getMappedPort(5432))
+                .setHost(container.getContainerIpAddress())
+                .setDatabase(container.getDatabaseName())
+                .setUser(container.getUsername())
+                .setPassword(container.getPassword());
+
+        pool = Pool.pool(vertx, options, new PoolOptions());
+
+        pool.query("drop table if exists person").executeAndAwait();
+        pool.query("create table person (id bigint primary key, name varchar(255), birth_date date, active boolean)")
+                .executeAndAwait();
+        pool.query("drop table if exists pet").executeAndAwait();
+        pool.query("create table pet (pet_name varchar(255), age int)").executeAndAwait();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.close();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void mapRecords() {
+        List<Person> persons = List.of(
+                new Person(1, "Ann", LocalDate.of(1980, 5, 17), true),
+                new Person(2, "Bob", null, false));
+        SqlTemplate.forUpdate(pool,
+                "insert into person (id, name, birth_date, active) values (#{id}, #{name}, #{birth_date}, #{active})")
+                .mapFrom(TupleMapper.newInstance(PersonTupleMapper.INSTANCE))
+                .executeBatchAndAwait(persons);
+
+        RowSet<Person> rows = SqlTemplate.forQuery(pool, "select * from person order by id")
+                .mapTo(RowMapper.newInstance(PersonRowMapper.INSTANCE))
+                .executeAndAwait(Map.of());
+
+        assertThat(toList(rows)).isEqualTo(persons);
+    }
+
+    @Test
+    public void mapMissingColumnsToDefaults() {
+        pool.query("insert into person (id, name) values (1, 'Ann')").executeAndAwait();
+
+        RowSet<Person> rows = SqlTemplate.forQuery(pool, "select name from person where id = #{id}")
+                .mapTo(RowMapper.newInstance(PersonRowMapper.INSTANCE))
+                .executeAndAwait(Map.of("id", 1));
+
+        assertThat(toList(rows)).containsExactly(new Person(0, "Ann", null, false));
+    }
+
+    @Test
+    public void mapDataObjects() {
+        SqlTemplate.forUpdate(pool, "insert into pet (pet_name, age) values (#{pet_name}, #{age})")
+                .mapFrom(TupleMapper.newInstance(PetTupleMapper.INSTANCE))
+                .executeBatchAndAwait(List.of(new Pet().setName("Rex").setAge(3), new Pet().setName("Tom")));
+
+        RowSet<Pet> rows = SqlTemplate.forQuery(pool, "select age, pet_name from pet order by pet_name")
+                .mapTo(RowMapper.newInstance(PetRowMapper.INSTANCE))
+                .executeAndAwait(Map.of());
+
+        List<Pet> pets = toList(rows);
+        assertThat(pets).extracting(Pet::getName).containsExactly("Rex", "Tom");
+        assertThat(pets).extracting(Pet::getAge).containsExactly(3, 0);
+    }
+
+    private static <T> List<T> toList(RowSet<T> rows) {
+        return rows.toMulti().collect().asList().await().indefinitely();
+    }
+}
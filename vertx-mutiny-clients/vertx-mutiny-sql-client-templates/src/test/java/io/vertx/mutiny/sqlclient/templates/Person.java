@@ -0,0 +1,10 @@
+package io.vertx.mutiny.sqlclient.templates;
+
+import java.time.LocalDate;
+
+import io.vertx.mutiny.sqlclient.templates.annotations.Column;
+import io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers;
+
+@GenerateMappers
+public record Person(long id, String name, @Column("birth_date") LocalDate birthDate, boolean active) {
+}
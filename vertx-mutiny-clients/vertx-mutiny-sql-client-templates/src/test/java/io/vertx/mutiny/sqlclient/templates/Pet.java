@@ -0,0 +1,30 @@
+package io.vertx.mutiny.sqlclient.templates;
+
+import io.vertx.mutiny.sqlclient.templates.annotations.Column;
+import io.vertx.mutiny.sqlclient.templates.annotations.GenerateMappers;
+
+@GenerateMappers
+public class Pet {
+
+    @Column("pet_name")
+    private String name;
+    private int age;
+
+    public String getName() {
+        return name;
+    }
+
+    public Pet setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Pet setAge(int age) {
+        this.age = age;
+        return this;
+    }
+}
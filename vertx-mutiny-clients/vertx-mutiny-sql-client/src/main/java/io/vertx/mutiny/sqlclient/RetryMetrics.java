@@ -0,0 +1,70 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the retries of the transactions executed with a {@link RetryPolicy}.
+ * <p>
+ * The counters are cumulative and shared by all the transactions using the policy, they can be exported with the
+ * function counters of a metrics library.
+ */
+public final class RetryMetrics {
+
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    RetryMetrics() {
+    }
+
+    void onTransaction() {
+        transactions.increment();
+    }
+
+    void onRetry() {
+        retries.increment();
+    }
+
+    void onRecovered() {
+        recovered.increment();
+    }
+
+    void onExhausted() {
+        exhausted.increment();
+    }
+
+    /**
+     * @return the number of transactions executed, not counting the retries
+     */
+    public long transactions() {
+        return transactions.sum();
+    }
+
+    /**
+     * @return the number of retries, each transient failure retried counting once
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of transactions succeeding after at least one retry
+     */
+    public long recovered() {
+        return recovered.sum();
+    }
+
+    /**
+     * @return the number of transactions failing with a transient failure once all the attempts are used
+     */
+    public long exhausted() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryMetrics{transactions=" + transactions() + ", retries=" + retries() + ", recovered=" + recovered()
+                + ", exhausted=" + exhausted() + "}";
+    }
+}
@@ -0,0 +1,190 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Configures the retries of {@link SqlClientHelper#inTransactionUni(Pool, java.util.function.Function, RetryPolicy)}.
+ * <p>
+ * A transaction failing with a failure considered transient by the {@link #getClassifier() classifier} is rolled back
+ * and executed again, up to {@link #getMaxAttempts() maxAttempts} executions. Before each retry, the policy waits for
+ * an exponential backoff, starting at {@link #getInitialBackoff() initialBackoff}, doubled at each retry and capped at
+ * {@link #getMaxBackoff() maxBackoff}. A random part of each backoff, up to {@link #getJitter() jitter}, is removed, so
+ * the transactions conflicting with each other do not retry at the same time.
+ * <p>
+ * The policy counts the retries in its {@link #getMetrics() metrics}: share a policy between the transactions whose
+ * retries should be counted together.
+ */
+public class RetryPolicy {
+
+    /**
+     * The default maximum number of executions of a transaction.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default backoff before the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+
+    /**
+     * The default maximum backoff.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    /**
+     * The default fraction of the backoff subject to jitter.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+    private double jitter = DEFAULT_JITTER;
+    private TransientFailureClassifier classifier = TransientFailureClassifier.installed();
+    private final RetryMetrics metrics = new RetryMetrics();
+
+    /**
+     * @return the maximum number of executions of a transaction, the first one included
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of executions of a transaction, the first one included. Defaults to
+     * {@link #DEFAULT_MAX_ATTEMPTS}, {@code 1} disables the retries.
+     *
+     * @param maxAttempts the number of executions, must be strictly positive
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = ParameterValidation.positive(maxAttempts, "maxAttempts");
+        return this;
+    }
+
+    /**
+     * @return the backoff before the first retry
+     */
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Sets the backoff before the first retry, doubled at each retry. Defaults to {@link #DEFAULT_INITIAL_BACKOFF}.
+     *
+     * @param initialBackoff the backoff, must be positive or zero
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RetryPolicy setInitialBackoff(Duration initialBackoff) {
+        ParameterValidation.nonNull(initialBackoff, "initialBackoff");
+        if (initialBackoff.isNegative()) {
+            throw new IllegalArgumentException("`initialBackoff` must be greater than or equal to zero");
+        }
+        this.initialBackoff = initialBackoff;
+        return this;
+    }
+
+    /**
+     * @return the maximum backoff
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Sets the maximum backoff. Defaults to {@link #DEFAULT_MAX_BACKOFF}.
+     *
+     * @param maxBackoff the backoff, must be positive or zero
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RetryPolicy setMaxBackoff(Duration maxBackoff) {
+        ParameterValidation.nonNull(maxBackoff, "maxBackoff");
+        if (maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("`maxBackoff` must be greater than or equal to zero");
+        }
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    /**
+     * @return the fraction of the backoff subject to jitter
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Sets the fraction of the backoff subject to jitter: each backoff is reduced by a random amount, up to this
+     * fraction of the backoff. Defaults to {@link #DEFAULT_JITTER}, {@code 0} disables the jitter, {@code 1} picks a
+     * backoff between zero and the exponential backoff.
+     *
+     * @param jitter the fraction, between {@code 0} and {@code 1}
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RetryPolicy setJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("`jitter` must be between 0 and 1");
+        }
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * @return the classifier of the transient failures
+     */
+    public TransientFailureClassifier getClassifier() {
+        return classifier;
+    }
+
+    /**
+     * Sets the classifier of the transient failures. Defaults to {@link TransientFailureClassifier#installed()}, the
+     * serialization failures and the deadlocks of the databases whose client is on the classpath. Combine it with
+     * {@link TransientFailureClassifier#or(TransientFailureClassifier)} to retry other failures.
+     *
+     * @param classifier the classifier
+     * @return a reference to this, so the API can be used fluently
+     */
+    public RetryPolicy setClassifier(TransientFailureClassifier classifier) {
+        this.classifier = ParameterValidation.nonNull(classifier, "classifier");
+        return this;
+    }
+
+    /**
+     * @return the counters of the retries of the transactions executed with this policy
+     */
+    public RetryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return whether {@code failure}, or one of its causes, is transient
+     */
+    boolean isTransient(Throwable failure) {
+        Throwable current = failure;
+        for (int depth = 0; current != null && depth < 16; depth++) {
+            if (classifier.isTransient(current)) {
+                return true;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * @param retry the number of the retry, starting at {@code 1}
+     * @return the backoff before the retry
+     */
+    Duration backoff(int retry) {
+        long initial = initialBackoff.toNanos();
+        long max = maxBackoff.toNanos();
+        long exponential = max;
+        if (retry <= 62 && initial <= (max >> (retry - 1))) {
+            exponential = initial << (retry - 1);
+        }
+        long reduction = (long) (exponential * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos(exponential - reduction);
+    }
+}
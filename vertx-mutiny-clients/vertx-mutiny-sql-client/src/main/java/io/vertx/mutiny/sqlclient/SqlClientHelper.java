@@ -1,9 +1,19 @@
 package io.vertx.mutiny.sqlclient;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.sqlclient.impl.ContextConnections;
 import io.vertx.sqlclient.TransactionRollbackException;
 
 /**
@@ -21,15 +31,31 @@ public class SqlClientHelper {
      * @return a {@link Multi} generated from operations executed inside a {@link Transaction}
      */
     public static <T> Multi<T> inTransactionMulti(Pool pool, Function<SqlClient, Multi<T>> sourceSupplier) {
-        return usingConnectionMulti(pool, conn -> {
-            return conn.begin().onItem().transformToMulti(tx -> {
-                return sourceSupplier.apply(conn)
-                        .onCompletion().call(tx::commit)
-                        .onFailure(SqlClientHelper::needsRollback).recoverWithMulti(err -> rollbackMulti(tx, err));
+        return Multi.createFrom().deferred(() -> {
+            boolean contextConnection = contextConnection(pool) != null;
+            return usingConnectionMulti(pool, conn -> {
+                return conn.begin().onItem().transformToMulti(tx -> {
+                    return rollbackOnCancellation(sourceSupplier.apply(conn), tx, contextConnection)
+                            .onCompletion().call(tx::commit)
+                            .onFailure(SqlClientHelper::needsRollback).recoverWithMulti(err -> rollbackMulti(tx, err));
+                });
             });
         });
     }
 
+    /**
+     * On cancellation, closing a connection of the pool rolls its transaction back, but the connection bound to the
+     * context is not closed: its transaction is rolled back explicitly. The rollback is placed before the commit, so
+     * it never races with it.
+     */
+    private static <T> Multi<T> rollbackOnCancellation(Multi<T> multi, Transaction tx, boolean contextConnection) {
+        return contextConnection ? multi.onCancellation().call(tx::rollback) : multi;
+    }
+
+    private static <T> Uni<T> rollbackOnCancellation(Uni<T> uni, Transaction tx, boolean contextConnection) {
+        return contextConnection ? uni.onCancellation().call(tx::rollback) : uni;
+    }
+
     private static <T> Multi<T> rollbackMulti(Transaction tx, Throwable originalErr) {
         return SqlClientHelper.<T> rollbackUni(tx, originalErr).toMulti();
     }
@@ -44,11 +70,73 @@ public class SqlClientHelper {
      * @return a {@link Uni} generated from operations executed inside a {@link Transaction}
      */
     public static <T> Uni<T> inTransactionUni(Pool pool, Function<SqlClient, Uni<T>> sourceSupplier) {
-        return usingConnectionUni(pool, conn -> conn.begin().onItem().transformToUni(tx -> {
-            return sourceSupplier.apply(conn)
-                    .onItem().call(tx::commit)
-                    .onFailure(SqlClientHelper::needsRollback).recoverWithUni(err -> rollbackUni(tx, err));
-        }));
+        return Uni.createFrom().deferred(() -> {
+            boolean contextConnection = contextConnection(pool) != null;
+            return usingConnectionUni(pool, conn -> conn.begin().onItem().transformToUni(tx -> {
+                return rollbackOnCancellation(sourceSupplier.apply(conn), tx, contextConnection)
+                        .onItem().call(tx::commit)
+                        .onFailure(SqlClientHelper::needsRollback).recoverWithUni(err -> rollbackUni(tx, err));
+            }));
+        });
+    }
+
+    /**
+     * Generates a {@link Uni} from operations executed inside a {@link Transaction}, executing the transaction again
+     * when it fails with a transient failure.
+     * <p>
+     * When the transaction fails with a failure considered transient by the {@link RetryPolicy#getClassifier()
+     * classifier} of the {@code policy}, like a serialization failure or a deadlock, it is rolled back, its connection is
+     * returned to the pool, and {@code sourceSupplier} is called again on a new transaction after a backoff, up to
+     * {@link RetryPolicy#getMaxAttempts()} executions. Other failures are propagated immediately.
+     * <p>
+     * As the transaction may be executed several times, {@code sourceSupplier} must not have side effects outside of
+     * the transaction. When subscribed on a Vert.x context, the retries are executed on that context.
+     *
+     * @param pool the {@link Pool}
+     * @param sourceSupplier a user-provided function returning a {@link Uni} generated by interacting with the given
+     *        {@link SqlClient}
+     * @param policy the {@link RetryPolicy}, counting the retries in its {@link RetryPolicy#getMetrics() metrics}
+     * @param <T> the type of the items emitted by the {@link Uni}
+     * @return a {@link Uni} generated from operations executed inside a {@link Transaction}
+     */
+    @CheckReturnValue
+    public static <T> Uni<T> inTransactionUni(Pool pool, Function<SqlClient, Uni<T>> sourceSupplier,
+            RetryPolicy policy) {
+        ParameterValidation.nonNull(policy, "policy");
+        return Uni.createFrom().deferred(() -> {
+            policy.getMetrics().onTransaction();
+            return inTransactionUni(pool, sourceSupplier, policy, Vertx.currentContext(), 1);
+        });
+    }
+
+    private static <T> Uni<T> inTransactionUni(Pool pool, Function<SqlClient, Uni<T>> sourceSupplier,
+            RetryPolicy policy, Context context, int attempt) {
+        return inTransactionUni(pool, sourceSupplier)
+                .onItem().invoke(() -> {
+                    if (attempt > 1) {
+                        policy.getMetrics().onRecovered();
+                    }
+                })
+                .onFailure(policy::isTransient).recoverWithUni(err -> {
+                    if (attempt >= policy.getMaxAttempts()) {
+                        policy.getMetrics().onExhausted();
+                        return Uni.createFrom().failure(err);
+                    }
+                    policy.getMetrics().onRetry();
+                    Uni<T> retry = Uni.createFrom()
+                            .deferred(() -> inTransactionUni(pool, sourceSupplier, policy, context, attempt + 1));
+                    Duration backoff = policy.backoff(attempt);
+                    Uni<Void> pause = Uni.createFrom().voidItem();
+                    if (!backoff.isZero()) {
+                        pause = pause.onItem().delayIt().by(backoff);
+                    }
+                    if (context != null) {
+                        // The delay ends on a Mutiny thread: retry on the context of the subscriber, so the retry
+                        // runs on its event loop and reuses the connection bound to it by withContextConnection
+                        pause = pause.emitOn(MutinyHelper.executor(context.getDelegate()));
+                    }
+                    return pause.replaceWith(retry);
+                });
     }
 
     private static boolean needsRollback(Throwable throwable) {
@@ -66,6 +154,9 @@ public class SqlClientHelper {
 
     /**
      * Generates a {@link Multi} from {@link SqlConnection} operations.
+     * <p>
+     * When subscribed within {@link #withContextConnection(Pool, Uni)}, the connection bound to the Vert.x context is
+     * used, and not closed: it is released at the end of the scope.
      *
      * @param pool the {@link Pool}
      * @param sourceSupplier a user-provided function returning a {@link Multi} generated by interacting with the given
@@ -74,7 +165,7 @@ public class SqlClientHelper {
      * @return a {@link Multi} generated from {@link SqlConnection} operations
      */
     public static <T> Multi<T> usingConnectionMulti(Pool pool, Function<SqlConnection, Multi<T>> sourceSupplier) {
-        return pool.getConnection().onItem().transformToMulti(conn -> {
+        Multi<T> withPoolConnection = pool.getConnection().onItem().transformToMulti(conn -> {
             try {
                 return sourceSupplier.apply(conn)
                         .onTermination().call(conn::close);
@@ -83,10 +174,17 @@ public class SqlClientHelper {
                         .onItem().transformToMulti(x -> Multi.createFrom().failure(t));
             }
         });
+        return Multi.createFrom().deferred(() -> {
+            SqlConnection bound = contextConnection(pool);
+            return bound != null ? sourceSupplier.apply(bound) : withPoolConnection;
+        });
     }
 
     /**
      * Generates a {@link Uni} from {@link SqlConnection} operations.
+     * <p>
+     * When subscribed within {@link #withContextConnection(Pool, Uni)}, the connection bound to the Vert.x context is
+     * used, and not closed: it is released at the end of the scope.
      *
      * @param pool the {@link Pool}
      * @param sourceSupplier a user-provided function returning a {@link Uni} generated by interacting with the given
@@ -95,7 +193,7 @@ public class SqlClientHelper {
      * @return a {@link Uni} generated from {@link SqlConnection} operations
      */
     public static <T> Uni<T> usingConnectionUni(Pool pool, Function<SqlConnection, Uni<T>> sourceSupplier) {
-        return pool.getConnection().onItem().transformToUni(conn -> {
+        Uni<T> withPoolConnection = pool.getConnection().onItem().transformToUni(conn -> {
             try {
                 return sourceSupplier.apply(conn).onTermination().call(conn::close);
             } catch (Throwable t) {
@@ -104,6 +202,177 @@ public class SqlClientHelper {
                         .onItem().failWith(x -> t);
             }
         });
+        return Uni.createFrom().deferred(() -> {
+            SqlConnection bound = contextConnection(pool);
+            return bound != null ? sourceSupplier.apply(bound) : withPoolConnection;
+        });
+    }
+
+    /**
+     * Executes a prepared statement for each of the {@code tuples}, in batches, on a single connection of the pool.
+     * <p>
+     * The tuples are grouped into lists of {@code batchSize} tuples, each list being executed with
+     * {@link PreparedQuery#executeBatch(java.util.List)}. Up to {@code maxInFlight} batches are sent without waiting for
+     * the results of the previous ones: on a connection supporting pipelining, like a PostgreSQL connection with a
+     * pipelining limit greater than one, they are pipelined, other connections queue them. The tuples are requested as
+     * the batches complete, so at most {@code batchSize * maxInFlight} tuples are held in memory.
+     * <p>
+     * The connection is returned to the pool once the {@link Multi} terminates. The batches are not executed in a
+     * transaction: if a batch fails, the batches already executed are not rolled back. Use
+     * {@link #executeBatched(SqlClient, String, Multi, int, int)} from {@link #inTransactionMulti(Pool, Function)} to
+     * execute all the batches in a transaction.
+     *
+     * @param pool the {@link Pool}
+     * @param sql the SQL of the prepared statement
+     * @param tuples the parameters of the executions
+     * @param batchSize the maximum number of tuples of a batch, must be strictly positive
+     * @param maxInFlight the maximum number of batches executed concurrently, must be strictly positive
+     * @return a {@link Multi} emitting the result of each batch, in the order of the batches
+     */
+    @CheckReturnValue
+    public static Multi<RowSet<Row>> executeBatched(Pool pool, String sql, Multi<Tuple> tuples, int batchSize,
+            int maxInFlight) {
+        ParameterValidation.nonNull(pool, "pool");
+        return usingConnectionMulti(pool, conn -> executeBatched(conn, sql, tuples, batchSize, maxInFlight));
+    }
+
+    /**
+     * Executes a prepared statement for each of the {@code tuples}, in batches of {@code batchSize} tuples, with up to
+     * {@code maxInFlight} batches executed concurrently. See {@link #executeBatched(Pool, String, Multi, int, int)}.
+     * <p>
+     * When {@code client} is a {@link Pool}, each batch may be executed on a different connection, and the results may
+     * be emitted out of order. Pass a {@link SqlConnection} to pipeline the batches on a single connection.
+     *
+     * @param client the {@link SqlClient}
+     * @param sql the SQL of the prepared statement
+     * @param tuples the parameters of the executions
+     * @param batchSize the maximum number of tuples of a batch, must be strictly positive
+     * @param maxInFlight the maximum number of batches executed concurrently, must be strictly positive
+     * @return a {@link Multi} emitting the result of each batch
+     */
+    @CheckReturnValue
+    public static Multi<RowSet<Row>> executeBatched(SqlClient client, String sql, Multi<Tuple> tuples, int batchSize,
+            int maxInFlight) {
+        ParameterValidation.nonNull(client, "client");
+        ParameterValidation.nonNull(sql, "sql");
+        ParameterValidation.nonNull(tuples, "tuples");
+        ParameterValidation.positive(batchSize, "batchSize");
+        ParameterValidation.positive(maxInFlight, "maxInFlight");
+        return Multi.createFrom().deferred(() -> {
+            PreparedQuery<RowSet<Row>> query = client.preparedQuery(sql);
+            // A connection completes the commands in the order they are sent, so the merge keeps the batch order
+            return tuples.group().intoLists().of(batchSize)
+                    .onItem().transformToUni(query::executeBatch)
+                    .merge(maxInFlight);
+        });
+    }
+
+    /**
+     * Streams the rows of a query with a cursor, fetching {@code fetchSize} rows at a time.
+     * <p>
+     * On subscription, a connection is taken from the pool, a transaction is started, as cursors require one on some
+     * databases, and the query is prepared. The rows are read with a {@link RowStream}: the cursor fetches rows as the
+     * downstream requests them, so the number of rows held in memory is bounded by {@code fetchSize} and the demand,
+     * whatever the size of the result.
+     * <p>
+     * Once the {@link Multi} terminates, the stream and the prepared statement are closed, the transaction is committed
+     * on completion and rolled back on failure or cancellation, like with {@link #inTransactionMulti(Pool, Function)},
+     * and the connection is returned to the pool.
+     *
+     * @param pool the {@link Pool}
+     * @param sql the SQL of the query
+     * @param args the parameters of the query, {@link Tuple#tuple()} when there are none
+     * @param fetchSize the number of rows fetched at a time, must be strictly positive
+     * @return a {@link Multi} emitting the rows of the query
+     */
+    @CheckReturnValue
+    public static Multi<Row> streamQuery(Pool pool, String sql, Tuple args, int fetchSize) {
+        ParameterValidation.nonNull(pool, "pool");
+        ParameterValidation.nonNull(sql, "sql");
+        ParameterValidation.nonNull(args, "args");
+        ParameterValidation.positive(fetchSize, "fetchSize");
+        return Multi.createFrom().deferred(() -> {
+            boolean contextConnection = contextConnection(pool) != null;
+            return usingConnectionMulti(pool, conn -> conn.begin().onItem().transformToMulti(tx -> {
+                Multi<Row> rows = conn.prepare(sql).onItem().transformToMulti(statement -> {
+                    RowStream<Row> stream = statement.createStream(fetchSize, args);
+                    return stream.toMulti()
+                            .onTermination().call(() -> closeStream(stream, statement));
+                });
+                return rollbackOnCancellation(rows, tx, contextConnection)
+                        .onCompletion().call(tx::commit)
+                        .onFailure(SqlClientHelper::needsRollback).recoverWithMulti(err -> rollbackMulti(tx, err));
+            }));
+        });
+    }
+
+    private static Uni<Void> closeStream(RowStream<Row> stream, PreparedStatement statement) {
+        return stream.close().onFailure().recoverWithNull()
+                .chain(() -> statement.close().onFailure().recoverWithNull());
+    }
+
+    /**
+     * Binds a connection of the pool to the current Vert.x duplicated context while {@code uni} executes.
+     * <p>
+     * A handler executing several operations with {@link #usingConnectionUni(Pool, Function)},
+     * {@link #usingConnectionMulti(Pool, Function)}, or the helpers built on them, checks out a connection for each of
+     * them. Within this scope, they reuse the connection bound to the context instead: it is acquired once, when
+     * {@code uni} is subscribed, and returned to the pool once, when {@code uni} terminates, is cancelled or fails. The
+     * connection is only reused by operations subscribed on the duplicated context, typically the one of the current
+     * HTTP request, so concurrent requests do not share it. Nested scopes on the same pool reuse the connection of the
+     * outermost scope.
+     * <p>
+     * As the operations share a connection, a transaction started with {@link #inTransactionUni(Pool, Function)} or
+     * {@link #inTransactionMulti(Pool, Function)} includes the operations executed concurrently in the scope, and
+     * transactions cannot be nested.
+     * <p>
+     * Only the operations of this helper use the bound connection: queries executed directly on the pool, like
+     * {@code pool.query(sql).execute()}, still check out a connection each. Execute them with
+     * {@link #usingConnectionUni(Pool, Function)} to run them on the connection of the scope.
+     *
+     * @param pool the {@link Pool}
+     * @param uni the operations executed with the connection bound to the context
+     * @param <T> the type of the item emitted by the {@link Uni}
+     * @return a {@link Uni} emitting the item of {@code uni}, failing with an {@link IllegalStateException} when not
+     *         subscribed on a Vert.x duplicated context
+     */
+    @CheckReturnValue
+    public static <T> Uni<T> withContextConnection(Pool pool, Uni<T> uni) {
+        ParameterValidation.nonNull(pool, "pool");
+        ParameterValidation.nonNull(uni, "uni");
+        return Uni.createFrom().deferred(() -> {
+            Context context = Vertx.currentContext();
+            if (context == null || !((ContextInternal) context.getDelegate()).isDuplicate()) {
+                return Uni.createFrom().failure(new IllegalStateException(
+                        "A connection can only be bound to a Vert.x duplicated context, current thread: "
+                                + Thread.currentThread()));
+            }
+            Map<io.vertx.sqlclient.Pool, SqlConnection> connections = ((ContextInternal) context.getDelegate())
+                    .getLocal(ContextConnections.LOCAL, ConcurrentHashMap::new);
+            if (connections.containsKey(pool.getDelegate())) {
+                return uni;
+            }
+            return pool.getConnection().onItem().transformToUni(conn -> {
+                connections.put(pool.getDelegate(), conn);
+                return uni.onTermination().call(() -> {
+                    connections.remove(pool.getDelegate(), conn);
+                    return conn.close();
+                });
+            });
+        });
+    }
+
+    private static SqlConnection contextConnection(Pool pool) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return null;
+        }
+        ContextInternal contextInternal = (ContextInternal) context.getDelegate();
+        if (!contextInternal.isDuplicate()) {
+            return null;
+        }
+        Map<io.vertx.sqlclient.Pool, SqlConnection> connections = contextInternal.getLocal(ContextConnections.LOCAL);
+        return connections == null ? null : connections.get(pool.getDelegate());
     }
 
     private SqlClientHelper() {
@@ -0,0 +1,74 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import io.vertx.sqlclient.DatabaseException;
+
+/**
+ * Decides whether a failure of a transaction is transient, so the transaction can be retried, like a serialization
+ * failure or a deadlock.
+ * <p>
+ * The SQL client modules contribute the classifier of their database as a {@link ServiceLoader} service: the
+ * {@link #installed()} classifier recognizes the failures of all the databases whose client is on the classpath.
+ */
+@FunctionalInterface
+public interface TransientFailureClassifier {
+
+    /**
+     * The SQLSTATE of the serialization failures.
+     */
+    String SERIALIZATION_FAILURE = "40001";
+
+    /**
+     * @param failure the failure of the transaction, or one of its causes
+     * @return whether retrying the transaction may succeed
+     */
+    boolean isTransient(Throwable failure);
+
+    /**
+     * @param other another classifier
+     * @return a classifier considering transient the failures considered transient by this classifier or
+     *         {@code other}
+     */
+    default TransientFailureClassifier or(TransientFailureClassifier other) {
+        return failure -> isTransient(failure) || other.isTransient(failure);
+    }
+
+    /**
+     * @return a classifier considering transient the failures with the standard
+     *         {@value #SERIALIZATION_FAILURE} SQLSTATE
+     */
+    static TransientFailureClassifier serializationFailure() {
+        return failure -> {
+            if (failure instanceof DatabaseException) {
+                return SERIALIZATION_FAILURE.equals(((DatabaseException) failure).getSqlState());
+            }
+            if (failure instanceof SQLException) {
+                return SERIALIZATION_FAILURE.equals(((SQLException) failure).getSQLState());
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @return a classifier combining {@link #serializationFailure()} and the classifiers of the SQL clients available
+     *         on the classpath
+     */
+    static TransientFailureClassifier installed() {
+        List<TransientFailureClassifier> classifiers = new ArrayList<>();
+        classifiers.add(serializationFailure());
+        ServiceLoader.load(TransientFailureClassifier.class, TransientFailureClassifier.class.getClassLoader())
+                .forEach(classifiers::add);
+        return failure -> {
+            for (TransientFailureClassifier classifier : classifiers) {
+                if (classifier.isTransient(failure)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package io.vertx.mutiny.sqlclient.impl;
+
+import java.util.Map;
+
+import io.vertx.core.internal.VertxBootstrap;
+import io.vertx.core.spi.VertxServiceProvider;
+import io.vertx.core.spi.context.storage.ContextLocal;
+import io.vertx.mutiny.sqlclient.SqlClientHelper;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * Registers the context local holding the connections bound to a duplicated context by
+ * {@link SqlClientHelper#withContextConnection(io.vertx.mutiny.sqlclient.Pool, io.smallrye.mutiny.Uni)}, by pool.
+ * <p>
+ * Context locals must be registered before the Vert.x instance is created: Vert.x loads this provider, and so
+ * registers the local, while building the instance.
+ */
+public class ContextConnections implements VertxServiceProvider {
+
+    /**
+     * The connections bound to a duplicated context, by delegate pool.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static final ContextLocal<Map<Pool, SqlConnection>> LOCAL = (ContextLocal) ContextLocal
+            .registerLocal(Map.class);
+
+    @Override
+    public void init(VertxBootstrap builder) {
+        // The local is registered when this class is initialized
+    }
+}
@@ -0,0 +1,133 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.mutiny.core.Vertx;
+
+public abstract class ContextConnectionTest extends SqlClientHelperTestBase {
+
+    private <T> T onDuplicatedContext(Supplier<Uni<T>> supplier) throws Exception {
+        ContextInternal context = ((ContextInternal) getVertx().getDelegate().getOrCreateContext()).duplicate();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(x -> supplier.get().subscribe().with(result::complete, result::completeExceptionally));
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    private Uni<Object> connectionId() {
+        return SqlClientHelper.usingConnectionUni(pool, conn -> conn.query(connectionIdSql()).execute()
+                .map(rows -> rows.iterator().next().getValue(0)));
+    }
+
+    @Test
+    public void reuseTheConnectionOfTheContext() throws Exception {
+        List<Object> ids = onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool,
+                Uni.join().all(connectionId(), connectionId()).andFailFast()
+                        .chain(first -> connectionId().map(last -> List.of(first.get(0), first.get(1), last)))));
+
+        assertThat(ids).hasSize(3).containsOnly(ids.get(0));
+    }
+
+    @Test
+    public void reuseTheConnectionInNestedScopes() throws Exception {
+        List<Object> ids = onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool, connectionId()
+                .chain(outer -> SqlClientHelper.withContextConnection(pool, connectionId())
+                        .map(inner -> List.of(outer, inner)))));
+
+        assertThat(ids).hasSize(2).containsOnly(ids.get(0));
+    }
+
+    @Test
+    public void shareTheTransactionOfTheScope() throws Exception {
+        List<String> names = onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool,
+                SqlClientHelper.inTransactionUni(pool, client -> insertExtraFolks(client)
+                        .chain(() -> SqlClientHelper.usingConnectionUni(pool,
+                                conn -> uniqueNames(conn).collect().asList())))));
+
+        assertThat(names).isEqualTo(namesWithExtraFolks());
+    }
+
+    @Test
+    public void rollbackTheTransactionOfTheScopeOnCancellation() throws Exception {
+        // The connection of the scope is not closed on cancellation, the transaction must be rolled back before the
+        // next operation of the scope. The timer cancels the transaction on the context, where the scope is visible.
+        List<String> names = onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool,
+                Uni.combine().any().of(
+                        SqlClientHelper.inTransactionUni(pool, client -> insertExtraFolks(client)
+                                .chain(() -> Uni.createFrom().nothing())),
+                        Uni.createFrom().emitter(emitter -> getVertx().setTimer(100, id -> emitter.complete(null))))
+                        .chain(() -> SqlClientHelper.usingConnectionUni(pool,
+                                conn -> uniqueNames(conn).collect().asList()))));
+
+        assertThat(names).hasSize(NAMES.size());
+        assertTableContainsInitDataOnly();
+    }
+
+    @Test
+    public void retryWithTheConnectionOfTheContext() throws Exception {
+        RetryPolicy policy = new RetryPolicy()
+                .setInitialBackoff(Duration.ofMillis(5))
+                .setClassifier(failure -> failure instanceof TransientException);
+        AtomicInteger attempts = new AtomicInteger();
+        // The backoff must not move the retry off the context: another connection would be taken from the pool while
+        // the scope holds one, and with a pool of one connection, the retry would wait forever
+        List<Object> ids = onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool, connectionId()
+                .chain(scope -> SqlClientHelper.inTransactionUni(pool, client -> connectionId().invoke(() -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new TransientException();
+                    }
+                }), policy).map(retried -> List.of(scope, retried)))));
+
+        assertThat(attempts).hasValue(2);
+        assertThat(policy.getMetrics().recovered()).isEqualTo(1);
+        assertThat(ids).hasSize(2).containsOnly(ids.get(0));
+    }
+
+    @Test
+    public void releaseTheConnectionOnce() throws Exception {
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool, connectionId()));
+        }
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            assertThatThrownBy(() -> onDuplicatedContext(() -> SqlClientHelper.withContextConnection(pool,
+                    connectionId().onItem().failWith(x -> new IllegalArgumentException("boom")))))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(uniqueNames(pool).collect().asList().await().atMost(Duration.ofSeconds(10))).hasSize(NAMES.size());
+    }
+
+    @Test
+    public void failOutsideOfDuplicatedContext() {
+        assertThatThrownBy(() -> SqlClientHelper.withContextConnection(pool, connectionId())
+                .await().atMost(Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class TransientException extends RuntimeException {
+        TransientException() {
+            super("transient");
+        }
+    }
+
+    protected abstract Vertx getVertx();
+
+    /**
+     * @return the SQL selecting the identifier of the connection on the database side
+     */
+    protected abstract String connectionIdSql();
+
+    protected abstract int getMaxPoolSize();
+}
@@ -0,0 +1,76 @@
+package io.vertx.mutiny.sqlclient;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+
+public abstract class ExecuteBatchedTest extends SqlClientHelperTestBase {
+
+    private static List<String> extraNames(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "Extra-" + i).collect(toList());
+    }
+
+    private Multi<RowSet<Row>> insert(Multi<String> names, int batchSize, int maxInFlight) {
+        return SqlClientHelper.executeBatched(pool, insertFolkPreparedSql(), names.map(Tuple::of), batchSize,
+                maxInFlight);
+    }
+
+    @Test
+    public void executeInBatches() {
+        List<String> extra = extraNames(23);
+        List<RowSet<Row>> results = insert(Multi.createFrom().iterable(extra), 5, 2)
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(results).hasSize(5);
+        List<String> actual = uniqueNames(pool).collect().asList().await().indefinitely();
+        assertThat(actual).isEqualTo(Stream.concat(NAMES.stream(), extra.stream()).sorted().collect(toList()));
+    }
+
+    @Test
+    public void boundTheTuplesInFlight() {
+        AtomicInteger emitted = new AtomicInteger();
+        Multi<String> names = Multi.createFrom().iterable(extraNames(100))
+                .onItem().invoke(emitted::incrementAndGet);
+
+        insert(names, 10, 2)
+                .onItem().invoke(x -> assertThat(emitted.get()).isLessThanOrEqualTo(10 * 3))
+                .select().first()
+                .collect().asList()
+                .await().indefinitely();
+    }
+
+    @Test
+    public void executeInTransaction() throws Exception {
+        // The duplicate fails the second batch, the first one is rolled back
+        Multi<Tuple> tuples = Multi.createFrom().iterable(extraNames(8))
+                .onCompletion().continueWith("Extra-0")
+                .map(Tuple::of);
+        try {
+            SqlClientHelper.inTransactionMulti(pool,
+                    client -> SqlClientHelper.executeBatched(client, insertFolkPreparedSql(), tuples, 5, 2))
+                    .collect().asList()
+                    .await().indefinitely();
+            fail("Exception expected");
+        } catch (Exception e) {
+            verifyDuplicateException(e);
+        }
+        assertTableContainsInitDataOnly();
+    }
+
+    /**
+     * @return the SQL inserting the first name given as parameter
+     */
+    protected abstract String insertFolkPreparedSql();
+
+    protected abstract void verifyDuplicateException(Exception e);
+}
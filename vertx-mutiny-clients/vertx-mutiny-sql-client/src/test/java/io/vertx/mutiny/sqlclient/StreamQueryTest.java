@@ -0,0 +1,113 @@
+package io.vertx.mutiny.sqlclient;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public abstract class StreamQueryTest extends SqlClientHelperTestBase {
+
+    private static final int EXTRA = 1000;
+
+    private List<String> insertExtraNames() {
+        List<String> extra = IntStream.range(0, EXTRA).mapToObj(i -> String.format("Extra-%04d", i)).collect(toList());
+        SqlClientHelper.executeBatched(pool, insertFolkPreparedSql(), Multi.createFrom().iterable(extra).map(Tuple::of),
+                100, 2)
+                .collect().asList()
+                .await().indefinitely();
+        return extra;
+    }
+
+    private Multi<String> names(String sql, Tuple args, int fetchSize) {
+        return SqlClientHelper.streamQuery(pool, sql, args, fetchSize)
+                .map(row -> row.getString(0));
+    }
+
+    @Test
+    public void streamAllTheRows() {
+        List<String> extra = insertExtraNames();
+
+        List<String> actual = names(UNIQUE_NAMES_SQL, Tuple.tuple(), 50)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(30));
+
+        assertThat(actual).isEqualTo(Stream.concat(NAMES.stream(), extra.stream()).sorted().collect(toList()));
+    }
+
+    @Test
+    public void streamWithArguments() {
+        insertExtraNames();
+
+        List<String> actual = names(namesAfterSql(), Tuple.of("Extra-0989"), 3)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(30));
+
+        assertThat(actual).containsExactly("Extra-0990", "Extra-0991", "Extra-0992", "Extra-0993", "Extra-0994",
+                "Extra-0995", "Extra-0996", "Extra-0997", "Extra-0998", "Extra-0999", "John", "Paul", "Peter",
+                "Steven");
+    }
+
+    @Test
+    public void fetchOnRequest() {
+        insertExtraNames();
+
+        AssertSubscriber<String> subscriber = names(UNIQUE_NAMES_SQL, Tuple.tuple(), 10)
+                .subscribe().withSubscriber(AssertSubscriber.create(15));
+
+        subscriber.awaitItems(15);
+        subscriber.assertNotTerminated();
+        subscriber.request(EXTRA);
+        subscriber.awaitCompletion(Duration.ofSeconds(30));
+        assertThat(subscriber.getItems()).hasSize(NAMES.size() + EXTRA);
+    }
+
+    @Test
+    public void cancellationReleasesTheConnection() {
+        insertExtraNames();
+
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            List<String> first = names(UNIQUE_NAMES_SQL, Tuple.tuple(), 10)
+                    .select().first(25)
+                    .collect().asList()
+                    .await().atMost(Duration.ofSeconds(10));
+            assertThat(first).hasSize(25);
+        }
+        assertThat(uniqueNames(pool).collect().asList().await().atMost(Duration.ofSeconds(10)))
+                .hasSize(NAMES.size() + EXTRA);
+    }
+
+    @Test
+    public void failureReleasesTheConnection() {
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            try {
+                names("select firstname from missing_table", Tuple.tuple(), 10)
+                        .collect().asList()
+                        .await().atMost(Duration.ofSeconds(10));
+                fail("Exception expected");
+            } catch (Exception e) {
+                assertThat(e).hasMessageContaining("missing_table");
+            }
+        }
+    }
+
+    /**
+     * @return the SQL inserting the first name given as parameter
+     */
+    protected abstract String insertFolkPreparedSql();
+
+    /**
+     * @return the SQL selecting the first names greater than the one given as parameter, in ascending order
+     */
+    protected abstract String namesAfterSql();
+
+    protected abstract int getMaxPoolSize();
+}
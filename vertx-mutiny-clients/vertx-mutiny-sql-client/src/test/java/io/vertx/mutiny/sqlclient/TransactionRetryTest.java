@@ -0,0 +1,130 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+public abstract class TransactionRetryTest extends SqlClientHelperTestBase {
+
+    private static class TransientException extends RuntimeException {
+        TransientException() {
+            super("transient");
+        }
+    }
+
+    private static RetryPolicy policy() {
+        return new RetryPolicy()
+                .setInitialBackoff(Duration.ofMillis(1))
+                .setClassifier(failure -> failure instanceof TransientException);
+    }
+
+    @Test
+    public void retryTransientFailure() throws Exception {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = SqlClientHelper.inTransactionUni(pool, client -> insertExtraFolks(client)
+                .onItem().invoke(() -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new TransientException();
+                    }
+                })
+                .replaceWith("ok"), policy)
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(uniqueNames(pool).collect().asList().await().indefinitely()).isEqualTo(namesWithExtraFolks());
+        assertThat(policy.getMetrics().transactions()).isEqualTo(1);
+        assertThat(policy.getMetrics().retries()).isEqualTo(2);
+        assertThat(policy.getMetrics().recovered()).isEqualTo(1);
+        assertThat(policy.getMetrics().exhausted()).isZero();
+    }
+
+    @Test
+    public void giveUpAfterMaxAttempts() throws Exception {
+        RetryPolicy policy = policy().setMaxAttempts(2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            SqlClientHelper.inTransactionUni(pool, client -> insertExtraFolks(client)
+                    .onItem().invoke(attempts::incrementAndGet)
+                    .onItem().failWith(x -> new TransientException()), policy)
+                    .await().atMost(Duration.ofSeconds(10));
+            fail("Exception expected");
+        } catch (TransientException e) {
+            // Expected
+        }
+
+        assertThat(attempts).hasValue(2);
+        assertTableContainsInitDataOnly();
+        assertThat(policy.getMetrics().retries()).isEqualTo(1);
+        assertThat(policy.getMetrics().recovered()).isZero();
+        assertThat(policy.getMetrics().exhausted()).isEqualTo(1);
+    }
+
+    @Test
+    public void doNotRetryOtherFailures() throws Exception {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            SqlClientHelper.inTransactionUni(pool, client -> {
+                attempts.incrementAndGet();
+                return insertExtraFolks(client)
+                        .onItem().transformToUni(x -> client.query(String.format(INSERT_FOLK_SQL, "John")).execute());
+            }, policy)
+                    .await().atMost(Duration.ofSeconds(10));
+            fail("Exception expected");
+        } catch (Exception e) {
+            assertThat(e).isNotInstanceOf(TransientException.class);
+        }
+
+        assertThat(attempts).hasValue(1);
+        assertTableContainsInitDataOnly();
+        assertThat(policy.getMetrics().retries()).isZero();
+    }
+
+    @Test
+    public void retryDeadlock() throws Exception {
+        // The default classifier recognizes the deadlocks reported by the database
+        RetryPolicy policy = new RetryPolicy().setInitialBackoff(Duration.ofMillis(1));
+        CompletableFuture<Void> firstLocked = new CompletableFuture<>();
+        CompletableFuture<Void> secondLocked = new CompletableFuture<>();
+
+        Uni<String> first = SqlClientHelper.inTransactionUni(pool,
+                client -> lockInOrder(client, "John", "Paul", firstLocked, secondLocked), policy);
+        Uni<String> second = SqlClientHelper.inTransactionUni(pool,
+                client -> lockInOrder(client, "Paul", "John", secondLocked, firstLocked), policy);
+
+        List<String> results = Uni.join().all(first, second).andFailFast()
+                .await().atMost(Duration.ofSeconds(30));
+
+        assertThat(results).containsExactly("John", "Paul");
+        assertThat(policy.getMetrics().retries()).isGreaterThanOrEqualTo(1);
+        assertThat(policy.getMetrics().recovered()).isGreaterThanOrEqualTo(1);
+        assertTableContainsInitDataOnly();
+    }
+
+    private Uni<String> lockInOrder(SqlClient client, String firstName, String secondName,
+            CompletableFuture<Void> locked, CompletableFuture<Void> otherLocked) {
+        return client.preparedQuery(lockFolkSql()).execute(Tuple.of(firstName))
+                .invoke(() -> locked.complete(null))
+                .chain(() -> Uni.createFrom().completionStage(otherLocked))
+                .chain(() -> client.preparedQuery(lockFolkSql()).execute(Tuple.of(secondName)))
+                .replaceWith(firstName);
+    }
+
+    /**
+     * @return the SQL locking the row of the first name given as parameter
+     */
+    protected abstract String lockFolkSql();
+}
@@ -3,11 +3,16 @@ package io.vertx.mutiny.sqlclient;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.vertx.FutureUni;
 
 public abstract class UsingConnectionSafetyTest {
 
@@ -27,6 +32,31 @@ public abstract class UsingConnectionSafetyTest {
         }));
     }
 
+    @Test
+    public void testConnectionsObtainedAfterCancellationAreClosed() {
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            // The hook generated for Pool#getConnection with discard.io.vertx.sqlclient.SqlConnection=close(), opt-in in
+            // the shim metadata
+            UniAssertSubscriber<SqlConnection> subscriber = FutureUni
+                    .toUni(() -> pool.getDelegate().getConnection(), SqlConnection::newInstance, null,
+                            discarded -> discarded.close())
+                    .subscribe().withSubscriber(UniAssertSubscriber.create());
+            subscriber.cancel();
+            if (subscriber.getItem() != null) {
+                // Obtained before the cancellation
+                subscriber.getItem().closeAndAwait();
+            }
+        }
+
+        // The connections obtained after the cancellations went back to the pool
+        List<SqlConnection> connections = Multi.createFrom().range(0, getMaxPoolSize())
+                .onItem().transformToUniAndMerge(i -> pool.getConnection())
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(connections).hasSize(getMaxPoolSize());
+        connections.forEach(SqlConnection::closeAndAwait);
+    }
+
     private void doTest(Function<RuntimeException, Uni<Object>> function) {
         for (int i = 0; i < getMaxPoolSize() + 1; i++) {
             RuntimeException expected = new RuntimeException();
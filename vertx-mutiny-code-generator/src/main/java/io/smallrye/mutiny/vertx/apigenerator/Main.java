@@ -22,6 +22,12 @@ public class Main implements Callable<Integer> {
     @CommandLine.Option(names = "--additional-source", description = "Additional source directories, only to resolve symbols")
     List<Path> additionalSources = new ArrayList<>();
 
+    @CommandLine.Option(names = "--metadata", description = "Additional shim metadata files, overriding the bundled defaults")
+    List<Path> metadata = new ArrayList<>();
+
+    @CommandLine.Option(names = "--virtual-thread-await", description = "Make the AndAwait methods await the future directly on virtual thread contexts, and reject event loop callers")
+    boolean virtualThreadAwait;
+
     @CommandLine.Option(names = "--module-name", description = "The name of the module to generate")
     String module;
 
@@ -35,6 +41,8 @@ public class Main implements Callable<Integer> {
     public Integer call() {
         try {
             MutinyGenerator generator = new MutinyGenerator(source, module, additionalSources.toArray(new Path[0]));
+            metadata.forEach(generator.getMetadata()::load);
+            generator.setVirtualThreadAwait(virtualThreadAwait);
             // Collection happens during the construction.
             generator.analyze();
             List<MutinyGenerator.GeneratorOutput> list = generator.generate();
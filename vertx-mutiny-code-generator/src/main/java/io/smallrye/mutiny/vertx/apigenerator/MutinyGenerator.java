@@ -21,6 +21,7 @@ import io.smallrye.mutiny.vertx.apigenerator.collection.VertxGenCollection;
 import io.smallrye.mutiny.vertx.apigenerator.collection.VertxGenInterface;
 import io.smallrye.mutiny.vertx.apigenerator.converters.Converters;
 import io.smallrye.mutiny.vertx.apigenerator.generator.ShimGenerator;
+import io.smallrye.mutiny.vertx.apigenerator.utils.ShimMetadata;
 
 public class MutinyGenerator {
 
@@ -30,7 +31,9 @@ public class MutinyGenerator {
 
     private final CollectionResult collection;
     private final VertxGenAnalysis analyzer;
+    private final ShimMetadata metadata = ShimMetadata.defaults();
     private AnalysisResult analysisResult;
+    private boolean virtualThreadAwait;
 
     public MutinyGenerator(Path source, String module, Path... additionalSources) {
         this(new SourceRoot(source), module, additionalSources);
@@ -63,6 +66,30 @@ public class MutinyGenerator {
         return converters;
     }
 
+    public ShimMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @return whether the generated {@code AndAwait} methods await the future directly on virtual thread contexts
+     */
+    public boolean isVirtualThreadAwait() {
+        return virtualThreadAwait;
+    }
+
+    /**
+     * Makes the generated {@code AndAwait} methods call {@code FutureUni.await(uni)}: on a Vert.x virtual thread
+     * context, the future is awaited with {@code Future.await()} rather than subscribing to the {@code Uni}, and the
+     * calls from an event loop thread are rejected.
+     *
+     * @param virtualThreadAwait whether to enable the fast path
+     * @return this generator
+     */
+    public MutinyGenerator setVirtualThreadAwait(boolean virtualThreadAwait) {
+        this.virtualThreadAwait = virtualThreadAwait;
+        return this;
+    }
+
     public AnalysisResult analyze() {
         if (analysisResult == null) {
             analysisResult = analyzer.analyze();
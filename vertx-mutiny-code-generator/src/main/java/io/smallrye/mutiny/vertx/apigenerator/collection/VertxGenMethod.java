@@ -13,6 +13,7 @@ import com.github.javaparser.resolution.types.ResolvedType;
 
 import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimClass;
 import io.smallrye.mutiny.vertx.apigenerator.utils.JavadocHelper;
+import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.Nullable;
 
@@ -34,6 +35,7 @@ public class VertxGenMethod {
     private final boolean isDeprecated;
     private final boolean isStatic;
     private final boolean isFluent;
+    private final boolean isCacheReturn;
     private final Javadoc javadoc;
     private final boolean isFinal;
     private final List<ResolvedTypeParameterDeclaration> typeParameters;
@@ -60,6 +62,7 @@ public class VertxGenMethod {
         this.isDeprecated = method.getAnnotationByClass(Deprecated.class).isPresent();
         this.isStatic = method.isStatic();
         this.isFluent = method.getAnnotationByClass(Fluent.class).isPresent();
+        this.isCacheReturn = method.getAnnotationByClass(CacheReturn.class).isPresent();
         this.javadoc = method.getJavadoc().orElse(null);
         this.isFinal = method.isFinal();
 
@@ -83,6 +86,7 @@ public class VertxGenMethod {
         if (decl != null) {
             this.isDeprecated = method.getAnnotationByClass(Deprecated.class).isPresent();
             this.isFluent = method.getAnnotationByClass(Fluent.class).isPresent();
+            this.isCacheReturn = method.getAnnotationByClass(CacheReturn.class).isPresent();
             this.javadoc = method.getJavadoc().orElse(null);
             this.isFinal = method.isFinal();
             this.isReturnTypeNullable = method.getAnnotationByClass(Nullable.class).isPresent();
@@ -90,6 +94,7 @@ public class VertxGenMethod {
             this.isFinal = false;
             this.isDeprecated = false;
             this.isFluent = false;
+            this.isCacheReturn = false;
             this.javadoc = null;
             this.isReturnTypeNullable = false;
         }
@@ -135,6 +140,10 @@ public class VertxGenMethod {
         return isFluent;
     }
 
+    public boolean isCacheReturn() {
+        return isCacheReturn;
+    }
+
     public boolean isFinal() {
         return isFinal;
     }
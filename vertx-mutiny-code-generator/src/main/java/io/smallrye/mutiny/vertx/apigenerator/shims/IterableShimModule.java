@@ -6,16 +6,22 @@ import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.javadoc.Javadoc;
+import com.github.javaparser.javadoc.description.JavadocDescription;
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 import com.github.javaparser.resolution.types.ResolvedType;
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.CodeBlock;
 import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.TypeSpec;
+import com.palantir.javapoet.TypeVariableName;
 
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.BaseShimMethod;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimClass;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimModule;
+import io.smallrye.mutiny.vertx.apigenerator.collection.VertxGenClass;
 import io.smallrye.mutiny.vertx.apigenerator.types.JavaType;
 import io.smallrye.mutiny.vertx.apigenerator.types.ResolvedTypeDescriber;
 import io.smallrye.mutiny.vertx.apigenerator.types.TypeDescriber;
@@ -72,9 +78,43 @@ public class IterableShimModule implements ShimModule {
         }
 
         shim.addMethod(new IteratorMethod(this, typeOfItems, converted, isItemVertxGen));
+        if (isItemVertxGen && shim.getVertxGen(typeOfItems).concrete() && !TypeUtils.isParameterizedType(typeOfItems)
+                && shim.getSource().getGenerator().getMetadata().isFlyweight(typeOfItems)) {
+            shim.addMethod(new FlyweightIteratorMethod(this, converted, shim.getVertxGen(typeOfItems), null));
+        } else if (typeOfItems.isTypeVariable()) {
+            VertxGenClass flyweight = getFlyweightOfModule(shim);
+            if (flyweight != null) {
+                shim.addMethod(new FlyweightIteratorMethod(this, converted, flyweight,
+                        "__typeArg_" + getTypeParameterIndex(shim, typeOfItems.asTypeVariable().describe())));
+            }
+        }
         shim.addMethod(new ToMultiMethod(this, converted));
     }
 
+    /**
+     * The items of an iterable of a type variable, such as {@code RowSet<R>}, can be of any type. The flyweight
+     * iterator is only generated when a single flyweight type is declared in the module of the iterable, such as
+     * {@code Row} for {@code RowSet}.
+     */
+    private static VertxGenClass getFlyweightOfModule(ShimClass shim) {
+        List<VertxGenClass> candidates = shim.getSource().getGenerator().getMetadata().getFlyweightTypes().stream()
+                .filter(shim::isVertxGen)
+                .map(shim::getVertxGen)
+                .filter(c -> c.concrete() && c.module().equals(shim.getSource().getModule()))
+                .toList();
+        return candidates.size() == 1 ? candidates.get(0) : null;
+    }
+
+    private static int getTypeParameterIndex(ShimClass shim, String name) {
+        var parameters = shim.getSource().getDeclaration().getTypeParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).getNameAsString().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown type parameter " + name + " in " + shim.getFullyQualifiedName());
+    }
+
     public static class IteratorMethod extends BaseShimMethod {
 
         private final boolean isItemVertxGen;
@@ -117,6 +157,141 @@ public class IterableShimModule implements ShimModule {
         }
     }
 
+    /**
+     * The `flyweightIterator` method, generated when the items are declared as flyweight in the shim metadata:
+     *
+     * <pre>{@code
+     * public Iterator<S> flyweightIterator() {
+     *     class Flyweight extends S {
+     *         private X current;
+     *
+     *         Flyweight() {
+     *             super((X) null);
+     *         }
+     *
+     *         public X getDelegate() {
+     *             return current;
+     *         }
+     *         // hashCode, equals and toString use current
+     *     }
+     *     return MappingIterator.flyweight(delegate.iterator(), new Flyweight(), (w, d) -> w.current = d);
+     * }
+     * }</pre>
+     *
+     * For an iterable of a type variable {@code T}, only the items of the flyweight type are re-targeted, the others are
+     * wrapped with the type argument:
+     *
+     * <pre>{@code
+     * public Iterator<T> flyweightIterator() {
+     *     class Flyweight extends S {
+     *         // same as above
+     *     }
+     *     Flyweight flyweight = new Flyweight();
+     *     return new MappingIterator<T, T>(delegate.iterator(), item -> {
+     *         if (item instanceof X) {
+     *             flyweight.current = (X) item;
+     *             return (T) flyweight;
+     *         }
+     *         return __typeArg_0.wrap(item);
+     *     });
+     * }
+     * }</pre>
+     */
+    public static class FlyweightIteratorMethod extends BaseShimMethod {
+
+        private final Type convertedTypeOfItem;
+        private final VertxGenClass flyweight;
+        private final String typeArg;
+
+        /**
+         * @param typeArg the field holding the type argument of the items if they are of a type variable, {@code null}
+         *        otherwise
+         */
+        public FlyweightIteratorMethod(ShimModule module, Type convertedTypeOfItem, VertxGenClass flyweight,
+                String typeArg) {
+            super(
+                    module,
+                    "flyweightIterator",
+                    StaticJavaParser.parseClassOrInterfaceType("java.util.Iterator").setTypeArguments(convertedTypeOfItem),
+                    List.of(),
+                    List.of(),
+                    false,
+                    false,
+                    new Javadoc(JavadocDescription.parseText(typeArg == null ? """
+                            Like {@link #iterator()}, but returns the same shim instance for every item, re-targeted at the
+                            current item. This avoids allocating a shim per item, but an item is only valid until the next
+                            call to {@link java.util.Iterator#next()}: it must not be stored or used after that.
+                            """ : """
+                            Like {@link #iterator()}, but returns the same shim instance for every item of type {@link %s},
+                            re-targeted at the current item. This avoids allocating a shim per item, but an item is only
+                            valid until the next call to {@link java.util.Iterator#next()}: it must not be stored or used
+                            after that. The items of other types are wrapped as with {@link #iterator()}.
+                            """.formatted(flyweight.getShimClassName()))).addBlockTag("return", "the iterator"),
+                    null);
+            this.convertedTypeOfItem = convertedTypeOfItem;
+            this.flyweight = flyweight;
+            this.typeArg = typeArg;
+        }
+
+        @Override
+        public void generate(ShimClass shim, TypeSpec.Builder builder) {
+            var method = super.generateDeclaration(shim, builder);
+            super.addGeneratedBy(method);
+            var shimItem = JavaType.of(flyweight.getShimClassName()).toTypeName();
+            var bareItem = JavaType.of(flyweight.fullyQualifiedName()).toTypeName();
+            method.addCode(CodeBlock.builder()
+                    .beginControlFlow("class Flyweight extends $T", shimItem)
+                    .addStatement("private $T current", bareItem)
+                    .add("\n")
+                    .beginControlFlow("Flyweight()")
+                    .addStatement("super(($T) null)", bareItem)
+                    .endControlFlow()
+                    .add("\n")
+                    .add("@$T\n", Override.class)
+                    .beginControlFlow("public $T getDelegate()", bareItem)
+                    .addStatement("return current")
+                    .endControlFlow()
+                    .add("\n")
+                    .add("@$T\n", Override.class)
+                    .beginControlFlow("public int hashCode()")
+                    .addStatement("return current.hashCode()")
+                    .endControlFlow()
+                    .add("\n")
+                    .add("@$T\n", Override.class)
+                    .beginControlFlow("public boolean equals(Object o)")
+                    .addStatement("return o instanceof $T && current.equals((($T) o).getDelegate())", shimItem, shimItem)
+                    .endControlFlow()
+                    .add("\n")
+                    .add("@$T\n", Override.class)
+                    .beginControlFlow("public String toString()")
+                    .addStatement("return current.toString()")
+                    .endControlFlow()
+                    .endControlFlow()
+                    .build());
+            if (typeArg == null) {
+                method.addStatement("return $T.flyweight(delegate.iterator(), new Flyweight(), (w, d) -> w.current = d)",
+                        MappingIterator.class);
+            } else {
+                var item = TypeVariableName.get(TypeDescriber.safeDescribeType(convertedTypeOfItem));
+                method.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked").build());
+                method.addStatement("Flyweight flyweight = new Flyweight()");
+                method.addCode(CodeBlock.builder()
+                        .add("return new $T<$T, $T>(delegate.iterator(), item -> {\n", MappingIterator.class, item, item)
+                        .indent()
+                        .beginControlFlow("if (item instanceof $T)", bareItem)
+                        .addStatement("flyweight.current = ($T) item", bareItem)
+                        .addStatement("return ($T) flyweight", item)
+                        .endControlFlow()
+                        .addStatement("return $L.wrap(item)", typeArg)
+                        .unindent()
+                        .add("});\n")
+                        .build());
+            }
+            builder.addMethod(method.build());
+        }
+    }
+
     /**
      * The `toMulti` method:
      * <p>
@@ -58,7 +58,12 @@ public class PlainMethodShimModule implements ShimModule {
             }
 
             if (shim.getSource().getGenerator().getCollectionResult().isVertxGen(TypeUtils.getFullyQualifiedName(returnType))) {
-                shim.addMethod(new PlainMethodReturningVertxGen(this, shim, method, false));
+                PlainMethodReturningVertxGen plain = new PlainMethodReturningVertxGen(this, shim, method, false);
+                if (isCached(shim, method)) {
+                    plain.cacheIn(new CachedWrapperField(this, plain));
+                    shim.addField(plain.cache);
+                }
+                shim.addMethod(plain);
                 if (TypeUtils.hasMethodAReadStreamParameter(method.getParameters())) {
                     shim.addMethod(new PlainMethodReturningVertxGen(this, shim, method, true));
                 }
@@ -79,6 +84,45 @@ public class PlainMethodShimModule implements ShimModule {
         }
     }
 
+    /**
+     * Checks whether the method caches the shim wrapping its result: the method is annotated with {@code @CacheReturn},
+     * or listed in the shim metadata. Only the instance methods without parameters of a shim class, returning a
+     * non-parameterized Vert.x Gen type, are eligible.
+     */
+    private static boolean isCached(ShimClass shim, VertxGenMethod method) {
+        if (!shim.isClass() || method.isStatic() || method.isFluent() || !method.getParameters().isEmpty()) {
+            return false;
+        }
+        ResolvedType returnType = method.getReturnedType();
+        if (!returnType.isReferenceType() || !returnType.asReferenceType().typeParametersMap().isEmpty()) {
+            return false;
+        }
+        if (method.isCacheReturn()) {
+            return true;
+        }
+        try {
+            return shim.getSource().getGenerator().getMetadata()
+                    .isCached(shim.getSource().getDeclaration().resolve(), method.getName());
+        } catch (RuntimeException e) {
+            log.debug("Unable to resolve {}, ignoring the cache configuration", shim.getFullyQualifiedName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * The field caching the shim returned by a {@link PlainMethodReturningVertxGen}:
+     *
+     * <pre>
+     * private S __cached_method;
+     * </pre>
+     */
+    private static class CachedWrapperField extends BaseShimField {
+
+        public CachedWrapperField(ShimModule module, BaseShimMethod method) {
+            super(module, "__cached_" + method.getName(), method.getReturnType(), false, false, true);
+        }
+    }
+
     private static Javadoc adaptJavadoc(ShimClass shim, VertxGenMethod method, List<ShimMethodParameter> parameters) {
         Javadoc javadoc = method.getJavadoc(shim);
         if (method.isReturnTypeNullable()) {
@@ -95,6 +139,7 @@ public class PlainMethodShimModule implements ShimModule {
     private static class PlainMethodReturningVertxGen extends BaseShimMethod {
 
         private final ResolvedType originalReturnType;
+        private CachedWrapperField cache;
 
         public PlainMethodReturningVertxGen(ShimModule module, ShimClass shim, VertxGenMethod method,
                 boolean readStreamAsPublisher) {
@@ -112,6 +157,10 @@ public class PlainMethodShimModule implements ShimModule {
             setJavadoc(adaptJavadoc(shim, method, getParameters()));
         }
 
+        void cacheIn(CachedWrapperField field) {
+            this.cache = field;
+        }
+
         @Override
         public void generate(ShimClass shim, TypeSpec.Builder builder) {
             // Declaration
@@ -286,6 +335,29 @@ public class PlainMethodShimModule implements ShimModule {
                                     JavaType.of(shim.getVertxGen(originalReturnType).getShimClassName()).toTypeName(),
                                     JavaType.of(originalReturnType.asReferenceType().getQualifiedName()).toTypeName());
                         }
+                    } else if (cache != null) {
+                        // Reuse the cached shim as long as the delegate returns the same instance:
+                        // S _cached = this.__cached_method;
+                        // if (_cached == null || _cached.getDelegate() != _res) {
+                        //     _cached = new S(_res);
+                        //     this.__cached_method = _cached;
+                        // }
+                        // return _cached;
+                        if (getOriginalMethod().isReturnTypeNullable()) {
+                            code.beginControlFlow("if (_res == null)")
+                                    .addStatement("return null")
+                                    .endControlFlow();
+                        }
+                        code.addStatement("$T _cached = this.$L", Shim.getTypeNameFromType(getReturnType()), cache.getName())
+                                .beginControlFlow("if (_cached == null || _cached.getDelegate() != _res)")
+                                .addStatement("_cached = new $T(_res)",
+                                        shim.getVertxGen(originalReturnType).concrete()
+                                                ? Shim.getTypeNameFromType(getReturnType())
+                                                : JavaType.of(shim.getVertxGen(originalReturnType).getShimCompanionName())
+                                                        .toTypeName())
+                                .addStatement("this.$L = _cached", cache.getName())
+                                .endControlFlow()
+                                .addStatement("return _cached");
                     } else {
                         if (getOriginalMethod().isReturnTypeNullable()) {
                             code.addStatement("return (_res == null) ? null : new $T(_res)",
@@ -1,11 +1,15 @@
 package io.smallrye.mutiny.vertx.apigenerator.shims;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.type.PrimitiveType;
 import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.javadoc.Javadoc;
+import com.github.javaparser.javadoc.description.JavadocDescription;
 import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 import com.github.javaparser.resolution.types.ResolvedType;
@@ -18,13 +22,15 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.BaseShimField;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.BaseShimMethod;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimClass;
+import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimMethodParameter;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.ShimModule;
 import io.smallrye.mutiny.vertx.apigenerator.types.JavaType;
 import io.smallrye.mutiny.vertx.apigenerator.types.ResolvedTypeDescriber;
 import io.smallrye.mutiny.vertx.apigenerator.types.TypeDescriber;
 
 /**
- * Generate the toMulti, toBlockingIterable and toBlockingStream methods when the source implements the ReadStream interface.
+ * Generate the toMulti, toBlockingIterable and toBlockingStream methods when the source implements the ReadStream interface,
+ * and the toBatchedMulti method when the shim metadata enables it.
  */
 public class ReadStreamModule implements ShimModule {
 
@@ -61,6 +67,9 @@ public class ReadStreamModule implements ShimModule {
             shim.addMethod(new toMultiMethod(this, shim, originalItemType, itemType, false));
             shim.addMethod(new toBlockingIterableMethod(this, itemType));
             shim.addMethod(new toBlockingStreamMethod(this, itemType));
+            if (shim.getSource().getGenerator().getMetadata().isBatched(shim.getSource().getDeclaration().resolve())) {
+                shim.addMethod(new toBatchedMultiMethod(this, shim, originalItemType, itemType));
+            }
         } else {
             shim.addMethod(new toMultiMethod(this, shim, originalItemType, itemType, true));
         }
@@ -116,27 +125,7 @@ public class ReadStreamModule implements ShimModule {
 
             method.beginControlFlow("if (multi == null)");
 
-            // If the element type is Vert.x Gen type, we need to generate a conversion function
-            if (isVertxGen) {
-                // Generate the conversion function
-                // java.util.function.Function<OriginalType, ItemType> conv = OriginalType::newInstance;
-                // multi = io.smallrye.mutiny.vertx.MultiHelper.toMulti(delegate, conv);
-
-                method.addStatement("$T<$T, $T> _conv = $T::newInstance", java.util.function.Function.class,
-                        JavaType.of(ResolvedTypeDescriber.describeResolvedType(originalItemType)).toTypeName(),
-                        JavaType.of(TypeDescriber.safeDescribeType(itemType)).toTypeName(),
-                        JavaType.of(itemType.asClassOrInterfaceType().getNameAsString()).toTypeName() // Erased
-                );
-                method.addStatement("multi = $T.toMulti(delegate, _conv)", io.smallrye.mutiny.vertx.MultiHelper.class);
-            } else if (originalItemType.isTypeVariable()) {
-                String n = originalItemType.asTypeVariable().describe(); // It should be T
-                method.addStatement("$T<$T, $T> _conv = ($T<$T, $T>) __typeArg_0.wrap", // This might be wrong if the type has multiple type parameters.
-                        java.util.function.Function.class,
-                        TypeVariableName.get(n),
-                        TypeVariableName.get(n),
-                        java.util.function.Function.class,
-                        TypeVariableName.get(n),
-                        TypeVariableName.get(n));
+            if (addConversion(method, isVertxGen, originalItemType, itemType)) {
                 method.addStatement("multi = $T.toMulti(delegate, _conv)", io.smallrye.mutiny.vertx.MultiHelper.class);
             } else {
                 method.addStatement("multi = $T.toMulti(this.getDelegate())", io.smallrye.mutiny.vertx.MultiHelper.class);
@@ -148,6 +137,89 @@ public class ReadStreamModule implements ShimModule {
         }
     }
 
+    /**
+     * Declares the {@code _conv} function converting the items of the bare stream to the items of the shim, if needed.
+     *
+     * @return whether the function has been declared
+     */
+    private static boolean addConversion(MethodSpec.Builder method, boolean isVertxGen, ResolvedType originalItemType,
+            Type itemType) {
+        // If the element type is Vert.x Gen type, we need to generate a conversion function
+        if (isVertxGen) {
+            // Generate the conversion function
+            // java.util.function.Function<OriginalType, ItemType> conv = OriginalType::newInstance;
+            method.addStatement("$T<$T, $T> _conv = $T::newInstance", java.util.function.Function.class,
+                    JavaType.of(ResolvedTypeDescriber.describeResolvedType(originalItemType)).toTypeName(),
+                    JavaType.of(TypeDescriber.safeDescribeType(itemType)).toTypeName(),
+                    JavaType.of(itemType.asClassOrInterfaceType().getNameAsString()).toTypeName() // Erased
+            );
+            return true;
+        } else if (originalItemType.isTypeVariable()) {
+            String n = originalItemType.asTypeVariable().describe(); // It should be T
+            method.addStatement("$T<$T, $T> _conv = ($T<$T, $T>) __typeArg_0.wrap", // This might be wrong if the type has multiple type parameters.
+                    java.util.function.Function.class,
+                    TypeVariableName.get(n),
+                    TypeVariableName.get(n),
+                    java.util.function.Function.class,
+                    TypeVariableName.get(n),
+                    TypeVariableName.get(n));
+            return true;
+        }
+        return false;
+    }
+
+    private static class toBatchedMultiMethod extends BaseShimMethod {
+
+        private final boolean isVertxGen;
+        private final ResolvedType originalItemType;
+        private final Type itemType;
+
+        public toBatchedMultiMethod(ShimModule module, ShimClass shim, ResolvedType originalItemType, Type itemType) {
+            super(
+                    module,
+                    "toBatchedMulti",
+                    StaticJavaParser.parseClassOrInterfaceType(Multi.class.getName()).setTypeArguments(
+                            StaticJavaParser.parseClassOrInterfaceType(List.class.getName()).setTypeArguments(itemType)),
+                    List.of(new ShimMethodParameter("maxSize", PrimitiveType.intType(), null, false),
+                            new ShimMethodParameter("maxDelay",
+                                    StaticJavaParser.parseClassOrInterfaceType(Duration.class.getName()), null, false)),
+                    List.of(),
+                    false,
+                    false,
+                    new Javadoc(JavadocDescription.parseText("""
+                            Adapts this stream to a {@link io.smallrye.mutiny.Multi} emitting the items in batches of at
+                            most {@code maxSize} items. A batch is emitted once full, or {@code maxDelay} after its first
+                            item was received. The items are fetched for the requested batches, at most two batches
+                            ahead, the other items stay in the buffer of this stream.
+                            <p>
+                            Like {@link #toMulti()}, the stream accepts a single subscriber, and its handlers must not be
+                            used anymore.
+                            """))
+                            .addBlockTag("param", "maxSize", "the maximum number of items of a batch")
+                            .addBlockTag("param", "maxDelay",
+                                    "the maximum delay between the first item of a batch and its emission")
+                            .addBlockTag("return", "the stream of batches"),
+                    null);
+            this.isVertxGen = shim.isVertxGen(originalItemType);
+            this.originalItemType = originalItemType;
+            this.itemType = itemType;
+        }
+
+        @Override
+        public void generate(ShimClass shim, TypeSpec.Builder builder) {
+            MethodSpec.Builder method = super.generateDeclaration(shim, builder);
+            method.addAnnotation(CheckReturnValue.class);
+            if (addConversion(method, isVertxGen, originalItemType, itemType)) {
+                method.addStatement("return $T.toBatchedMulti(delegate, _conv, maxSize, maxDelay)",
+                        io.smallrye.mutiny.vertx.MultiHelper.class);
+            } else {
+                method.addStatement("return $T.toBatchedMulti(this.getDelegate(), maxSize, maxDelay)",
+                        io.smallrye.mutiny.vertx.MultiHelper.class);
+            }
+            builder.addMethod(method.build());
+        }
+    }
+
     private static class toBlockingIterableMethod extends BaseShimMethod {
 
         public toBlockingIterableMethod(ShimModule module, Type itemType) {
@@ -2,6 +2,7 @@ package io.smallrye.mutiny.vertx.apigenerator.shims;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -19,12 +20,14 @@ import com.github.javaparser.resolution.types.ResolvedType;
 import com.palantir.javapoet.*;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.FutureUni;
 import io.smallrye.mutiny.vertx.apigenerator.analysis.*;
 import io.smallrye.mutiny.vertx.apigenerator.collection.VertxGenMethod;
 import io.smallrye.mutiny.vertx.apigenerator.types.JavaType;
 import io.smallrye.mutiny.vertx.apigenerator.types.ResolvedTypeDescriber;
 import io.smallrye.mutiny.vertx.apigenerator.types.TypeDescriber;
 import io.smallrye.mutiny.vertx.apigenerator.utils.JavadocHelper;
+import io.smallrye.mutiny.vertx.apigenerator.utils.ShimMetadata;
 import io.smallrye.mutiny.vertx.apigenerator.utils.TypeUtils;
 
 /**
@@ -160,7 +163,7 @@ public class UniMethodShimModule implements ShimModule {
      * <pre>
      * Uni&lt;S&gt; method(...) {
      *     ... params...
-     *     return Uni.createFrom().completionStage(() -> getDelegate().method(_param1, _param2).toCompletionStage()).map(S::new);
+     *     return FutureUni.toUni(() -> getDelegate().method(_param1, _param2), S::new);
      * }
      * </pre>
      * </code>
@@ -208,9 +211,9 @@ public class UniMethodShimModule implements ShimModule {
             // Delegate, Create Uni and transform the item:
             // Supplier<Future<X>> _res = () -> getDelegate().method(_param1, _param2);
             // either
-            // (i) return Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(S::new);
+            // (i) return FutureUni.toUni(_res, S::new);
             // OR
-            // (ii) Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(el -> io.vertx.mutiny.T.newInstance((io.vertx.T)el));
+            // (ii) FutureUni.toUni(_res, el -> io.vertx.mutiny.T.newInstance((io.vertx.T)el));
             // (ii) is applied if the T in Future<T> in the original method is an interface annotated with VertxGen
             if (isStatic()) {
                 code.addStatement("$T<$T> _res = () -> $T.$L($L)", ClassName.get(Supplier.class), futureTypeName,
@@ -229,20 +232,19 @@ public class UniMethodShimModule implements ShimModule {
             if (typeArguments.stream().anyMatch(type -> shim.getSource().getGenerator().getCollectionResult()
                     .isVertxGen(
                             originalReturnType.typeParametersMap().getTypes().get(0).asReferenceType().getQualifiedName()))) {
-                code.addStatement(
-                        "return $T.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(el -> " +
-                                "$L.newInstance(($L)el))",
-                        Uni.class,
-                        (shim.getVertxGen(itemType).concrete() ? shimStaticClass
-                                : shimItemType.asClassOrInterfaceType().getNameWithScope()),
-                        (shim.getVertxGen(itemType).concrete() ? itemType.asReferenceType().getQualifiedName()
-                                : shim.getVertxGen(itemType).fullyQualifiedName()));
+                code.addStatement("return $L", toUni(shim, this,
+                        CodeBlock.of("el -> $L.newInstance(($L)el)",
+                                (shim.getVertxGen(itemType).concrete() ? shimStaticClass
+                                        : shimItemType.asClassOrInterfaceType().getNameWithScope()),
+                                (shim.getVertxGen(itemType).concrete() ? itemType.asReferenceType().getQualifiedName()
+                                        : shim.getVertxGen(itemType).fullyQualifiedName())),
+                        itemType));
             } else {
-                code.addStatement(
-                        "return $T.createFrom().completionStage(() -> _res.get().toCompletionStage()).map($T::new)",
-                        Uni.class,
-                        shim.getVertxGen(itemType).concrete() ? shimTypeName
-                                : JavaType.of(shim.getVertxGen(itemType).getShimCompanionName()).toTypeName());
+                code.addStatement("return $L", toUni(shim, this,
+                        CodeBlock.of("$T::new",
+                                shim.getVertxGen(itemType).concrete() ? shimTypeName
+                                        : JavaType.of(shim.getVertxGen(itemType).getShimCompanionName()).toTypeName()),
+                        itemType));
             }
 
             method.addCode(code.build());
@@ -264,7 +266,7 @@ public class UniMethodShimModule implements ShimModule {
      * Uni&lt;List&lt;S&gt;&gt; method(...) {
      *     ... params...
      *     Future&lt;List&lt;X&gt;&gt; _res = getDelegate().method(_param1, _param2);
-     *     return Uni.createFrom().completionStage(() -> _res.toCompletionStage()).map(list -> list.stream().map(S::new).collect(Collectors.toList()));
+     *     return FutureUni.toUni(_res, list -> list.stream().map(S::new).collect(Collectors.toList()));
      * }
      * </pre>
      * </code>
@@ -311,7 +313,7 @@ public class UniMethodShimModule implements ShimModule {
             // Uni<List<S>> method(...) { // Or Set instead of List
             //     ... params...
             //     Supplier<Future<List<X>>> _res = () -> getDelegate().method(_param1, _param2); // Or Set instead of List
-            //     return Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(list -> list.stream().map(S::new).collect(Collectors.toList())); // Or toSet()
+            //     return FutureUni.toUni(_res, list -> list.stream().map(S::new).collect(Collectors.toList())); // Or toSet()
             // }
 
             // Invoke the method
@@ -324,13 +326,14 @@ public class UniMethodShimModule implements ShimModule {
                 code.addStatement("$T<$T> _res = () -> getDelegate().$L($L)", Supplier.class, futureTypeName, getName(),
                         String.join(", ", getParameters().stream().map(p -> "_" + p.name()).toList()));
             }
-            code.addStatement(
-                    "return $T.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(__list -> __list.stream().map($T::new).collect($T.$L()))",
-                    Uni.class,
-                    shim.getVertxGen(originalElementType).concrete() ? elementTypeName
-                            : JavaType.of(shim.getVertxGen(originalElementType).getShimCompanionName()).toTypeName(),
-                    Collectors.class,
-                    isSet ? "toSet" : "toList");
+            code.addStatement("return $L", toUni(shim, this,
+                    CodeBlock.of("__list -> __list.stream().map($T::new).collect($T.$L())",
+                            shim.getVertxGen(originalElementType).concrete() ? elementTypeName
+                                    : JavaType.of(shim.getVertxGen(originalElementType).getShimCompanionName())
+                                            .toTypeName(),
+                            Collectors.class,
+                            isSet ? "toSet" : "toList"),
+                    null));
 
             method.addCode(code.build());
             builder.addMethod(method.build());
@@ -351,7 +354,7 @@ public class UniMethodShimModule implements ShimModule {
      * Uni&lt;Map&lt;K, S&gt;&gt; method(...) {
      *     ... params...
      *     Future&lt;Map&lt;K, V&gt;&gt; _res = getDelegate().method(_param1, _param2);
-     *     return Uni.createFrom().completionStage(() -> _res.toCompletionStage()).map(map -> map.entrySet().stream()
+     *     return FutureUni.toUni(_res, map -> map.entrySet().stream()
      *      .collect(Collectors.toMap(Map.Entry::getKey, e -> new S(e.getValue())));
      * }
      * </pre>
@@ -399,7 +402,7 @@ public class UniMethodShimModule implements ShimModule {
             // Uni<Map<K, S>> method(...) {
             //  ... params...
             //  Supplier<Future<Map<K, V>>> _res = () -> getDelegate().method(_param1, _param2);
-            //  return Uni.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(map -> map.entrySet().stream()
+            //  return FutureUni.toUni(_res, map -> map.entrySet().stream()
             //       .collect(Collectors.toMap(Map.Entry::getKey, e -> new S(e.getValue())));
             // }
 
@@ -413,15 +416,15 @@ public class UniMethodShimModule implements ShimModule {
                 code.addStatement("$T<$T> _res = () -> getDelegate().$L($L)", Supplier.class, futureTypeName, getName(),
                         String.join(", ", getParameters().stream().map(p -> "_" + p.name()).toList()));
             }
-            code.addStatement(
-                    "return $T.createFrom().completionStage(() -> _res.get().toCompletionStage()).map(__map -> __map.entrySet().stream()\n"
-                            +
-                            "        .collect($T.toMap($T::getKey, e -> new $T(e.getValue()))))",
-                    Uni.class,
-                    Collectors.class,
-                    Map.Entry.class,
-                    shim.getVertxGen(originalValueType).concrete() ? shimValueTypeName
-                            : JavaType.of(shim.getVertxGen(originalValueType).getShimCompanionName()).toTypeName());
+            code.addStatement("return $L", toUni(shim, this,
+                    CodeBlock.of("__map -> __map.entrySet().stream()\n"
+                            + "        .collect($T.toMap($T::getKey, e -> new $T(e.getValue())))",
+                            Collectors.class,
+                            Map.Entry.class,
+                            shim.getVertxGen(originalValueType).concrete() ? shimValueTypeName
+                                    : JavaType.of(shim.getVertxGen(originalValueType).getShimCompanionName())
+                                            .toTypeName()),
+                    null));
 
             method.addCode(code.build());
             builder.addMethod(method.build());
@@ -441,7 +444,7 @@ public class UniMethodShimModule implements ShimModule {
      * Uni&lt;X&gt method(...) {
      *     ... params...
      *     Future&lt;X&gt; _res = getDelegate().method(_param1, _param2);
-     *     return Uni.createFrom().completionStage(() -> _res.toCompletionStage());
+     *     return FutureUni.toUni(_res);
      * }
      * </pre>
      * </code>
@@ -488,7 +491,7 @@ public class UniMethodShimModule implements ShimModule {
             // We just delegate:
             // ... params ...
             // Supplier<Future<X>> _res = () -> getDelegate().method(_param1, _param2);
-            // return Uni.createFrom().completionStage(() -> _res.get().toCompletionStage());
+            // return FutureUni.toUni(_res);
 
             if (isStatic()) {
                 code.addStatement("$T<$T> _res = () -> $T.$L($L)", Supplier.class, futureTypeName,
@@ -518,16 +521,9 @@ public class UniMethodShimModule implements ShimModule {
                     typeCast = typeCastList.get(0);
                 }
             }
-            if (typeCast != null) {
-                code.addStatement(
-                        "return $T.createFrom().completionStage(() -> _res.get()" +
-                                ".toCompletionStage().thenApply($L::wrap))",
-                        Uni.class, typeCast.getName());
-            } else {
-                code.addStatement(
-                        "return $T.createFrom().completionStage(() -> _res.get().toCompletionStage())",
-                        Uni.class);
-            }
+            code.addStatement("return $L", toUni(shim, this,
+                    typeCast != null ? CodeBlock.of("$L::wrap", typeCast.getName()) : null,
+                    TypeUtils.getFirstParameterizedType(getOriginalMethod().getReturnedType())));
 
             method.addCode(code.build());
             builder.addMethod(method.build());
@@ -538,6 +534,40 @@ public class UniMethodShimModule implements ShimModule {
         }
     }
 
+    /**
+     * Generates the creation of the {@code Uni} from the {@code _res} supplier, with the given mapper fused in, and the
+     * cancellation hooks declared in the {@link ShimMetadata shim metadata}:
+     * <code>
+     * <pre>
+     * FutureUni.toUni(_res, S::new, () -> getDelegate().reset(), __discarded -> __discarded.close())
+     * </pre>
+     * </code>
+     *
+     * @param mapper the mapper wrapping the result, {@code null} if the result is emitted as is
+     * @param resultType the type of result to check for a discard hook, {@code null} to not check
+     */
+    private static CodeBlock toUni(ShimClass shim, BaseShimMethod method, CodeBlock mapper, ResolvedType resultType) {
+        ShimMetadata metadata = shim.getSource().getGenerator().getMetadata();
+        String onCancellation = null;
+        if (!method.isStatic()) {
+            try {
+                onCancellation = metadata.getCancellationHook(shim.getSource().getDeclaration().resolve(),
+                        method.getName());
+            } catch (RuntimeException e) {
+                logger.debug("Unable to resolve {}, ignoring the cancellation hooks", shim.getFullyQualifiedName(), e);
+            }
+        }
+        String onDiscard = resultType == null ? null : metadata.getDiscardHook(resultType);
+        if (onCancellation == null && onDiscard == null) {
+            return mapper == null ? CodeBlock.of("$T.toUni(_res)", FutureUni.class)
+                    : CodeBlock.of("$T.toUni(_res, $L)", FutureUni.class, mapper);
+        }
+        return CodeBlock.of("$T.toUni(_res, $L, $L, $L)", FutureUni.class,
+                mapper == null ? CodeBlock.of("$T.identity()", Function.class) : mapper,
+                onCancellation == null ? "null" : CodeBlock.of("() -> getDelegate().$L", onCancellation),
+                onDiscard == null ? "null" : CodeBlock.of("__discarded -> __discarded.$L", onDiscard));
+    }
+
     private static MethodSpec.Builder generateAwaitMethod(ShimClass shim, BaseShimMethod method, Type shimElementType,
             Javadoc originalJavadoc) {
         MethodSpec.Builder awaitMethod = MethodSpec.methodBuilder(method.getName() + "AndAwait");
@@ -564,7 +594,9 @@ public class UniMethodShimModule implements ShimModule {
         List<String> callArgs = method.getParameters().stream().map(ShimMethodParameter::name).toList();
         TypeName uniType = Shim.getTypeNameFromType(method.getReturnType());
         awaitCode.addStatement("$T _res = $L($L)", uniType, method.getName(), String.join(", ", callArgs));
-        if (!isVoid) {
+        if (shim.getSource().getGenerator().isVirtualThreadAwait()) {
+            awaitCode.addStatement(isVoid ? "$T.await(_res)" : "return $T.await(_res)", FutureUni.class);
+        } else if (!isVoid) {
             awaitCode.addStatement("return _res.await().indefinitely()");
         } else {
             awaitCode.addStatement("_res.await().indefinitely()");
@@ -0,0 +1,223 @@
+package io.smallrye.mutiny.vertx.apigenerator.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+
+/**
+ * Per-type metadata customizing the generated shims.
+ * <p>
+ * The metadata is a set of properties. The defaults are bundled with the generator ({@value #DEFAULTS}), and additional
+ * files can be passed with {@code --metadata}. Types are designated by their fully qualified name, and an entry also
+ * applies to the sub-types of the designated type. The supported entries are:
+ * <ul>
+ * <li>{@code cancel.<type>[#<method>,...]=<call>}: when a {@code Uni} returned by one of the listed methods (all the
+ * methods returning a {@code Future} if none is listed) is cancelled while the operation is in progress, {@code <call>}
+ * is invoked on the delegate, e.g. {@code cancel.io.vertx.core.http.HttpClientRequest#send=reset()};</li>
+ * <li>{@code discard.<type>=<call>}: when a {@code Uni} emitting an instance of {@code <type>} is cancelled and the
+ * operation completes anyway, {@code <call>} is invoked on the result, e.g.
+ * {@code discard.io.vertx.sqlclient.SqlConnection=close()};</li>
+ * <li>{@code cache.<type>[#<method>,...]=true}: the listed methods (all the eligible methods if none is listed) keep
+ * the shim wrapping their result in a field, and return it again as long as the delegate returns the same instance.
+ * Only the methods without parameters returning a {@code Vert.x Gen} type are eligible. The methods annotated with
+ * {@code @CacheReturn} are cached without entry;</li>
+ * <li>{@code flyweight.<type>=true}: the shims of the iterables of {@code <type>} get a {@code flyweightIterator()}
+ * method, returning a single wrapper re-targeted at each item. The iterables of a type variable declared in the module
+ * of {@code <type>}, such as {@code RowSet<R>} for {@code io.vertx.sqlclient.Row}, get it too, and only re-target the
+ * wrapper at the items of type {@code <type>};</li>
+ * <li>{@code batch.<type>=true}: the shims of {@code <type>}, a {@code ReadStream}, get a
+ * {@code toBatchedMulti(maxSize, maxDelay)} method emitting the items in lists, e.g.
+ * {@code batch.io.vertx.core.eventbus.MessageConsumer=true}.</li>
+ * </ul>
+ * The {@code cancel} and {@code discard} entries change the behavior of the cancelled {@code Uni}s, so the bundled
+ * defaults only list them as commented examples: they are enabled with {@code --metadata}.
+ */
+public class ShimMetadata {
+
+    public static final String DEFAULTS = "shim-metadata.properties";
+
+    private static final String CANCEL = "cancel.";
+    private static final String DISCARD = "discard.";
+    private static final String CACHE = "cache.";
+    private static final String FLYWEIGHT = "flyweight.";
+    private static final String BATCH = "batch.";
+    private static final List<String> PREFIXES = List.of(CANCEL, DISCARD, CACHE, FLYWEIGHT, BATCH);
+
+    private static final Logger logger = LoggerFactory.getLogger(ShimMetadata.class);
+
+    private final Map<String, String> entries = new LinkedHashMap<>();
+
+    /**
+     * @return the metadata bundled with the generator
+     */
+    public static ShimMetadata defaults() {
+        ShimMetadata metadata = new ShimMetadata();
+        try (InputStream stream = ShimMetadata.class.getClassLoader().getResourceAsStream(DEFAULTS)) {
+            if (stream != null) {
+                Properties properties = new Properties();
+                properties.load(stream);
+                metadata.add(properties);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + DEFAULTS, e);
+        }
+        return metadata;
+    }
+
+    /**
+     * Adds the entries of the given properties file, overriding the existing ones.
+     *
+     * @param file the file
+     * @return this metadata
+     */
+    public ShimMetadata load(Path file) {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            add(properties);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the shim metadata from " + file, e);
+        }
+        return this;
+    }
+
+    private void add(Properties properties) {
+        for (String key : properties.stringPropertyNames()) {
+            if (PREFIXES.stream().noneMatch(key::startsWith)) {
+                logger.warn("Ignoring unknown shim metadata entry `{}`", key);
+                continue;
+            }
+            entries.put(key, properties.getProperty(key).trim());
+        }
+    }
+
+    /**
+     * Finds the call to invoke on the delegate when a {@code Uni} returned by the given method is cancelled.
+     *
+     * @param type the type declaring the shim
+     * @param method the name of the method
+     * @return the call, such as {@code reset()}, {@code null} if none
+     */
+    public String getCancellationHook(ResolvedReferenceTypeDeclaration type, String method) {
+        return findMethodEntry(CANCEL, type, method);
+    }
+
+    /**
+     * @param type the type declaring the shim
+     * @param method the name of the method
+     * @return whether the method caches the shim wrapping its result
+     */
+    public boolean isCached(ResolvedReferenceTypeDeclaration type, String method) {
+        return Boolean.parseBoolean(findMethodEntry(CACHE, type, method));
+    }
+
+    /**
+     * @param type the type of item
+     * @return whether the iterables of the given type get a flyweight iterator
+     */
+    public boolean isFlyweight(ResolvedType type) {
+        return Boolean.parseBoolean(findTypeEntry(FLYWEIGHT, type));
+    }
+
+    /**
+     * @return the fully qualified names of the types declared as flyweight
+     */
+    public List<String> getFlyweightTypes() {
+        List<String> types = new ArrayList<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(FLYWEIGHT) && Boolean.parseBoolean(entry.getValue())) {
+                types.add(entry.getKey().substring(FLYWEIGHT.length()));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * @param type the type declaring the shim
+     * @return whether the shim of the given read stream gets a {@code toBatchedMulti} method
+     */
+    public boolean isBatched(ResolvedReferenceTypeDeclaration type) {
+        for (String name : hierarchy(type)) {
+            if (Boolean.parseBoolean(entries.get(BATCH + name))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String findMethodEntry(String prefix, ResolvedReferenceTypeDeclaration type, String method) {
+        for (String name : hierarchy(type)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                String key = entry.getKey();
+                if (!key.startsWith(prefix)) {
+                    continue;
+                }
+                String target = key.substring(prefix.length());
+                int index = target.indexOf('#');
+                if (index == -1 && target.equals(name)) {
+                    return entry.getValue();
+                }
+                if (index != -1 && target.substring(0, index).equals(name)
+                        && List.of(target.substring(index + 1).split(",")).contains(method)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the call to invoke on a result emitted after cancellation.
+     *
+     * @param type the type of result
+     * @return the call, such as {@code close()}, {@code null} if none
+     */
+    public String getDiscardHook(ResolvedType type) {
+        return findTypeEntry(DISCARD, type);
+    }
+
+    private String findTypeEntry(String prefix, ResolvedType type) {
+        if (!type.isReferenceType()) {
+            return null;
+        }
+        var declaration = type.asReferenceType().getTypeDeclaration();
+        if (declaration.isEmpty()) {
+            return null;
+        }
+        for (String name : hierarchy(declaration.get())) {
+            String value = entries.get(prefix + name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> hierarchy(ResolvedReferenceTypeDeclaration type) {
+        List<String> names = new ArrayList<>();
+        names.add(type.getQualifiedName());
+        try {
+            for (ResolvedReferenceType ancestor : type.getAllAncestors()) {
+                names.add(ancestor.getQualifiedName());
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Unable to resolve the ancestors of {}", type.getQualifiedName(), e);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,227 @@
+package io.smallrye.mutiny.vertx.apigenerator.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.mutiny.vertx.apigenerator.MutinyGenerator;
+import io.smallrye.mutiny.vertx.apigenerator.tests.Env;
+
+/**
+ * Check the {@code cache} and {@code flyweight} shim metadata entries, and the {@code @CacheReturn} annotation.
+ */
+public class CachedWrapperTest {
+
+    @Test
+    void cachedWrappers(@TempDir Path dir) throws Exception {
+        Env env = new Env()
+                .addJavaCode("org.acme", "Response", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Response {
+                        }
+                        """)
+                .addJavaCode("org.acme", "Request", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.Nullable;
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Request {
+                            Response response();
+                            @Nullable Response previous();
+                            Response other();
+                            Response forName(String name);
+                        }
+                        """);
+        env.addModuleGen("org.acme", "test");
+        MutinyGenerator generator = generator(env, dir, "cache.org.acme.Request#response,previous,forName=true");
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        env.compile();
+
+        MutinyGenerator.GeneratorOutput output = Env.getOutputFor(outputs, "org.acme.Request");
+        assertThat(Env.findField(output, "__cached_response")).isNotNull();
+        assertThat(Env.findField(output, "__cached_previous")).isNotNull();
+        assertThat(output.javaFile().typeSpec().fieldSpecs())
+                .noneMatch(f -> f.name().equals("__cached_other") || f.name().equals("__cached_forName"));
+        assertThat(Env.findMethod(output, "response").code().toString())
+                .contains("_cached.getDelegate() != _res")
+                .doesNotContain("_res == null");
+        assertThat(Env.findMethod(output, "previous").code().toString())
+                .contains("if (_res == null)");
+        assertThat(Env.findMethod(output, "other").code().toString())
+                .doesNotContain("_cached");
+
+        // The shim is reused as long as the delegate returns the same instance
+        Class<?> bareRequest = env.getClass("org.acme.Request");
+        Class<?> bareResponse = env.getClass("org.acme.Response");
+        AtomicReference<Object> current = new AtomicReference<>(proxy(bareResponse));
+        Object request = Proxy.newProxyInstance(bareRequest.getClassLoader(), new Class<?>[] { bareRequest },
+                (proxy, method, args) -> method.getName().equals("response") ? current.get() : null);
+        Object shim = env.getClass("org.acme.mutiny.Request").getConstructor(bareRequest).newInstance(request);
+
+        Object first = env.invoke(shim, "response");
+        assertThat(env.<Object> invoke(shim, "response")).isSameAs(first);
+        current.set(proxy(bareResponse));
+        Object second = env.invoke(shim, "response");
+        assertThat(second).isNotSameAs(first);
+        assertThat(env.<Object> invoke(second, "getDelegate")).isSameAs(current.get());
+        assertThat(env.<Object> invoke(shim, "previous")).isNull();
+    }
+
+    @Test
+    void cacheReturn(@TempDir Path dir) throws Exception {
+        Env env = new Env()
+                .addJavaCode("org.acme", "Response", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Response {
+                        }
+                        """)
+                .addJavaCode("org.acme", "Request", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.CacheReturn;
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Request {
+                            @CacheReturn
+                            Response response();
+                            Response other();
+                        }
+                        """);
+        env.addModuleGen("org.acme", "test");
+        MutinyGenerator generator = new MutinyGenerator(env.root());
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        env.compile();
+
+        MutinyGenerator.GeneratorOutput output = Env.getOutputFor(outputs, "org.acme.Request");
+        assertThat(Env.findField(output, "__cached_response")).isNotNull();
+        assertThat(output.javaFile().typeSpec().fieldSpecs()).noneMatch(f -> f.name().equals("__cached_other"));
+
+        Class<?> bareRequest = env.getClass("org.acme.Request");
+        Object response = proxy(env.getClass("org.acme.Response"));
+        Object request = Proxy.newProxyInstance(bareRequest.getClassLoader(), new Class<?>[] { bareRequest },
+                (proxy, method, args) -> response);
+        Object shim = env.getClass("org.acme.mutiny.Request").getConstructor(bareRequest).newInstance(request);
+        assertThat(env.<Object> invoke(shim, "response")).isSameAs(env.invoke(shim, "response"));
+        assertThat(env.<Object> invoke(shim, "other")).isNotSameAs(env.invoke(shim, "other"));
+    }
+
+    @Test
+    void flyweightIterator(@TempDir Path dir) throws Exception {
+        Env env = new Env()
+                .addJavaCode("org.acme", "Item", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Item {
+                            String name();
+                        }
+                        """)
+                .addJavaCode("org.acme", "Items", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Items extends Iterable<Item> {
+                        }
+                        """)
+                .addJavaCode("org.acme", "Names", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Names extends Iterable<String> {
+                        }
+                        """)
+                .addJavaCode("org.acme", "Page", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Page<T> extends Iterable<T> {
+                        }
+                        """);
+        env.addModuleGen("org.acme", "test");
+        MutinyGenerator generator = generator(env, dir, "flyweight.org.acme.Item=true");
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        env.compile();
+
+        assertThat(Env.getOutputFor(outputs, "org.acme.Names").javaFile().typeSpec().methodSpecs())
+                .noneMatch(m -> m.name().equals("flyweightIterator"));
+        // Items of a type variable are only re-targeted if they are of the flyweight type of the module
+        assertThat(Env.findMethod(Env.getOutputFor(outputs, "org.acme.Page"), "flyweightIterator").code().toString())
+                .contains("item instanceof org.acme.Item")
+                .contains("__typeArg_0.wrap(item)");
+
+        Class<?> bareItems = env.getClass("org.acme.Items");
+        Class<?> bareItem = env.getClass("org.acme.Item");
+        List<Object> items = new ArrayList<>();
+        for (String name : List.of("a", "b", "c")) {
+            items.add(Proxy.newProxyInstance(bareItem.getClassLoader(), new Class<?>[] { bareItem },
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "name", "toString" -> name;
+                        case "hashCode" -> name.hashCode();
+                        case "equals" -> proxy == args[0];
+                        default -> null;
+                    }));
+        }
+        Object delegate = Proxy.newProxyInstance(bareItems.getClassLoader(), new Class<?>[] { bareItems },
+                (proxy, method, args) -> method.getName().equals("iterator") ? items.iterator() : null);
+        Object shim = env.getClass("org.acme.mutiny.Items").getConstructor(bareItems).newInstance(delegate);
+
+        Iterator<?> iterator = env.invoke(shim, "flyweightIterator");
+        List<String> names = new ArrayList<>();
+        Object previous = null;
+        while (iterator.hasNext()) {
+            Object item = iterator.next();
+            assertThat(item).isInstanceOf(env.getClass("org.acme.mutiny.Item"));
+            if (previous != null) {
+                assertThat(item).isSameAs(previous);
+            }
+            previous = item;
+            names.add(item.getClass().getMethod("name").invoke(item) + "/" + item);
+        }
+        assertThat(names).containsExactly("a/a", "b/b", "c/c");
+    }
+
+    private static MutinyGenerator generator(Env env, Path dir, String entries) throws IOException {
+        Path metadata = dir.resolve("metadata.properties");
+        Files.writeString(metadata, entries);
+        MutinyGenerator generator = new MutinyGenerator(env.root());
+        generator.getMetadata().load(metadata);
+        return generator;
+    }
+
+    private static Object proxy(Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : null);
+    }
+}
@@ -0,0 +1,90 @@
+package io.smallrye.mutiny.vertx.apigenerator.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.palantir.javapoet.MethodSpec;
+
+import io.smallrye.mutiny.vertx.apigenerator.MutinyGenerator;
+import io.smallrye.mutiny.vertx.apigenerator.tests.Env;
+
+public class CancellationHookTest {
+
+    @Test
+    void cancellationAndDiscardHooks(@TempDir Path dir) throws IOException {
+        Env env = new Env()
+                .addJavaCode("org.acme", "Resource", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+                        import io.vertx.core.Future;
+
+                        @VertxGen
+                        public interface Resource {
+                            Future<Void> close();
+                        }
+                        """)
+                .addJavaCode("org.acme", "SubResource", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface SubResource extends Resource {
+                        }
+                        """)
+                .addJavaCode("org.acme", "Request", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+                        import io.vertx.core.Future;
+                        import java.util.List;
+
+                        @VertxGen
+                        public interface Request {
+                            Future<Resource> send();
+                            Future<SubResource> sendSub();
+                            Future<List<Resource>> sendAll();
+                            Future<String> write(String s);
+                            void reset();
+                        }
+                        """);
+        env.addModuleGen("org.acme", "test");
+        Path metadata = dir.resolve("metadata.properties");
+        Files.writeString(metadata, """
+                cancel.org.acme.Request#send,sendSub,sendAll=reset()
+                discard.org.acme.Resource=close()
+                """);
+
+        MutinyGenerator generator = new MutinyGenerator(env.root());
+        generator.getMetadata().load(metadata);
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        assertThat(env.compile()).isNotEmpty();
+
+        List<MethodSpec> specs = Env.getOutputFor(outputs, "org.acme.Request").javaFile().typeSpec().methodSpecs();
+        assertThat(code(specs, "send"))
+                .contains("() -> getDelegate().reset(), __discarded -> __discarded.close())");
+        assertThat(code(specs, "sendSub"))
+                .contains("() -> getDelegate().reset(), __discarded -> __discarded.close())");
+        assertThat(code(specs, "sendAll"))
+                .contains("() -> getDelegate().reset(), null)");
+        assertThat(code(specs, "write"))
+                .contains("return io.smallrye.mutiny.vertx.FutureUni.toUni(_res)")
+                .doesNotContain("reset()");
+
+        specs = Env.getOutputFor(outputs, "org.acme.Resource").javaFile().typeSpec().methodSpecs();
+        assertThat(code(specs, "close")).doesNotContain("__discarded");
+    }
+
+    private static String code(List<MethodSpec> specs, String name) {
+        return specs.stream().filter(m -> m.name().equals(name)).findFirst().orElseThrow().code().toString();
+    }
+}
@@ -2,6 +2,9 @@ package io.smallrye.mutiny.vertx.apigenerator.generation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Stream;
@@ -9,6 +12,7 @@ import java.util.stream.Stream;
 import javax.lang.model.element.Modifier;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.palantir.javapoet.MethodSpec;
 
@@ -1099,4 +1103,62 @@ public class ReadWriteStreamTest {
         assertMethod(method, name, returnType, parameterTypes);
     }
 
+    @Test
+    void testToBatchedMultiEnabledByTheMetadata(@TempDir Path dir) throws IOException {
+        Env env = new Env()
+                .addJavaCode("org.acme", "Refed", """
+                        package org.acme;
+
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface Refed {
+                        }
+                        """)
+                .addJavaCode("org.acme", "MyReadStream.java", """
+                        package org.acme;
+
+                        import io.vertx.core.streams.ReadStream;
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface MyReadStream extends ReadStream<Refed> {
+                        }
+                        """)
+                .addJavaCode("org.acme", "MyOtherStream.java", """
+                        package org.acme;
+
+                        import io.vertx.core.streams.ReadStream;
+                        import io.vertx.codegen.annotations.VertxGen;
+
+                        @VertxGen
+                        public interface MyOtherStream extends ReadStream<String> {
+                        }
+                        """)
+                .addModuleGen("org.acme", "my-module");
+
+        Path metadata = dir.resolve("metadata.properties");
+        Files.writeString(metadata, "batch.org.acme.MyReadStream=true");
+        MutinyGenerator generator = new MutinyGenerator(env.root(), "my-module", Paths.get("target/vertx-core-sources"));
+        generator.getMetadata().load(metadata);
+        env.addOutputs(generator.generate());
+
+        // We cannot compile as the Mutiny Shim for read stream does not exist
+
+        assertThat(env.getOutputFor("org.acme.MyReadStream").javaFile().typeSpec().methodSpecs()).anySatisfy(m -> {
+            assertThat(m.name()).isEqualTo("toBatchedMulti");
+            assertThat(m.modifiers()).doesNotContain(Modifier.SYNCHRONIZED);
+            assertThat(m.returnType().toString())
+                    .isEqualTo(Multi.class.getName() + "<java.util.List<org.acme.mutiny.Refed>>");
+            assertThat(m.parameters()).extracting(p -> p.type().toString() + " " + p.name())
+                    .containsExactly("int maxSize", "java.time.Duration maxDelay");
+            assertThat(m.annotations().get(0).type().toString()).isEqualTo(CheckReturnValue.class.getName());
+            assertThat(m.code().toString())
+                    .contains("Refed::newInstance")
+                    .contains(
+                            "return io.smallrye.mutiny.vertx.MultiHelper.toBatchedMulti(delegate, _conv, maxSize, maxDelay);");
+        });
+        assertThat(env.getOutputFor("org.acme.MyOtherStream").javaFile().typeSpec().methodSpecs())
+                .noneMatch(m -> m.name().equals("toBatchedMulti"));
+    }
 }
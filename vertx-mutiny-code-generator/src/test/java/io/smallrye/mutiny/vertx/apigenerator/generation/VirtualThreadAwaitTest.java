@@ -0,0 +1,74 @@
+package io.smallrye.mutiny.vertx.apigenerator.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.palantir.javapoet.MethodSpec;
+
+import io.smallrye.mutiny.vertx.apigenerator.MutinyGenerator;
+import io.smallrye.mutiny.vertx.apigenerator.tests.Env;
+
+public class VirtualThreadAwaitTest {
+
+    private static final String CODE = """
+            package org.acme;
+
+            import io.vertx.codegen.annotations.VertxGen;
+            import io.vertx.core.Future;
+
+            @VertxGen
+            public interface MyInterface {
+                Future<String> method(String s);
+                Future<Void> close();
+                static Future<MyInterface> create() {
+                    return null;
+                }
+            }
+            """;
+
+    @Test
+    void awaitMethodsUseFutureUniWhenEnabled() {
+        Env env = new Env()
+                .addJavaCode("org.acme", "MyInterface", CODE)
+                .addModuleGen("org.acme", "my-module");
+
+        MutinyGenerator generator = new MutinyGenerator(env.root()).setVirtualThreadAwait(true);
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        env.compile();
+
+        List<MethodSpec> specs = Env.getOutputFor(outputs, "org.acme.MyInterface").javaFile().typeSpec().methodSpecs();
+        assertThat(code(specs, "methodAndAwait"))
+                .contains("return io.smallrye.mutiny.vertx.FutureUni.await(_res)")
+                .doesNotContain("indefinitely");
+        assertThat(code(specs, "closeAndAwait"))
+                .contains("io.smallrye.mutiny.vertx.FutureUni.await(_res)")
+                .doesNotContain("return");
+        assertThat(code(specs, "createAndAwait"))
+                .contains("return io.smallrye.mutiny.vertx.FutureUni.await(_res)");
+    }
+
+    @Test
+    void awaitMethodsUseUniAwaitByDefault() {
+        Env env = new Env()
+                .addJavaCode("org.acme", "MyInterface", CODE)
+                .addModuleGen("org.acme", "my-module");
+
+        MutinyGenerator generator = new MutinyGenerator(env.root());
+        List<MutinyGenerator.GeneratorOutput> outputs = generator.generate();
+        env.addOutputs(outputs);
+        env.compile();
+
+        List<MethodSpec> specs = Env.getOutputFor(outputs, "org.acme.MyInterface").javaFile().typeSpec().methodSpecs();
+        assertThat(code(specs, "methodAndAwait"))
+                .contains("return _res.await().indefinitely()")
+                .doesNotContain("FutureUni.await");
+    }
+
+    private static String code(List<MethodSpec> specs, String name) {
+        return specs.stream().filter(m -> m.name().equals(name)).findFirst().orElseThrow().code().toString();
+    }
+}